@@ -0,0 +1,217 @@
+package com.eaglebank.benchmark;
+
+import com.eaglebank.application.account.AccountNumberAllocator;
+import com.eaglebank.application.account.AccountNumberPermutation;
+import com.eaglebank.config.AccountNumberProperties;
+import com.eaglebank.domain.model.account.Account;
+import com.eaglebank.domain.model.account.AccountNumber;
+import com.eaglebank.domain.model.account.Money;
+import com.eaglebank.domain.model.user.UserId;
+import com.eaglebank.domain.repository.AccountNumberBlockRepository;
+import com.eaglebank.domain.repository.AccountRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+/**
+ * Account openings per second at a given share of the account number space in use.
+ * <p>
+ * {@code randomProbing} reproduces the previous loop: a random number, then a
+ * database round trip to see whether it is taken, until one is free.
+ * {@code allocator} takes numbers from {@link AccountNumberAllocator}, which makes
+ * one round trip per block of numbers. Round trips are simulated by sleeping for
+ * {@code roundTripMicros}; occupancy is held steady by releasing a random taken
+ * number for every one issued.
+ * <p>
+ * Run with {@code ./gradlew jmh -PjmhIncludes=AccountNumberAllocationBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AccountNumberAllocationBenchmark {
+
+    private static final int SIZE = AccountNumberPermutation.SIZE;
+
+    @Param({"0.1", "0.5", "0.9"})
+    public double occupancy;
+
+    @Param({"200"})
+    public long roundTripMicros;
+
+    private final SplittableRandom random = new SplittableRandom(42);
+    private BitSet taken;
+    private AccountNumberAllocator allocator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        taken = new BitSet(SIZE);
+        int target = (int) (SIZE * occupancy);
+        while (taken.cardinality() < target) {
+            taken.set(random.nextInt(SIZE));
+        }
+        allocator = new AccountNumberAllocator(
+                new SimulatedBlockRepository(roundTripMicros),
+                new OccupiedAccountNumbers(taken),
+                new NoOpTransactionManager(),
+                new AccountNumberProperties(100, 42L, Duration.ZERO),
+                new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public AccountNumber randomProbing() {
+        int candidate;
+        do {
+            candidate = random.nextInt(SIZE);
+            roundTrip(roundTripMicros);
+        } while (taken.get(candidate));
+        return open(candidate);
+    }
+
+    @Benchmark
+    public AccountNumber allocator() {
+        return open(allocator.allocate().toInt());
+    }
+
+    private AccountNumber open(int number) {
+        taken.set(number);
+        int released;
+        do {
+            released = random.nextInt(SIZE);
+        } while (!taken.get(released) || released == number);
+        taken.clear(released);
+        return AccountNumber.ofInt(number);
+    }
+
+    private static void roundTrip(long micros) {
+        try {
+            TimeUnit.MICROSECONDS.sleep(micros);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Wraps around at the end of the space so the benchmark can run indefinitely
+     */
+    private static final class SimulatedBlockRepository implements AccountNumberBlockRepository {
+        private final AtomicLong highWaterMark = new AtomicLong();
+        private final long roundTripMicros;
+
+        SimulatedBlockRepository(long roundTripMicros) {
+            this.roundTripMicros = roundTripMicros;
+        }
+
+        @Override
+        public long reserve(int size) {
+            roundTrip(roundTripMicros);
+            return highWaterMark.getAndAdd(size) % SIZE;
+        }
+
+        @Override
+        public long highWaterMark() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Answers only what the allocator asks: whether a number is taken
+     */
+    private static final class OccupiedAccountNumbers implements AccountRepository {
+        private final BitSet taken;
+
+        OccupiedAccountNumbers(BitSet taken) {
+            this.taken = taken;
+        }
+
+        @Override
+        public boolean mightExist(AccountNumber accountNumber) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isKnownAccountNumber(AccountNumber accountNumber) {
+            return taken.get(accountNumber.toInt());
+        }
+
+        @Override
+        public Account save(Account account) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void updateBalance(AccountNumber accountNumber, Money balance) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<Account> findByAccountNumber(AccountNumber accountNumber) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int findBalanceStripes(AccountNumber accountNumber) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<Account> findByOwnerId(UserId ownerId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean existsByAccountNumber(AccountNumber accountNumber) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long countByOwnerId(UserId ownerId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void forEachOwnership(BiConsumer<AccountNumber, UserId> consumer) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void forEachOwnershipCreatedSince(LocalDateTime since, BiConsumer<AccountNumber, UserId> consumer) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void deleteByAccountNumber(AccountNumber accountNumber) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static final class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
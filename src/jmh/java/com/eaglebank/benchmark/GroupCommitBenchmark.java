@@ -0,0 +1,151 @@
+package com.eaglebank.benchmark;
+
+import com.eaglebank.application.transaction.AccountPostingExecutor;
+import com.eaglebank.application.transaction.PostingMode;
+import com.eaglebank.application.transaction.TransactionService;
+import com.eaglebank.application.transaction.TransactionServiceImpl;
+import com.eaglebank.config.PostingProperties;
+import com.eaglebank.domain.model.account.AccountNumber;
+import com.eaglebank.domain.model.account.Money;
+import com.eaglebank.domain.model.transaction.Transaction;
+import com.eaglebank.domain.model.transaction.TransactionId;
+import com.eaglebank.domain.model.transaction.TransactionReference;
+import com.eaglebank.domain.model.transaction.TransactionType;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Postings per second versus commits per second through the serialized posting writer.
+ * <p>
+ * The database is replaced by a transaction manager whose commit sleeps for
+ * {@code commitMicros}, standing in for the log flush that bounds commits per second
+ * on PostgreSQL. JMH reports postings per second; each iteration also prints the
+ * commits per second and the average number of postings sharing a commit.
+ * <p>
+ * Run with {@code ./gradlew jmh -PjmhIncludes=GroupCommitBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(64)
+public class GroupCommitBenchmark {
+
+    private static final int ACCOUNTS = 1_000;
+
+    @Param({"0", "300"})
+    public long lingerMicros;
+
+    @Param({"1000"})
+    public long commitMicros;
+
+    private final LongAdder postings = new LongAdder();
+    private final LongAdder commits = new LongAdder();
+    private String[] accountNumbers;
+    private AccountPostingExecutor executor;
+    private long iterationStart;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        accountNumbers = new String[ACCOUNTS];
+        for (int i = 0; i < ACCOUNTS; i++) {
+            accountNumbers[i] = String.format("01%06d", i);
+        }
+        executor = new AccountPostingExecutor(
+                new InMemoryTransactionService(postings),
+                new SimulatedCommitTransactionManager(commits, commitMicros),
+                new PostingProperties(PostingMode.SERIALIZED, 4, 256, Duration.ofNanos(lingerMicros * 1_000), 4)
+        );
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.close();
+    }
+
+    @Setup(Level.Iteration)
+    public void resetCounters() {
+        postings.reset();
+        commits.reset();
+        iterationStart = System.nanoTime();
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportCommits() {
+        double seconds = (System.nanoTime() - iterationStart) / 1e9;
+        long committed = Math.max(1, commits.sum());
+        System.out.printf("%n  commits/s: %.0f, postings/s: %.0f, postings per commit: %.1f%n",
+                commits.sum() / seconds, postings.sum() / seconds, (double) postings.sum() / committed);
+    }
+
+    @Benchmark
+    public Transaction post() {
+        String accountNumber = accountNumbers[ThreadLocalRandom.current().nextInt(ACCOUNTS)];
+        return executor.post(new TransactionService.CreateTransactionCommand(
+                accountNumber, "usr-benchmark", "DEPOSIT", 1.00, "Benchmark deposit"));
+    }
+
+    /**
+     * Skips persistence entirely: the benchmark measures how postings share commits
+     */
+    private static final class InMemoryTransactionService extends TransactionServiceImpl {
+        private final LongAdder postings;
+
+        InMemoryTransactionService(LongAdder postings) {
+            super(null, null, null, null, null, null, null);
+            this.postings = postings;
+        }
+
+        @Override
+        public Transaction create(CreateTransactionCommand command) {
+            postings.increment();
+            Money amount = Money.gbp(command.amount());
+            return Transaction.create(
+                    TransactionId.generate(),
+                    AccountNumber.of(command.accountNumber()),
+                    TransactionType.DEPOSIT,
+                    amount,
+                    amount,
+                    TransactionReference.of(command.reference()));
+        }
+    }
+
+    private static final class SimulatedCommitTransactionManager extends AbstractPlatformTransactionManager {
+        private final LongAdder commits;
+        private final long commitNanos;
+
+        SimulatedCommitTransactionManager(LongAdder commits, long commitMicros) {
+            this.commits = commits;
+            this.commitNanos = TimeUnit.MICROSECONDS.toNanos(commitMicros);
+        }
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(commitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            commits.increment();
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.eaglebank.benchmark;
+
+import com.eaglebank.infrastructure.security.JwtTokenProvider;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of authenticating a bearer token in {@code JwtAuthenticationFilter}.
+ * <p>
+ * {@code validateThenGetUserId} reproduces the previous filter: two freshly built
+ * parsers, each verifying the signature. {@code singleParse} verifies once with the
+ * shared parser and no cache, {@code cachedVerify} is a repeat request with a token
+ * already in the verified-token cache.
+ * <p>
+ * Run with {@code ./gradlew jmh -PjmhIncludes=JwtVerificationBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-for-eagle-bank-minimum-256-bits-required-for-hs256";
+
+    private SecretKey secretKey;
+    private JwtTokenProvider uncachedProvider;
+    private JwtTokenProvider cachedProvider;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        uncachedProvider = new JwtTokenProvider(SECRET, 3_600_000, 0);
+        cachedProvider = new JwtTokenProvider(SECRET, 3_600_000, 10_000);
+        token = cachedProvider.createToken("usr-benchmark", "benchmark@example.com");
+        cachedProvider.verify(token);
+    }
+
+    @Benchmark
+    public String validateThenGetUserId() {
+        Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token);
+        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().getSubject();
+    }
+
+    @Benchmark
+    public String singleParse() {
+        return uncachedProvider.verify(token).orElseThrow().userId();
+    }
+
+    @Benchmark
+    public String cachedVerify() {
+        return cachedProvider.verify(token).orElseThrow().userId();
+    }
+}
@@ -0,0 +1,125 @@
+package com.eaglebank.benchmark;
+
+import com.eaglebank.config.DatabaseBulkheadProperties;
+import com.eaglebank.infrastructure.persistence.bulkhead.DatabaseBulkhead;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Requests per second on a platform-thread pool versus virtual threads behind the
+ * database bulkhead.
+ * <p>
+ * Each request spends {@code ioMillis} blocked outside the database (reading the
+ * body, downstream calls, writing the response) and {@code dbMillis} holding one of
+ * {@code poolSize} connections. Platform mode runs requests on a pool of
+ * {@code platformThreads}, Tomcat's default; virtual mode gives each request a
+ * virtual thread and routes the service call through {@link DatabaseBulkhead}.
+ * With I/O dominating, the platform pool caps throughput at about
+ * {@code platformThreads / (ioMillis + dbMillis)} while virtual threads reach the
+ * connection pool's {@code poolSize / dbMillis}.
+ * <p>
+ * Run with {@code ./gradlew jmh -PjmhIncludes=RequestExecutionBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(RequestExecutionBenchmark.REQUESTS)
+public class RequestExecutionBenchmark {
+
+    static final int REQUESTS = 2_000;
+
+    @Param({"PLATFORM", "VIRTUAL"})
+    public String threads;
+
+    @Param({"200"})
+    public int platformThreads;
+
+    @Param({"10"})
+    public int poolSize;
+
+    @Param({"50"})
+    public long ioMillis;
+
+    @Param({"1"})
+    public long dbMillis;
+
+    private ExecutorService executor;
+    private SimulatedService service;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SimulatedService target = new SimulatedService(poolSize, dbMillis);
+        if ("VIRTUAL".equals(threads)) {
+            executor = Executors.newVirtualThreadPerTaskExecutor();
+            DatabaseBulkhead bulkhead = new DatabaseBulkhead(poolSize,
+                    new DatabaseBulkheadProperties(poolSize, 1, Duration.ofSeconds(30), Duration.ofSeconds(1)),
+                    new SimpleMeterRegistry());
+            ProxyFactory factory = new ProxyFactory(target);
+            factory.setProxyTargetClass(true);
+            factory.addAdvice(bulkhead);
+            service = (SimulatedService) factory.getProxy();
+        } else {
+            executor = Executors.newFixedThreadPool(platformThreads);
+            service = target;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.close();
+    }
+
+    @Benchmark
+    public int serve() throws Exception {
+        List<Future<Integer>> responses = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            responses.add(executor.submit(this::request));
+        }
+        int served = 0;
+        for (Future<Integer> response : responses) {
+            served += response.get();
+        }
+        return served;
+    }
+
+    private int request() throws InterruptedException {
+        TimeUnit.MILLISECONDS.sleep(ioMillis);
+        return service.query();
+    }
+
+    /**
+     * Stands in for a transactional service: each call holds a pooled connection for
+     * {@code dbMillis}, waiting for one the way Hikari does when the pool is empty
+     */
+    @Transactional(readOnly = true)
+    public static class SimulatedService {
+        private final Semaphore connections;
+        private final long dbMillis;
+
+        SimulatedService(int poolSize, long dbMillis) {
+            this.connections = new Semaphore(poolSize);
+            this.dbMillis = dbMillis;
+        }
+
+        public int query() throws InterruptedException {
+            connections.acquire();
+            try {
+                TimeUnit.MILLISECONDS.sleep(dbMillis);
+                return 1;
+            } finally {
+                connections.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.eaglebank.benchmark;
+
+import com.eaglebank.config.TransactionJsonCacheProperties;
+import com.eaglebank.domain.model.account.AccountNumber;
+import com.eaglebank.domain.model.account.Money;
+import com.eaglebank.domain.model.transaction.Transaction;
+import com.eaglebank.domain.model.transaction.TransactionId;
+import com.eaglebank.domain.model.transaction.TransactionReference;
+import com.eaglebank.domain.model.transaction.TransactionType;
+import com.eaglebank.interfaces.rest.dto.response.ListTransactionsResponse;
+import com.eaglebank.interfaces.rest.json.TransactionJsonCache;
+import com.eaglebank.interfaces.rest.mapper.TransactionRestMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CPU time per listed transaction: building {@code TransactionResponse} DTOs and
+ * serializing the page on every call, versus writing the page from the
+ * {@link TransactionJsonCache}.
+ * <p>
+ * Single-threaded and writing to a discarding stream, so the time reported per
+ * transaction is the CPU a list response spends on it. The cache is warmed first,
+ * as it is for pages that are polled.
+ * <p>
+ * Run with {@code ./gradlew jmh -PjmhIncludes=TransactionJsonBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(TransactionJsonBenchmark.PAGE_SIZE)
+public class TransactionJsonBenchmark {
+
+    static final int PAGE_SIZE = 100;
+    private static final String OWNER_ID = "usr-benchmark";
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final TransactionRestMapper mapper = new TransactionRestMapper();
+    private List<Transaction> page;
+    private TransactionJsonCache cache;
+    private OutputStream out;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        page = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            page.add(Transaction.create(
+                    TransactionId.generate(),
+                    AccountNumber.of("01000001"),
+                    TransactionType.DEPOSIT,
+                    Money.gbp(12.34),
+                    Money.gbp(1_000 + i),
+                    TransactionReference.of("Benchmark deposit " + i)));
+        }
+        cache = new TransactionJsonCache(new TransactionJsonCacheProperties(DataSize.ofMegabytes(16)),
+                mapper, objectMapper, new SimpleMeterRegistry());
+        out = new CountingOutputStream();
+        cache.page(page, "next-cursor", OWNER_ID).writeTo(OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void serializeEveryCall() throws IOException {
+        ListTransactionsResponse response = new ListTransactionsResponse(
+                page.stream().map(transaction -> mapper.toResponse(transaction, OWNER_ID)).toList(),
+                "next-cursor");
+        objectMapper.writeValue(out, response);
+    }
+
+    @Benchmark
+    public void writeCachedJson() throws IOException {
+        cache.page(page, "next-cursor", OWNER_ID).writeTo(out);
+    }
+
+    /**
+     * Counts what is written, so nothing written can be optimized away
+     */
+    private static final class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.eaglebank.benchmark;
+
+import com.eaglebank.domain.model.account.Account;
+import com.eaglebank.domain.model.account.AccountNumber;
+import com.eaglebank.domain.model.account.AccountType;
+import com.eaglebank.domain.model.account.Money;
+import com.eaglebank.domain.model.account.SortCode;
+import com.eaglebank.domain.model.transaction.Transaction;
+import com.eaglebank.domain.model.transaction.TransactionId;
+import com.eaglebank.domain.model.transaction.TransactionReference;
+import com.eaglebank.domain.model.transaction.TransactionType;
+import com.eaglebank.domain.model.user.UserId;
+import com.eaglebank.interfaces.rest.dto.response.ListBankAccountsResponse;
+import com.eaglebank.interfaces.rest.dto.response.ListTransactionsResponse;
+import com.eaglebank.interfaces.rest.mapper.AccountRestMapper;
+import com.eaglebank.interfaces.rest.mapper.TransactionRestMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization time and payload size of list responses as JSON, CBOR and Smile.
+ * <p>
+ * Each mapper is built the way the application builds its message converters, and
+ * serializes the same DTO records. The payload size of each combination is printed
+ * once per trial next to the timings.
+ * <p>
+ * Run with {@code ./gradlew jmh -PjmhIncludes=WireFormatBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WireFormatBenchmark {
+
+    private static final String OWNER_ID = "usr-benchmark";
+
+    @Param({"JSON", "CBOR", "SMILE"})
+    public String format;
+
+    @Param({"100"})
+    public int transactions;
+
+    @Param({"20"})
+    public int accounts;
+
+    private ObjectMapper objectMapper;
+    private ListTransactionsResponse transactionPage;
+    private ListBankAccountsResponse accountList;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        objectMapper = switch (format) {
+            case "CBOR" -> Jackson2ObjectMapperBuilder.cbor().build();
+            case "SMILE" -> Jackson2ObjectMapperBuilder.smile().build();
+            default -> Jackson2ObjectMapperBuilder.json().build();
+        };
+
+        TransactionRestMapper transactionMapper = new TransactionRestMapper();
+        List<Transaction> page = new ArrayList<>(transactions);
+        for (int i = 0; i < transactions; i++) {
+            page.add(Transaction.create(
+                    TransactionId.generate(),
+                    AccountNumber.of("01000001"),
+                    TransactionType.DEPOSIT,
+                    Money.gbp(12.34),
+                    Money.gbp(1_000 + i),
+                    TransactionReference.of("Benchmark deposit " + i)));
+        }
+        transactionPage = new ListTransactionsResponse(
+                page.stream().map(transaction -> transactionMapper.toResponse(transaction, OWNER_ID)).toList(),
+                "next-cursor");
+
+        AccountRestMapper accountMapper = new AccountRestMapper();
+        List<Account> owned = new ArrayList<>(accounts);
+        for (int i = 0; i < accounts; i++) {
+            owned.add(Account.create(
+                    AccountNumber.of("01%06d".formatted(i + 1)),
+                    SortCode.defaultSortCode(),
+                    UserId.of(OWNER_ID),
+                    "Benchmark account " + i,
+                    AccountType.PERSONAL));
+        }
+        accountList = new ListBankAccountsResponse(owned.stream().map(accountMapper::toResponse).toList());
+
+        System.out.printf("%n%s payload: ListTransactionsResponse(%d) %d bytes, ListBankAccountsResponse(%d) %d bytes%n",
+                format,
+                transactions, objectMapper.writeValueAsBytes(transactionPage).length,
+                accounts, objectMapper.writeValueAsBytes(accountList).length);
+    }
+
+    @Benchmark
+    public byte[] listTransactions() throws IOException {
+        return objectMapper.writeValueAsBytes(transactionPage);
+    }
+
+    @Benchmark
+    public byte[] listAccounts() throws IOException {
+        return objectMapper.writeValueAsBytes(accountList);
+    }
+}
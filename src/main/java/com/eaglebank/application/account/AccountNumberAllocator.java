@@ -0,0 +1,224 @@
+package com.eaglebank.application.account;
+
+import com.eaglebank.config.AccountNumberProperties;
+import com.eaglebank.domain.exception.AccountGenericException;
+import com.eaglebank.domain.model.account.AccountNumber;
+import com.eaglebank.domain.repository.AccountNumberBlockRepository;
+import com.eaglebank.domain.repository.AccountRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Issues unused account numbers without probing the database.
+ * <p>
+ * Numbers are positions of a sequence run through a keyed
+ * {@link AccountNumberPermutation}, so they are unique yet look random. Each
+ * instance reserves blocks of positions from the persisted high-water mark in a
+ * transaction of their own, and hands them out from memory; instances never
+ * share a block, so they never issue the same number.
+ * <p>
+ * The first block is reserved in the background on startup, and the next one as
+ * soon as the current one is started, so account opening seldom waits for a
+ * reservation. Callers must not hold a connection while allocating: waiting for a
+ * reservation under the allocator's lock while holding one could leave the pool
+ * without a connection for the reservation. Positions left in a block at shutdown
+ * are not reused.
+ * <p>
+ * A block's numbers are issued only once the settle time has passed since it was
+ * reserved, and a background thread re-reads the high-water mark more often than
+ * that. So until the settle time has passed since the last read, no instance can
+ * have issued a number whose position is at or past that mark, and
+ * {@link #isUnissued} can say so without a round trip. This holds only while every
+ * instance runs with the same permutation key; the key should change with all of
+ * them stopped.
+ * <p>
+ * Numbers issued before the allocator existed, or under another key, are skipped
+ * using {@link AccountRepository#isKnownAccountNumber}, which needs no round trip
+ * and leaves the existence metrics to request lookups.
+ * <p>
+ * Publishes {@code eaglebank.account-number.horizon.refresh.failures}.
+ */
+@Slf4j
+@Component
+public class AccountNumberAllocator implements AutoCloseable {
+
+    private final AccountNumberBlockRepository blockRepository;
+    private final AccountRepository accountRepository;
+    private final TransactionTemplate reservation;
+    private final AccountNumberPermutation permutation;
+    private final int blockSize;
+    private final Duration settle;
+    private final Counter horizonFailures;
+    private final Executor reserver = task -> Thread.ofVirtual().name("account-number-reserver").start(task);
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Thread horizonReader;
+
+    private int position;
+    private int limit;
+    private CompletableFuture<Block> nextBlock;
+    private volatile Horizon horizon = new Horizon(0, System.nanoTime());
+    private volatile boolean closed;
+
+    public AccountNumberAllocator(AccountNumberBlockRepository blockRepository,
+                                  AccountRepository accountRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  AccountNumberProperties properties,
+                                  MeterRegistry meterRegistry) {
+        if (properties.blockSize() < 1) {
+            throw new IllegalArgumentException("Account number block size must be positive");
+        }
+        if (properties.settle().isNegative()) {
+            throw new IllegalArgumentException("Account number settle time must not be negative");
+        }
+        this.blockRepository = blockRepository;
+        this.accountRepository = accountRepository;
+        this.reservation = new TransactionTemplate(transactionManager);
+        this.reservation.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.permutation = new AccountNumberPermutation(properties.permutationKey());
+        this.blockSize = properties.blockSize();
+        this.settle = properties.settle();
+        this.horizonFailures = meterRegistry.counter("eaglebank.account-number.horizon.refresh.failures");
+        this.nextBlock = CompletableFuture.supplyAsync(this::reserve, reserver);
+        this.horizonReader = settle.isZero()
+                ? null
+                : Thread.ofVirtual().name("account-number-horizon-reader").start(this::horizonLoop);
+    }
+
+    /**
+     * The next unused account number
+     *
+     * @throws AccountGenericException if every account number has been issued
+     */
+    public AccountNumber allocate() {
+        lock.lock();
+        try {
+            while (true) {
+                if (position == limit) {
+                    startBlock(takeNextBlock());
+                }
+                AccountNumber candidate = AccountNumber.ofInt(permutation.apply(position++));
+                if (!accountRepository.isKnownAccountNumber(candidate)) {
+                    return candidate;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * True when no instance can have issued the account number yet, answered from
+     * memory. False means it may have been issued, not that it was.
+     */
+    public boolean isUnissued(AccountNumber accountNumber) {
+        Horizon current = horizon;
+        return System.nanoTime() - current.trustedUntil() < 0
+                && permutation.invert(accountNumber.toInt()) >= current.position();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        if (horizonReader != null) {
+            horizonReader.interrupt();
+        }
+    }
+
+    private void startBlock(Block block) {
+        awaitSettled(block);
+        position = block.start();
+        limit = Math.min(block.start() + blockSize, AccountNumberPermutation.SIZE);
+        nextBlock = CompletableFuture.supplyAsync(this::reserve, reserver);
+    }
+
+    private static void awaitSettled(Block block) {
+        long remaining = block.settledAt() - System.nanoTime();
+        if (remaining <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(Duration.ofNanos(remaining));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AccountGenericException("Interrupted while waiting for account numbers");
+        }
+    }
+
+    /**
+     * Takes the block reserved in the background, or reserves one now if there is
+     * none yet or its reservation failed
+     */
+    private Block takeNextBlock() {
+        CompletableFuture<Block> pending = nextBlock;
+        nextBlock = null;
+        if (pending != null) {
+            try {
+                return pending.join();
+            } catch (CompletionException e) {
+                // Fall through and try again in the foreground
+            }
+        }
+        return reserve();
+    }
+
+    private Block reserve() {
+        long start;
+        try {
+            start = reservation.execute(status -> blockRepository.reserve(blockSize));
+        } catch (DataIntegrityViolationException e) {
+            // Another instance created the sequence row first; advance it instead
+            start = reservation.execute(status -> blockRepository.reserve(blockSize));
+        }
+        if (start >= AccountNumberPermutation.SIZE) {
+            throw new AccountGenericException("No account numbers left to allocate");
+        }
+        // Timed from after the commit, so the wait covers every read that missed it
+        return new Block((int) start, System.nanoTime() + settle.toNanos());
+    }
+
+    private void horizonLoop() {
+        Duration interval = settle.dividedBy(2);
+        while (!closed) {
+            try {
+                // Timed from before the read: the mark read is at least that recent
+                long readAt = System.nanoTime();
+                horizon = new Horizon(blockRepository.highWaterMark(), readAt + settle.toNanos());
+            } catch (RuntimeException e) {
+                // The current horizon runs out and unknown numbers are checked against the database
+                horizonFailures.increment();
+                log.warn("Reading the account number high-water mark failed", e);
+            }
+
+            try {
+                Thread.sleep(interval);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * @param settledAt {@link System#nanoTime()} from which its numbers may be issued
+     */
+    private record Block(int start, long settledAt) {
+    }
+
+    /**
+     * @param position     high-water mark as read
+     * @param trustedUntil {@link System#nanoTime()} until which no instance issues a number at or past it
+     */
+    private record Horizon(long position, long trustedUntil) {
+    }
+}
@@ -0,0 +1,84 @@
+package com.eaglebank.application.account;
+
+/**
+ * Keyed permutation of {@code [0, 1_000_000)}, mapping sequence positions to the
+ * six digits of an account number.
+ * <p>
+ * A four-round Feistel network shuffles 20-bit values; positions that land past
+ * the end of the range are fed through again (cycle walking) until they land
+ * inside it, which keeps the mapping a bijection on the range. Consecutive
+ * positions therefore give distinct numbers that do not look consecutive, and
+ * without the key the next number cannot be guessed from the last. Running the
+ * rounds backwards gives the position a number was issued from.
+ */
+public final class AccountNumberPermutation {
+
+    public static final int SIZE = 1_000_000;
+
+    private static final int HALF_BITS = 10;
+    private static final int HALF_MASK = (1 << HALF_BITS) - 1;
+    private static final int ROUNDS = 4;
+
+    private final long[] roundKeys = new long[ROUNDS];
+
+    public AccountNumberPermutation(long key) {
+        long state = key;
+        for (int i = 0; i < ROUNDS; i++) {
+            state += 0x9E3779B97F4A7C15L;
+            roundKeys[i] = mix(state);
+        }
+    }
+
+    public int apply(int position) {
+        if (position < 0 || position >= SIZE) {
+            throw new IllegalArgumentException("Position must be between 0 and " + (SIZE - 1));
+        }
+        int value = position;
+        do {
+            value = shuffle(value);
+        } while (value >= SIZE);
+        return value;
+    }
+
+    public int invert(int value) {
+        if (value < 0 || value >= SIZE) {
+            throw new IllegalArgumentException("Value must be between 0 and " + (SIZE - 1));
+        }
+        int position = value;
+        do {
+            position = unshuffle(position);
+        } while (position >= SIZE);
+        return position;
+    }
+
+    private int shuffle(int value) {
+        int left = value >>> HALF_BITS;
+        int right = value & HALF_MASK;
+        for (long roundKey : roundKeys) {
+            int next = left ^ (int) (mix(right ^ roundKey) & HALF_MASK);
+            left = right;
+            right = next;
+        }
+        return (left << HALF_BITS) | right;
+    }
+
+    private int unshuffle(int value) {
+        int left = value >>> HALF_BITS;
+        int right = value & HALF_MASK;
+        for (int i = ROUNDS - 1; i >= 0; i--) {
+            int previous = right ^ (int) (mix(left ^ roundKeys[i]) & HALF_MASK);
+            right = left;
+            left = previous;
+        }
+        return (left << HALF_BITS) | right;
+    }
+
+    /**
+     * SplitMix64 finalizer
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,242 @@
+package com.eaglebank.application.account;
+
+import com.eaglebank.config.AccountExistenceProperties;
+import com.eaglebank.domain.model.account.AccountNumber;
+import com.eaglebank.domain.model.user.UserId;
+import com.eaglebank.domain.repository.AccountRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * In-memory index of who owns which account, so authorization checks need not
+ * load the account.
+ * <p>
+ * Owner ids are interned to int handles once, so the index holds no strings per
+ * account: account numbers are {@code 01} plus six digits, so the owner handle of
+ * every possible account fits in one slot of an {@code int} array per number
+ * ({@link AccountNumber#toInt()}), and each owner's accounts are a primitive
+ * {@code int[]}.
+ * <p>
+ * The index confirms ownership as well as refuting it, although it can trail the
+ * database. An account deleted on another instance is still confirmed to its
+ * former owner until the next rebuild, which only lets that owner reach what is
+ * left of their own account. A stale entry could only mislead if the number were
+ * issued again meanwhile, and the {@link AccountNumberAllocator} never issues a
+ * sequence position twice: just a number from before it, or from another
+ * permutation key, can come back after a delete, and the next refresh then indexes
+ * the new owner. An account the index has not seen is neither confirmed nor
+ * refuted, and the caller loads it.
+ * <p>
+ * The index is loaded on startup and follows creates and deletes on this instance
+ * once they commit. A background thread keeps it current like
+ * {@code KnownAccountNumbers}: every refresh interval it picks up accounts created
+ * by other instances, and every rebuild interval it starts over to drop the ones
+ * they deleted.
+ * <p>
+ * Publishes {@code eaglebank.account.ownership.refresh.failures}.
+ */
+@Slf4j
+@Component
+public class AccountOwnershipIndex implements AutoCloseable {
+
+    private static final int CAPACITY = 1_000_000;
+    private static final int NO_OWNER = 0;
+    private static final int[] NONE = new int[0];
+
+    private final AccountRepository accountRepository;
+    private final AccountExistenceProperties properties;
+    private final Counter refreshFailures;
+    private final Thread refresher;
+    private final ConcurrentHashMap<String, Integer> handles = new ConcurrentHashMap<>();
+    private final AtomicInteger lastHandle = new AtomicInteger(NO_OWNER);
+
+    private volatile Ownerships ownerships;
+    private volatile Ownerships rebuilding;
+    private volatile boolean closed;
+
+    public AccountOwnershipIndex(AccountRepository accountRepository,
+                                 AccountExistenceProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this.accountRepository = accountRepository;
+        this.properties = properties;
+        this.refreshFailures = meterRegistry.counter("eaglebank.account.ownership.refresh.failures");
+
+        rebuild();
+        this.refresher = Thread.ofVirtual().name("account-ownership-refresher").start(this::refreshLoop);
+    }
+
+    /**
+     * True only when the index knows the account and it belongs to the user
+     */
+    public boolean confirmsOwner(AccountNumber accountNumber, UserId userId) {
+        int owner = ownerships.ownerOf(accountNumber.toInt());
+        return owner != NO_OWNER && owner == handleOf(userId);
+    }
+
+    /**
+     * True only when the index knows the account and it belongs to someone else
+     */
+    public boolean refutesOwner(AccountNumber accountNumber, UserId userId) {
+        int owner = ownerships.ownerOf(accountNumber.toInt());
+        return owner != NO_OWNER && owner != handleOf(userId);
+    }
+
+    /**
+     * The user's known accounts, as {@link AccountNumber#toInt()} values
+     */
+    public int[] accountNumbersOf(UserId userId) {
+        int handle = handleOf(userId);
+        return handle == NO_OWNER ? NONE : ownerships.accountsOf(handle).clone();
+    }
+
+    /**
+     * Indexes a new account once the creating transaction commits
+     */
+    public void addAfterCommit(AccountNumber accountNumber, UserId ownerId) {
+        afterCommit(() -> put(accountNumber.toInt(), intern(ownerId.getValue())));
+    }
+
+    /**
+     * Forgets an account once the deleting transaction commits
+     */
+    public void removeAfterCommit(AccountNumber accountNumber) {
+        afterCommit(() -> put(accountNumber.toInt(), NO_OWNER));
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        refresher.interrupt();
+    }
+
+    private int handleOf(UserId userId) {
+        Integer handle = handles.get(userId.getValue());
+        return handle == null ? NO_OWNER : handle;
+    }
+
+    /**
+     * Handles are never released, so an owner keeps the same one across rebuilds
+     */
+    private int intern(String ownerId) {
+        return handles.computeIfAbsent(ownerId, ignored -> lastHandle.incrementAndGet());
+    }
+
+    private void rebuild() {
+        Ownerships next = new Ownerships();
+        // Published before reading, so commits made meanwhile are applied to it too
+        rebuilding = next;
+        try {
+            accountRepository.forEachOwnership((accountNumber, ownerId) ->
+                    next.put(accountNumber.toInt(), intern(ownerId.getValue())));
+            ownerships = next;
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    private void refreshLoop() {
+        LocalDateTime lastRefresh = LocalDateTime.now();
+        long nextRebuild = System.nanoTime() + properties.rebuildInterval().toNanos();
+
+        while (!closed) {
+            try {
+                Thread.sleep(properties.refreshInterval());
+            } catch (InterruptedException e) {
+                return;
+            }
+
+            try {
+                LocalDateTime now = LocalDateTime.now();
+                if (System.nanoTime() - nextRebuild >= 0) {
+                    rebuild();
+                    nextRebuild = System.nanoTime() + properties.rebuildInterval().toNanos();
+                } else {
+                    accountRepository.forEachOwnershipCreatedSince(lastRefresh.minus(properties.refreshOverlap()),
+                            (accountNumber, ownerId) -> put(accountNumber.toInt(), intern(ownerId.getValue())));
+                }
+                lastRefresh = now;
+            } catch (RuntimeException e) {
+                // Keep the current index and try again on the next tick
+                refreshFailures.increment();
+                log.warn("Refreshing the account ownership index failed", e);
+            }
+        }
+    }
+
+    /**
+     * Reads {@code rebuilding} before {@code ownerships}: if no rebuild was seen,
+     * the rebuilt index has already been swapped in, or the next rebuild has not
+     * started reading yet
+     */
+    private void put(int digits, int owner) {
+        Ownerships next = rebuilding;
+        if (next != null) {
+            next.put(digits, owner);
+        }
+        ownerships.put(digits, owner);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * Both directions of the index. Reads take no lock; writes are serialized so
+     * an account moves between owners' arrays together with its slot.
+     */
+    private static final class Ownerships {
+
+        private final AtomicIntegerArray owners = new AtomicIntegerArray(CAPACITY);
+        private final ConcurrentHashMap<Integer, int[]> accountsByOwner = new ConcurrentHashMap<>();
+
+        int ownerOf(int digits) {
+            return owners.get(digits);
+        }
+
+        int[] accountsOf(int owner) {
+            return accountsByOwner.getOrDefault(owner, NONE);
+        }
+
+        /**
+         * Arrays are copied on write, so readers never see one change under them
+         */
+        synchronized void put(int digits, int owner) {
+            int previous = owners.getAndSet(digits, owner);
+            if (previous == owner) {
+                return;
+            }
+            if (previous != NO_OWNER) {
+                accountsByOwner.computeIfPresent(previous, (ignored, numbers) -> {
+                    int[] remaining = Arrays.stream(numbers).filter(number -> number != digits).toArray();
+                    return remaining.length == 0 ? null : remaining;
+                });
+            }
+            if (owner != NO_OWNER) {
+                accountsByOwner.merge(owner, new int[]{digits}, (numbers, added) -> {
+                    int[] grown = Arrays.copyOf(numbers, numbers.length + 1);
+                    grown[numbers.length] = digits;
+                    return grown;
+                });
+            }
+        }
+    }
+}
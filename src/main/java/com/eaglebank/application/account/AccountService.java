@@ -54,6 +54,16 @@ public interface AccountService {
      */
     Account get(String accountNumber, String requestingUserId);
 
+    /**
+     * Rejects an account number that has not been issued yet, without a database
+     * round trip. Passing does not mean the account exists.
+     *
+     * @param accountNumber the account number to check
+     * @throws com.eaglebank.domain.exception.AccountNotFoundException if the account certainly does not exist
+     * @throws IllegalArgumentException                                if the account number is malformed
+     */
+    void requireKnown(String accountNumber);
+
     /**
      * Lists all accounts owned by the given user.
      *
@@ -73,6 +83,20 @@ public interface AccountService {
      */
     Account update(UpdateAccountCommand command);
 
+    /**
+     * Spreads an account's balance over several sub-balances so that a high rate of
+     * deposits does not serialize on one row. Operator action; not exposed over the API.
+     *
+     * <p>Does nothing if the account is already striped.</p>
+     *
+     * @param accountNumber the account number to stripe
+     * @param stripes       the number of sub-balances; at least 2
+     * @return the striped {@link Account}
+     * @throws com.eaglebank.domain.exception.AccountNotFoundException if the account does not exist
+     * @throws com.eaglebank.domain.exception.AccountGenericException  if the account is closed or stripes is below 2
+     */
+    Account stripeBalance(String accountNumber, int stripes);
+
     /**
      * Command for creating an account.
      *
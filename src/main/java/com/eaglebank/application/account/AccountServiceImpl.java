@@ -10,13 +10,17 @@ import com.eaglebank.domain.model.account.AccountType;
 import com.eaglebank.domain.model.account.SortCode;
 import com.eaglebank.domain.model.user.UserId;
 import com.eaglebank.domain.repository.AccountRepository;
+import com.eaglebank.domain.repository.BalanceStripeRepository;
 import com.eaglebank.domain.repository.UserRepository;
 import com.eaglebank.domain.service.AccountDomainService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 
 @Service
@@ -28,8 +32,18 @@ public class AccountServiceImpl implements
     private final AccountRepository accountRepository;
     private final UserRepository userRepository;
     private final AccountDomainService accountDomainService;
-
+    private final BalanceStripeRepository balanceStripeRepository;
+    private final AccountOwnershipIndex ownershipIndex;
+    private final AccountNumberAllocator accountNumberAllocator;
+
+    /**
+     * Runs outside a transaction so no database connection is held while an account
+     * number is allocated, which may wait for a block reservation that needs one of
+     * its own; the user check and the insert each use a connection only for their
+     * statements
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Account create(CreateAccountCommand command) {
         // Verify user exists
         UserId ownerId = UserId.of(command.userId());
@@ -45,11 +59,7 @@ public class AccountServiceImpl implements
             throw new IllegalArgumentException("Invalid account type: " + command.accountType());
         }
 
-        // Generate unique account number
-        AccountNumber accountNumber;
-        do {
-            accountNumber = AccountNumber.generate();
-        } while (accountRepository.existsByAccountNumber(accountNumber));
+        AccountNumber accountNumber = accountNumberAllocator.allocate();
 
         // Create account
         Account account = Account.create(
@@ -60,9 +70,35 @@ public class AccountServiceImpl implements
                 accountType
         );
 
-        return accountRepository.save(account);
+        Account saved = accountRepository.save(account);
+        ownershipIndex.addAfterCommit(accountNumber, ownerId);
+        return saved;
     }
 
+    /**
+     * Runs outside a transaction so no database connection is taken.
+     * <p>
+     * A number missing from the known account numbers may still have been created
+     * on another instance since their last refresh, so it is refused only if it has
+     * not been issued yet. Otherwise it passes, and the handler's own lookup, which
+     * waits for the database bulkhead, answers whether it exists.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void requireKnown(String accountNumber) {
+        AccountNumber accNum = AccountNumber.of(accountNumber);
+        if (!accountRepository.mightExist(accNum) && accountNumberAllocator.isUnissued(accNum)) {
+            throw new AccountNotFoundException(accNum);
+        }
+    }
+
+    /**
+     * Reads the user's accounts one by one through the account cache when the
+     * ownership index knows all of them. The index may lack an account created or
+     * deleted on another instance since its last refresh, so it is trusted only if
+     * the user's account count matches and every account it names is still theirs;
+     * otherwise the accounts are queried by owner.
+     */
     @Override
     @Transactional(readOnly = true)
     public List<Account> list(String userId) {
@@ -73,13 +109,27 @@ public class AccountServiceImpl implements
             throw new UserNotFoundException(ownerId);
         }
 
-        return accountRepository.findByOwnerId(ownerId);
+        int[] indexed = ownershipIndex.accountNumbersOf(ownerId);
+        if (indexed.length == 0 || accountRepository.countByOwnerId(ownerId) != indexed.length) {
+            return accountRepository.findByOwnerId(ownerId);
+        }
+        List<Account> accounts = new ArrayList<>(indexed.length);
+        for (int digits : indexed) {
+            Optional<Account> account = accountRepository.findByAccountNumber(AccountNumber.ofInt(digits));
+            if (account.isEmpty() || !account.get().isOwnedBy(ownerId)) {
+                return accountRepository.findByOwnerId(ownerId);
+            }
+            accounts.add(account.get());
+        }
+        return accounts;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Account get(String number, String requestingUserId) {
         AccountNumber accountNumber = AccountNumber.of(number);
         UserId userId = UserId.of(requestingUserId);
+        rejectKnownNonOwner(accountNumber, userId);
 
         Account account = accountRepository.findByAccountNumber(accountNumber)
                 .orElseThrow(() -> new AccountNotFoundException(accountNumber));
@@ -95,6 +145,7 @@ public class AccountServiceImpl implements
     public Account update(UpdateAccountCommand command) {
         AccountNumber accountNumber = AccountNumber.of(command.accountNumber());
         UserId userId = UserId.of(command.requestingUserId());
+        rejectKnownNonOwner(accountNumber, userId);
 
         Account account = accountRepository.findByAccountNumber(accountNumber)
                 .orElseThrow(() -> new AccountNotFoundException(accountNumber));
@@ -106,6 +157,26 @@ public class AccountServiceImpl implements
 
         // Update account name
         account.updateAccountName(command.accountName());
+        accountRepository.save(account);
+
+        return account;
+    }
+
+    @Override
+    public Account stripeBalance(String number, int stripes) {
+        AccountNumber accountNumber = AccountNumber.of(number);
+
+        Account account = accountRepository.findByAccountNumber(accountNumber)
+                .orElseThrow(() -> new AccountNotFoundException(accountNumber));
+
+        if (account.isStriped()) {
+            return account;
+        }
+
+        // Versioned save: a posting that raced this read makes it fail and retry
+        account.stripeBalance(stripes);
+        accountRepository.save(account);
+        balanceStripeRepository.create(accountNumber, stripes, account.getBalance());
 
         return account;
     }
@@ -114,6 +185,7 @@ public class AccountServiceImpl implements
     public void delete(String accountNumber, String requestingUserId) {
         AccountNumber accNum = AccountNumber.of(accountNumber);
         UserId userId = UserId.of(requestingUserId);
+        rejectKnownNonOwner(accNum, userId);
 
         Account account = accountRepository.findByAccountNumber(accNum)
                 .orElseThrow(() -> new AccountNotFoundException(accNum));
@@ -133,6 +205,16 @@ public class AccountServiceImpl implements
         // Close and delete account
         account.close();
         accountRepository.deleteByAccountNumber(accNum);
+        ownershipIndex.removeAfterCommit(accNum);
+    }
+
+    /**
+     * Answers a 403 from the ownership index without loading the account
+     */
+    private void rejectKnownNonOwner(AccountNumber accountNumber, UserId userId) {
+        if (ownershipIndex.refutesOwner(accountNumber, userId)) {
+            throw new UnauthorizedAccessException(userId, accountNumber);
+        }
     }
 
 
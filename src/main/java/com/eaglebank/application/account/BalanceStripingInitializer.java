@@ -0,0 +1,34 @@
+package com.eaglebank.application.account;
+
+import com.eaglebank.config.StripingProperties;
+import com.eaglebank.domain.exception.AccountNotFoundException;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stripes the balances of the hot accounts listed in {@code eaglebank.striping.accounts}
+ * on startup. Accounts already striped are left as they are.
+ */
+@Component
+public class BalanceStripingInitializer implements ApplicationRunner {
+
+    private final AccountService accountService;
+    private final StripingProperties properties;
+
+    public BalanceStripingInitializer(AccountService accountService, StripingProperties properties) {
+        this.accountService = accountService;
+        this.properties = properties;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        for (String accountNumber : properties.accounts()) {
+            try {
+                accountService.stripeBalance(accountNumber, properties.stripes());
+            } catch (AccountNotFoundException e) {
+                // Listed ahead of being opened; picked up on the next start
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.eaglebank.application.account;
+
+import com.eaglebank.application.retry.OptimisticLockRetry;
+import com.eaglebank.domain.model.account.Account;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Retries account updates that lost an optimistic-lock race, e.g. a rename
+ * racing a posting to the same account.
+ * <p>
+ * Sits outside the transactional {@link AccountServiceImpl}, so every attempt
+ * re-reads the account and re-checks ownership in a fresh transaction.
+ */
+@Service
+@Primary
+public class RetryingAccountService implements AccountService {
+
+    private final AccountServiceImpl delegate;
+    private final OptimisticLockRetry retry;
+
+    public RetryingAccountService(AccountServiceImpl delegate, OptimisticLockRetry retry) {
+        this.delegate = delegate;
+        this.retry = retry;
+    }
+
+    @Override
+    public Account create(CreateAccountCommand command) {
+        return delegate.create(command);
+    }
+
+    @Override
+    public void delete(String accountNumber, String requestingUserId) {
+        delegate.delete(accountNumber, requestingUserId);
+    }
+
+    @Override
+    public Account get(String accountNumber, String requestingUserId) {
+        return delegate.get(accountNumber, requestingUserId);
+    }
+
+    @Override
+    public List<Account> list(String userId) {
+        return delegate.list(userId);
+    }
+
+    @Override
+    public void requireKnown(String accountNumber) {
+        delegate.requireKnown(accountNumber);
+    }
+
+    @Override
+    public Account update(UpdateAccountCommand command) {
+        return retry.execute("account.update", () -> delegate.update(command));
+    }
+
+    @Override
+    public Account stripeBalance(String accountNumber, int stripes) {
+        return retry.execute("account.stripe", () -> delegate.stripeBalance(accountNumber, stripes));
+    }
+}
@@ -0,0 +1,11 @@
+package com.eaglebank.application.exception;
+
+/**
+ * Exception thrown when a presented token is unknown, expired, revoked or already used
+ */
+public class InvalidTokenException extends RuntimeException {
+
+    public InvalidTokenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,48 @@
+package com.eaglebank.application.overview;
+
+import com.eaglebank.domain.model.account.Account;
+import com.eaglebank.domain.model.transaction.Transaction;
+import com.eaglebank.domain.model.user.User;
+
+import java.util.List;
+
+/**
+ * Application service that assembles a user's home-screen overview in one call:
+ * the profile, every account, and the latest transactions on each account.
+ *
+ * @since 1.0.0
+ */
+public interface OverviewService {
+
+    /**
+     * Builds the overview for the requesting user.
+     *
+     * @param requestingUserId       the authenticated user; the overview only ever covers their own data
+     * @param transactionsPerAccount latest transactions to include per account, or {@code null} for the default
+     * @return the {@link Overview}
+     * @throws com.eaglebank.domain.exception.UserNotFoundException        if the user does not exist
+     * @throws com.eaglebank.application.exception.ServiceOverloadedException if the overview cannot be assembled before the deadline
+     * @throws IllegalArgumentException                                     if {@code transactionsPerAccount} is not positive
+     */
+    Overview get(String requestingUserId, Integer transactionsPerAccount);
+
+    /**
+     * @param user     the requesting user's profile
+     * @param accounts the user's accounts, each with its latest transactions
+     */
+    record Overview(
+            User user,
+            List<AccountOverview> accounts
+    ) {
+    }
+
+    /**
+     * @param account            the account
+     * @param recentTransactions its latest transactions, newest first
+     */
+    record AccountOverview(
+            Account account,
+            List<Transaction> recentTransactions
+    ) {
+    }
+}
@@ -0,0 +1,105 @@
+package com.eaglebank.application.overview;
+
+import com.eaglebank.application.account.AccountService;
+import com.eaglebank.application.exception.ServiceOverloadedException;
+import com.eaglebank.application.transaction.TransactionService;
+import com.eaglebank.application.user.UserService;
+import com.eaglebank.config.OverviewProperties;
+import com.eaglebank.domain.model.account.Account;
+import com.eaglebank.domain.model.transaction.Transaction;
+import com.eaglebank.domain.model.user.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Fans the overview's reads out onto virtual threads: the profile and the account
+ * list first, then one read per account for its latest transactions.
+ * <p>
+ * The forks live in an executor scoped to the call, so none of them outlives it.
+ * All of them share one deadline; when it passes, or when any fork fails, the
+ * remaining forks are interrupted and the call fails as a whole.
+ * <p>
+ * Deliberately not {@code @Transactional}: each fork runs its own short read on
+ * its own connection, and the caller holds none while it waits. The forks do not
+ * see the caller's thread-local state, so the user id is handed to each of them.
+ */
+@Service
+@RequiredArgsConstructor
+public class OverviewServiceImpl implements OverviewService {
+
+    private static final ThreadFactory FORKS = Thread.ofVirtual().name("overview-fork").factory();
+
+    private final UserService userService;
+    private final AccountService accountService;
+    private final TransactionService transactionService;
+    private final OverviewProperties properties;
+
+    @Override
+    public Overview get(String requestingUserId, Integer transactionsPerAccount) {
+        int limit = transactionsPerAccount != null ? transactionsPerAccount : properties.transactionsPerAccount();
+        if (limit < 1) {
+            throw new IllegalArgumentException("Transactions per account must be positive");
+        }
+        long deadline = System.nanoTime() + properties.deadline().toNanos();
+
+        try (ExecutorService scope = Executors.newThreadPerTaskExecutor(FORKS)) {
+            Future<User> user = scope.submit(() -> userService.get(requestingUserId, requestingUserId));
+            Future<List<Account>> accounts = scope.submit(() -> accountService.list(requestingUserId));
+
+            List<Future<AccountOverview>> forks = new ArrayList<>();
+            for (Account account : join(scope, accounts, deadline)) {
+                forks.add(scope.submit(() ->
+                        new AccountOverview(account, latestTransactions(account, requestingUserId, limit))));
+            }
+
+            List<AccountOverview> overviews = new ArrayList<>(forks.size());
+            for (Future<AccountOverview> fork : forks) {
+                overviews.add(join(scope, fork, deadline));
+            }
+            return new Overview(join(scope, user, deadline), overviews);
+        }
+    }
+
+    private List<Transaction> latestTransactions(Account account, String requestingUserId, int limit) {
+        var query = new TransactionService.ListTransactionsQuery(
+                account.getAccountNumber().getValue(),
+                requestingUserId,
+                null,
+                limit
+        );
+        return transactionService.list(query).transactions();
+    }
+
+    /**
+     * Waits for the fork until the shared deadline; on any failure the rest of the scope is cancelled
+     */
+    private <T> T join(ExecutorService scope, Future<T> fork, long deadline) {
+        try {
+            return fork.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            scope.shutdownNow();
+            throw new ServiceOverloadedException(
+                    "The overview could not be assembled in time. Please retry shortly.", properties.retryAfter());
+        } catch (ExecutionException e) {
+            scope.shutdownNow();
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Overview read failed", e.getCause());
+        } catch (InterruptedException e) {
+            scope.shutdownNow();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while assembling the overview", e);
+        }
+    }
+}
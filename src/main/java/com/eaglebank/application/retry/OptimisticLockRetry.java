@@ -0,0 +1,72 @@
+package com.eaglebank.application.retry;
+
+import com.eaglebank.config.RetryProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.OptimisticLockException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Re-runs a use case that lost an optimistic-lock race.
+ * <p>
+ * Each attempt must be a complete transaction of its own, so the account is
+ * re-read and every domain check runs again against the committed state.
+ * Attempts are separated by full-jitter exponential backoff: a random delay
+ * between zero and {@code min(maxBackoff, initialBackoff * 2^retry)}, which
+ * spreads out callers that collided at the same instant.
+ * <p>
+ * Publishes {@code eaglebank.optimistic.lock.retries} for every retry and
+ * {@code eaglebank.optimistic.lock.exhausted} when the last attempt also fails,
+ * both tagged with the operation name.
+ */
+@Component
+public class OptimisticLockRetry {
+
+    private final RetryProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public OptimisticLockRetry(RetryProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> T execute(String operation, Supplier<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return action.get();
+            } catch (OptimisticLockingFailureException | OptimisticLockException e) {
+                if (attempt >= properties.maxAttempts()) {
+                    counter("eaglebank.optimistic.lock.exhausted", operation).increment();
+                    throw e;
+                }
+                counter("eaglebank.optimistic.lock.retries", operation).increment();
+                backOff(attempt);
+            }
+        }
+    }
+
+    private void backOff(int attempt) {
+        long initial = properties.initialBackoff().toNanos();
+        long cap = properties.maxBackoff().toNanos();
+        long bound = initial << Math.min(attempt - 1, 20);
+        long ceiling = bound <= 0 ? cap : Math.min(cap, bound);
+        if (ceiling <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while backing off from an optimistic lock conflict", e);
+        }
+    }
+
+    private Counter counter(String name, String operation) {
+        return meterRegistry.counter(name, "operation", operation);
+    }
+}
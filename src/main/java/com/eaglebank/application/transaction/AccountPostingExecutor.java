@@ -0,0 +1,211 @@
+package com.eaglebank.application.transaction;
+
+import com.eaglebank.config.PostingProperties;
+import com.eaglebank.domain.model.account.AccountNumber;
+import com.eaglebank.domain.model.transaction.Transaction;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-writer executor for postings in {@link PostingMode#SERIALIZED} mode.
+ * <p>
+ * Accounts are hashed onto a fixed number of shards, each drained by one virtual
+ * thread, so two postings to the same account never run concurrently in this JVM
+ * and never race each other on the account version.
+ * <p>
+ * A writer takes everything waiting on its shard, lingers briefly for more, and
+ * applies the batch in one database transaction (group commit): each account is read
+ * once and updated once, the transaction rows go out as one JDBC batch, and the whole
+ * batch shares a single commit and log flush. Callers are released only after that
+ * commit.
+ * <p>
+ * A posting rejected by the domain (e.g. insufficient funds) fails on its own
+ * without changing state, so the rest of its batch still commits. Any other failure
+ * dooms the shared transaction: it is rolled back, that posting fails with its own
+ * exception, and the batch is replayed without it. A failed commit fails the whole
+ * batch with the commit's exception.
+ * <p>
+ * At most {@code eaglebank.posting.connections} writers apply a batch at once, so
+ * the writers hold no more connections than the database bulkhead reserves for them.
+ * <p>
+ * On shutdown every posting still queued, or queued while the writers stop, fails
+ * instead of waiting for a commit that will never come.
+ * <p>
+ * Only created in {@link PostingMode#SERIALIZED} mode, so the writers do not run otherwise.
+ */
+@Component
+@ConditionalOnProperty(prefix = "eaglebank.posting", name = "mode", havingValue = "serialized")
+public class AccountPostingExecutor implements AutoCloseable {
+
+    private final TransactionServiceImpl transactionService;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxBatchSize;
+    private final long lingerNanos;
+    private final List<BlockingQueue<PendingPosting>> shards;
+    private final List<Thread> writers;
+    private final Semaphore connections;
+    private volatile boolean closed;
+
+    public AccountPostingExecutor(TransactionServiceImpl transactionService,
+                                  PlatformTransactionManager transactionManager,
+                                  PostingProperties properties) {
+        this.transactionService = transactionService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxBatchSize = properties.maxBatchSize();
+        this.lingerNanos = properties.linger().toNanos();
+        this.shards = new ArrayList<>(properties.shards());
+        this.writers = new ArrayList<>(properties.shards());
+        this.connections = new Semaphore(properties.connections(), true);
+
+        for (int i = 0; i < properties.shards(); i++) {
+            BlockingQueue<PendingPosting> queue = new LinkedBlockingQueue<>();
+            shards.add(queue);
+            writers.add(Thread.ofVirtual()
+                    .name("posting-writer-" + i)
+                    .start(() -> drain(queue)));
+        }
+    }
+
+    /**
+     * Queues the posting on its account's writer and waits for the shared commit.
+     */
+    public Transaction post(TransactionService.CreateTransactionCommand command) {
+        AccountNumber accountNumber = AccountNumber.of(command.accountNumber());
+        PendingPosting posting = new PendingPosting(command, new CompletableFuture<>());
+
+        if (closed) {
+            throw new IllegalStateException("Posting executor is shut down");
+        }
+        BlockingQueue<PendingPosting> queue = shards.get(Math.floorMod(accountNumber.hashCode(), shards.size()));
+        queue.add(posting);
+        // Shut down meanwhile: the writer may already have drained its queue for the
+        // last time, so take the posting back unless the writer got to it first
+        if (closed && queue.remove(posting)) {
+            throw new IllegalStateException("Posting executor is shut down");
+        }
+
+        try {
+            return posting.result().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        writers.forEach(Thread::interrupt);
+    }
+
+    private void drain(BlockingQueue<PendingPosting> queue) {
+        List<PendingPosting> batch = new ArrayList<>(maxBatchSize);
+        while (!closed) {
+            try {
+                batch.add(queue.take());
+                collect(queue, batch);
+                connections.acquire();
+            } catch (InterruptedException e) {
+                failAll(batch);
+                break;
+            }
+
+            try {
+                apply(batch);
+            } finally {
+                connections.release();
+            }
+            batch.clear();
+        }
+
+        queue.drainTo(batch);
+        failAll(batch);
+    }
+
+    /**
+     * Tops the batch up with whatever arrives within the linger window, until it is full
+     */
+    private void collect(BlockingQueue<PendingPosting> queue, List<PendingPosting> batch)
+            throws InterruptedException {
+        queue.drainTo(batch, maxBatchSize - batch.size());
+        long deadline = System.nanoTime() + lingerNanos;
+        while (batch.size() < maxBatchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            PendingPosting next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+            queue.drainTo(batch, maxBatchSize - batch.size());
+        }
+    }
+
+    private static void failAll(List<PendingPosting> batch) {
+        batch.forEach(posting -> posting.result()
+                .completeExceptionally(new IllegalStateException("Posting executor is shut down")));
+    }
+
+    private void apply(List<PendingPosting> batch) {
+        List<PendingPosting> pending = new ArrayList<>(batch);
+        while (!pending.isEmpty()) {
+            List<Runnable> completions = new ArrayList<>(pending.size());
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    for (PendingPosting posting : pending) {
+                        try {
+                            Transaction transaction = transactionService.create(posting.command());
+                            completions.add(() -> posting.result().complete(transaction));
+                        } catch (RuntimeException e) {
+                            if (status.isRollbackOnly()) {
+                                throw new DoomedBatchException(posting, e);
+                            }
+                            completions.add(() -> posting.result().completeExceptionally(e));
+                        }
+                    }
+                });
+            } catch (DoomedBatchException e) {
+                // Rolled back: fail the posting that doomed it and replay the others
+                e.posting.result().completeExceptionally(e.getCause());
+                pending.remove(e.posting);
+                continue;
+            } catch (RuntimeException e) {
+                pending.forEach(posting -> posting.result().completeExceptionally(e));
+                return;
+            }
+            completions.forEach(Runnable::run);
+            return;
+        }
+    }
+
+    private record PendingPosting(TransactionService.CreateTransactionCommand command,
+                                  CompletableFuture<Transaction> result) {
+    }
+
+    /**
+     * Rolls the batch transaction back after a posting marked it rollback-only
+     */
+    private static final class DoomedBatchException extends RuntimeException {
+        private final transient PendingPosting posting;
+
+        DoomedBatchException(PendingPosting posting, RuntimeException cause) {
+            super(cause);
+            this.posting = posting;
+        }
+    }
+}
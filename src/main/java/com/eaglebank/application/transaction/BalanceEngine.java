@@ -0,0 +1,176 @@
+package com.eaglebank.application.transaction;
+
+import com.eaglebank.config.JournalProperties;
+import com.eaglebank.domain.model.account.Account;
+import com.eaglebank.domain.model.account.AccountNumber;
+import com.eaglebank.domain.model.account.Money;
+import com.eaglebank.domain.model.transaction.Transaction;
+import com.eaglebank.domain.model.transaction.TransactionReference;
+import com.eaglebank.domain.model.transaction.TransactionType;
+import com.eaglebank.domain.repository.BalanceSnapshotStore;
+import com.eaglebank.domain.repository.PostingJournal;
+import com.eaglebank.domain.service.TransactionDomainService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Applies postings to in-memory balances in {@link PostingMode#JOURNALED} mode.
+ * <p>
+ * A posting runs the usual {@link Account} and {@link TransactionDomainService} rules
+ * against the in-memory balance under its account's lock, is appended to the
+ * {@link PostingJournal}, and is acknowledged once the journal has flushed it. Only
+ * then is the new balance shown to readers, and the {@link BalanceProjector} only
+ * writes a posting to the database once it is durable. A posting the journal fails
+ * to flush is never shown or projected; the journal then refuses further postings
+ * and a restart recovers from what reached the disk.
+ * <p>
+ * On startup the balances are rebuilt from the latest snapshot plus the journal
+ * entries after it, and those entries are projected again in case the database
+ * missed them. Every {@code eaglebank.journal.snapshot-every} postings a snapshot is
+ * taken and the journal segments it covers are deleted.
+ */
+@Component
+@ConditionalOnProperty(prefix = "eaglebank.posting", name = "mode", havingValue = "journaled")
+public class BalanceEngine {
+
+    private static final int LOCK_STRIPES = 256;
+
+    private final InMemoryBalances balances;
+    private final PostingJournal journal;
+    private final BalanceSnapshotStore snapshotStore;
+    private final BalanceProjector projector;
+    private final TransactionDomainService transactionDomainService;
+    private final long snapshotEvery;
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+    private final AtomicLong postingsSinceSnapshot = new AtomicLong();
+    private final AtomicBoolean snapshotRunning = new AtomicBoolean();
+
+    public BalanceEngine(InMemoryBalances balances,
+                         PostingJournal journal,
+                         BalanceSnapshotStore snapshotStore,
+                         BalanceProjector projector,
+                         TransactionDomainService transactionDomainService,
+                         JournalProperties properties) {
+        this.balances = balances;
+        this.journal = journal;
+        this.snapshotStore = snapshotStore;
+        this.projector = projector;
+        this.transactionDomainService = transactionDomainService;
+        this.snapshotEvery = properties.snapshotEvery();
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        recover();
+    }
+
+    /**
+     * Posts to the account and returns once the posting is durable.
+     * The account's stored balance is only used the first time it is posted to.
+     */
+    public Transaction post(Account account, TransactionType type, Money amount, TransactionReference reference) {
+        AccountNumber accountNumber = account.getAccountNumber();
+        ReentrantLock lock = lockFor(accountNumber);
+
+        PostingJournal.Entry entry;
+        lock.lock();
+        try {
+            account.setBalance(balances.appended(accountNumber).orElse(account.getBalance()));
+
+            Transaction transaction;
+            if (type == TransactionType.DEPOSIT) {
+                transaction = transactionDomainService.createDepositTransaction(account, amount, reference);
+                account.deposit(amount);
+            } else {
+                transaction = transactionDomainService.createWithdrawalTransaction(account, amount, reference);
+                account.withdraw(amount);
+            }
+
+            entry = journal.append(transaction);
+            balances.append(accountNumber, account.getBalance());
+            // Submitted under the lock so the projector sees each account's postings in order;
+            // it waits for them to be durable before writing them
+            projector.submit(entry);
+        } finally {
+            lock.unlock();
+        }
+
+        journal.awaitDurable(entry.sequence());
+        balances.makeDurable(accountNumber, entry.transaction().getBalanceAfter(), entry.sequence());
+        if (postingsSinceSnapshot.incrementAndGet() >= snapshotEvery) {
+            snapshotInBackground();
+        }
+        return entry.transaction();
+    }
+
+    private void recover() {
+        long after = snapshotStore.load()
+                .map(snapshot -> {
+                    snapshot.balances().forEach((accountNumber, balance) ->
+                            balances.restore(accountNumber, balance, snapshot.sequence()));
+                    return snapshot.sequence();
+                })
+                .orElse(0L);
+
+        List<PostingJournal.Entry> replayed = new ArrayList<>();
+        journal.replay(after, entry -> {
+            balances.restore(entry.transaction().getAccountNumber(), entry.transaction().getBalanceAfter(),
+                    entry.sequence());
+            replayed.add(entry);
+        });
+        projector.reproject(replayed);
+    }
+
+    private void snapshotInBackground() {
+        if (!snapshotRunning.compareAndSet(false, true)) {
+            return;
+        }
+        postingsSinceSnapshot.set(0);
+        Thread.ofVirtual().name("balance-snapshot").start(() -> {
+            try {
+                snapshot();
+            } finally {
+                snapshotRunning.set(false);
+            }
+        });
+    }
+
+    /**
+     * Takes a consistent cut of the balances, waits for the journal to flush and the
+     * projector to store every posting in it, then saves the snapshot and drops the
+     * journal it covers
+     */
+    private void snapshot() {
+        long sequence;
+        Map<AccountNumber, Money> cut;
+        CompletableFuture<Void> projected;
+        for (ReentrantLock lock : locks) {
+            lock.lock();
+        }
+        try {
+            sequence = journal.lastSequence();
+            cut = balances.copy();
+            projected = projector.barrier();
+        } finally {
+            for (ReentrantLock lock : locks) {
+                lock.unlock();
+            }
+        }
+
+        journal.awaitDurable(sequence);
+        projected.join();
+        snapshotStore.save(new BalanceSnapshotStore.Snapshot(sequence, cut));
+        journal.truncate(sequence);
+    }
+
+    private ReentrantLock lockFor(AccountNumber accountNumber) {
+        return locks[Math.floorMod(accountNumber.hashCode(), LOCK_STRIPES)];
+    }
+}
@@ -0,0 +1,167 @@
+package com.eaglebank.application.transaction;
+
+import com.eaglebank.domain.model.account.AccountNumber;
+import com.eaglebank.domain.model.account.Money;
+import com.eaglebank.domain.model.transaction.Transaction;
+import com.eaglebank.domain.repository.AccountRepository;
+import com.eaglebank.domain.repository.PostingJournal;
+import com.eaglebank.domain.repository.TransactionRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes journaled postings to the database tables in the background.
+ * <p>
+ * Entries are projected in the order they were submitted, in batches: the
+ * transaction rows are inserted and each account's stored balance is set to its
+ * latest balance after. A batch is only projected once the journal has flushed it,
+ * so the database never holds a posting that recovery would not replay. A batch that
+ * fails to store is retried until it succeeds, since the journal entry has already
+ * been acknowledged. If the journal fails instead, projection stops; what did reach
+ * the journal is projected again on restart. Projection is idempotent, so entries
+ * replayed after a restart can be projected again.
+ */
+@Component
+@ConditionalOnProperty(prefix = "eaglebank.posting", name = "mode", havingValue = "journaled")
+public class BalanceProjector implements AutoCloseable {
+
+    private static final int MAX_BATCH_SIZE = 500;
+    private static final long RETRY_DELAY_MILLIS = 1_000;
+
+    private final PostingJournal journal;
+    private final TransactionRepository transactionRepository;
+    private final AccountRepository accountRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<Item> queue = new LinkedBlockingQueue<>();
+    private final Thread worker;
+    private volatile boolean closed;
+
+    public BalanceProjector(PostingJournal journal,
+                            TransactionRepository transactionRepository,
+                            AccountRepository accountRepository,
+                            PlatformTransactionManager transactionManager) {
+        this.journal = journal;
+        this.transactionRepository = transactionRepository;
+        this.accountRepository = accountRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.worker = Thread.ofVirtual().name("balance-projector").start(this::drain);
+    }
+
+    /**
+     * Queues an appended entry; it is projected once durable, never before
+     */
+    void submit(PostingJournal.Entry entry) {
+        queue.add(new Item(entry, null));
+    }
+
+    /**
+     * Completes once everything submitted before this call has been projected
+     */
+    CompletableFuture<Void> barrier() {
+        CompletableFuture<Void> barrier = new CompletableFuture<>();
+        queue.add(new Item(null, barrier));
+        return barrier;
+    }
+
+    /**
+     * Projects entries replayed from the journal, skipping those already stored
+     */
+    void reproject(List<PostingJournal.Entry> entries) {
+        for (int from = 0; from < entries.size(); from += MAX_BATCH_SIZE) {
+            project(entries.subList(from, Math.min(entries.size(), from + MAX_BATCH_SIZE)), true);
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        queue.add(new Item(null, null));
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drain() {
+        List<Item> items = new ArrayList<>(MAX_BATCH_SIZE);
+        while (true) {
+            try {
+                items.add(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            queue.drainTo(items, MAX_BATCH_SIZE - 1);
+
+            List<PostingJournal.Entry> entries = new ArrayList<>(items.size());
+            for (Item item : items) {
+                if (item.entry() != null) {
+                    entries.add(item.entry());
+                }
+            }
+            if (!entries.isEmpty()) {
+                try {
+                    journal.awaitDurable(entries.getLast().sequence());
+                } catch (IllegalStateException e) {
+                    // Not durable and never will be in this run: must not reach the database
+                    return;
+                }
+                projectUntilStored(entries);
+            }
+            items.stream().map(Item::barrier).filter(Objects::nonNull).forEach(b -> b.complete(null));
+            items.clear();
+
+            if (closed && queue.isEmpty()) {
+                return;
+            }
+        }
+    }
+
+    private void projectUntilStored(List<PostingJournal.Entry> entries) {
+        boolean retrying = false;
+        while (true) {
+            try {
+                project(entries, retrying);
+                return;
+            } catch (RuntimeException e) {
+                // The database is behind, not lost: keep the batch and try again
+                retrying = true;
+                try {
+                    Thread.sleep(RETRY_DELAY_MILLIS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void project(List<PostingJournal.Entry> entries, boolean skipStored) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<AccountNumber, Money> latestBalances = new LinkedHashMap<>();
+            for (PostingJournal.Entry entry : entries) {
+                Transaction transaction = entry.transaction();
+                if (!skipStored || !transactionRepository.existsById(transaction.getId())) {
+                    transactionRepository.save(transaction);
+                }
+                latestBalances.put(transaction.getAccountNumber(), transaction.getBalanceAfter());
+            }
+            latestBalances.forEach(accountRepository::updateBalance);
+        });
+    }
+
+    private record Item(PostingJournal.Entry entry, CompletableFuture<Void> barrier) {
+    }
+}
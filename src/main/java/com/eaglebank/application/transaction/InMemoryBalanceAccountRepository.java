@@ -0,0 +1,102 @@
+package com.eaglebank.application.transaction;
+
+import com.eaglebank.domain.model.account.Account;
+import com.eaglebank.domain.model.account.AccountNumber;
+import com.eaglebank.domain.model.account.Money;
+import com.eaglebank.domain.model.user.UserId;
+import com.eaglebank.domain.repository.AccountRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+/**
+ * Serves accounts with their in-memory balance in {@link PostingMode#JOURNALED} mode,
+ * since the stored balance trails it until the projector catches up.
+ */
+@Primary
+@Component
+@ConditionalOnProperty(prefix = "eaglebank.posting", name = "mode", havingValue = "journaled")
+public class InMemoryBalanceAccountRepository implements AccountRepository {
+
+    private final AccountRepository delegate;
+    private final InMemoryBalances balances;
+
+    public InMemoryBalanceAccountRepository(@Qualifier("accountRepositoryAdapter") AccountRepository delegate,
+                                            InMemoryBalances balances) {
+        this.delegate = delegate;
+        this.balances = balances;
+    }
+
+    @Override
+    public Account save(Account account) {
+        return delegate.save(account);
+    }
+
+    @Override
+    public void updateBalance(AccountNumber accountNumber, Money balance) {
+        delegate.updateBalance(accountNumber, balance);
+    }
+
+    @Override
+    public Optional<Account> findByAccountNumber(AccountNumber accountNumber) {
+        return delegate.findByAccountNumber(accountNumber).map(this::withCurrentBalance);
+    }
+
+    @Override
+    public int findBalanceStripes(AccountNumber accountNumber) {
+        return delegate.findBalanceStripes(accountNumber);
+    }
+
+    @Override
+    public List<Account> findByOwnerId(UserId ownerId) {
+        return delegate.findByOwnerId(ownerId).stream().map(this::withCurrentBalance).toList();
+    }
+
+    @Override
+    public boolean existsByAccountNumber(AccountNumber accountNumber) {
+        return delegate.existsByAccountNumber(accountNumber);
+    }
+
+    @Override
+    public long countByOwnerId(UserId ownerId) {
+        return delegate.countByOwnerId(ownerId);
+    }
+
+    @Override
+    public boolean mightExist(AccountNumber accountNumber) {
+        return delegate.mightExist(accountNumber);
+    }
+
+    @Override
+    public boolean isKnownAccountNumber(AccountNumber accountNumber) {
+        return delegate.isKnownAccountNumber(accountNumber);
+    }
+
+    @Override
+    public void forEachOwnership(BiConsumer<AccountNumber, UserId> consumer) {
+        delegate.forEachOwnership(consumer);
+    }
+
+    @Override
+    public void forEachOwnershipCreatedSince(LocalDateTime since, BiConsumer<AccountNumber, UserId> consumer) {
+        delegate.forEachOwnershipCreatedSince(since, consumer);
+    }
+
+    @Override
+    public void deleteByAccountNumber(AccountNumber accountNumber) {
+        delegate.deleteByAccountNumber(accountNumber);
+        // Only zero-balance accounts are deleted; a reused number starts from its stored balance
+        balances.remove(accountNumber);
+    }
+
+    private Account withCurrentBalance(Account account) {
+        balances.get(account.getAccountNumber()).ifPresent(account::setBalance);
+        return account;
+    }
+}
@@ -0,0 +1,79 @@
+package com.eaglebank.application.transaction;
+
+import com.eaglebank.domain.model.account.AccountNumber;
+import com.eaglebank.domain.model.account.Money;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Balances held in memory as the source of truth in {@link PostingMode#JOURNALED} mode.
+ * <p>
+ * Only accounts that have been posted to through the {@link BalanceEngine} are held;
+ * every other account's stored balance is still current.
+ * <p>
+ * Two views are kept. The appended balance includes postings still waiting for the
+ * journal to flush, and is what the next posting to the account is checked against.
+ * The durable balance only includes flushed postings, and is what readers see.
+ */
+@Component
+@ConditionalOnProperty(prefix = "eaglebank.posting", name = "mode", havingValue = "journaled")
+public class InMemoryBalances {
+
+    private final Map<AccountNumber, Money> appended = new ConcurrentHashMap<>();
+    private final Map<AccountNumber, Durable> durable = new ConcurrentHashMap<>();
+
+    /**
+     * The balance as of the last durable posting to the account
+     */
+    public Optional<Money> get(AccountNumber accountNumber) {
+        return Optional.ofNullable(durable.get(accountNumber)).map(Durable::balance);
+    }
+
+    /**
+     * The balance including postings not yet durable; read under the account's lock
+     */
+    Optional<Money> appended(AccountNumber accountNumber) {
+        return Optional.ofNullable(appended.get(accountNumber));
+    }
+
+    void append(AccountNumber accountNumber, Money balance) {
+        appended.put(accountNumber, balance);
+    }
+
+    /**
+     * Publishes the balance after a posting once it is durable. Postings to one account
+     * can become durable together and be published out of order, so an older sequence
+     * never replaces a newer one.
+     */
+    void makeDurable(AccountNumber accountNumber, Money balance, long sequence) {
+        durable.merge(accountNumber, new Durable(balance, sequence),
+                (current, candidate) -> candidate.sequence() > current.sequence() ? candidate : current);
+    }
+
+    /**
+     * Sets both views from the snapshot or journal during recovery
+     */
+    void restore(AccountNumber accountNumber, Money balance, long sequence) {
+        appended.put(accountNumber, balance);
+        durable.put(accountNumber, new Durable(balance, sequence));
+    }
+
+    void remove(AccountNumber accountNumber) {
+        appended.remove(accountNumber);
+        durable.remove(accountNumber);
+    }
+
+    /**
+     * The appended balances; consistent only while every account lock is held
+     */
+    Map<AccountNumber, Money> copy() {
+        return Map.copyOf(appended);
+    }
+
+    private record Durable(Money balance, long sequence) {
+    }
+}
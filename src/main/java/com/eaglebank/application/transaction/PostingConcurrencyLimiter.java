@@ -0,0 +1,122 @@
+package com.eaglebank.application.transaction;
+
+import com.eaglebank.application.exception.ServiceOverloadedException;
+import com.eaglebank.config.PostingLimitProperties;
+import com.eaglebank.domain.exception.DomainException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Adaptive limit on concurrent postings, so that under overload excess postings
+ * are shed straight away instead of queueing for a database connection until the
+ * pool times out.
+ * <p>
+ * The limit follows a latency gradient: a slow-moving average of posting latency
+ * stands for the latency without queueing, a fast-moving one for the latency
+ * now. Their ratio (at most 1, at least 0.5) scales the limit down as queueing
+ * builds up, and a headroom of {@code sqrt(limit)} lets it grow while latency
+ * holds steady. The limit only grows while at least half of it is in use, so a
+ * quiet period does not inflate it. A posting that fails for a reason other than
+ * a domain rule (e.g. no connection could be had) backs the limit off
+ * multiplicatively.
+ * <p>
+ * Publishes the {@code eaglebank.posting.limit} and {@code eaglebank.posting.inflight}
+ * gauges and {@code eaglebank.posting.rejected}.
+ */
+@Component
+public class PostingConcurrencyLimiter {
+
+    private static final double SHORT_WINDOW_WEIGHT = 2.0 / (10 + 1);
+    private static final double LONG_WINDOW_WEIGHT = 2.0 / (600 + 1);
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final Duration retryAfter;
+    private final Counter rejected;
+
+    private volatile double limit;
+    private double shortRtt;
+    private double longRtt;
+
+    public PostingConcurrencyLimiter(PostingLimitProperties properties, MeterRegistry meterRegistry) {
+        this.limit = properties.initialLimit();
+        this.minLimit = properties.minLimit();
+        this.maxLimit = properties.maxLimit();
+        this.smoothing = properties.smoothing();
+        this.retryAfter = properties.retryAfter();
+        this.rejected = meterRegistry.counter("eaglebank.posting.rejected");
+        meterRegistry.gauge("eaglebank.posting.limit", this, PostingConcurrencyLimiter::limit);
+        meterRegistry.gauge("eaglebank.posting.inflight", inFlight);
+    }
+
+    /**
+     * Runs the posting if the limit allows, or throws {@link ServiceOverloadedException}
+     */
+    public <T> T execute(Supplier<T> posting) {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= (int) limit) {
+                rejected.increment();
+                throw new ServiceOverloadedException("Too many postings in progress. Please retry later.", retryAfter);
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+
+        long start = System.nanoTime();
+        try {
+            T result = posting.get();
+            onSample(System.nanoTime() - start, current + 1);
+            return result;
+        } catch (DomainException | IllegalArgumentException e) {
+            // Rejected by a business rule: still a fair measure of latency
+            onSample(System.nanoTime() - start, current + 1);
+            throw e;
+        } catch (RuntimeException e) {
+            onDropped();
+            throw e;
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    public double limit() {
+        return limit;
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightAtStart) {
+        if (longRtt == 0) {
+            shortRtt = rttNanos;
+            longRtt = rttNanos;
+            return;
+        }
+        shortRtt += (rttNanos - shortRtt) * SHORT_WINDOW_WEIGHT;
+        longRtt += (rttNanos - longRtt) * LONG_WINDOW_WEIGHT;
+        // Latency is back to normal after a spell of overload: let the baseline catch up
+        if (longRtt > shortRtt * 2) {
+            longRtt *= 0.95;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, longRtt / shortRtt));
+        double estimate = limit * gradient + Math.sqrt(limit);
+        if (inFlightAtStart < limit / 2) {
+            estimate = Math.min(estimate, limit);
+        }
+        update(limit * (1 - smoothing) + estimate * smoothing);
+    }
+
+    private synchronized void onDropped() {
+        update(limit * BACKOFF_RATIO);
+    }
+
+    private void update(double next) {
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+}
@@ -0,0 +1,34 @@
+package com.eaglebank.application.transaction;
+
+/**
+ * How {@link TransactionService#create} applies a posting to the account balance.
+ */
+public enum PostingMode {
+
+    /**
+     * Read the account, change the balance in memory and save it under the entity version.
+     * Concurrent postings to one account conflict on the version.
+     */
+    OPTIMISTIC,
+
+    /**
+     * Change the balance in the database with one conditional statement that also inserts
+     * the transaction. Concurrent postings to one account queue on the row lock instead of
+     * conflicting. Requires PostgreSQL.
+     */
+    ATOMIC,
+
+    /**
+     * Queue postings on a single writer per account shard inside this instance. Postings
+     * waiting on a shard are group-committed in one database transaction: one update per
+     * account plus a batch of transaction inserts.
+     */
+    SERIALIZED,
+
+    /**
+     * Keep balances in memory as the source of truth. A posting is acknowledged once it is
+     * durable in a local append-only journal; the database tables are updated asynchronously.
+     * Single instance only.
+     */
+    JOURNALED
+}
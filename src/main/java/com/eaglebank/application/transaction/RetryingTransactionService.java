@@ -0,0 +1,66 @@
+package com.eaglebank.application.transaction;
+
+import com.eaglebank.application.retry.OptimisticLockRetry;
+import com.eaglebank.config.PostingProperties;
+import com.eaglebank.domain.model.transaction.Transaction;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+/**
+ * Retries postings that lost an optimistic-lock race on the account.
+ * <p>
+ * Sits outside the transactional {@link TransactionServiceImpl}, so every
+ * attempt re-reads the account and re-validates in a fresh transaction.
+ * In {@link PostingMode#SERIALIZED} mode postings are handed to the
+ * {@link AccountPostingExecutor} instead, without holding a connection while queued.
+ * In {@link PostingMode#JOURNALED} mode they are posted outside a database transaction,
+ * except for striped accounts.
+ * <p>
+ * Postings, retries included, run under the {@link PostingConcurrencyLimiter}.
+ */
+@Service
+@Primary
+public class RetryingTransactionService implements TransactionService {
+
+    private final TransactionServiceImpl delegate;
+    private final ObjectProvider<AccountPostingExecutor> postingExecutor;
+    private final PostingProperties postingProperties;
+    private final OptimisticLockRetry retry;
+    private final PostingConcurrencyLimiter limiter;
+
+    public RetryingTransactionService(TransactionServiceImpl delegate,
+                                      ObjectProvider<AccountPostingExecutor> postingExecutor,
+                                      PostingProperties postingProperties,
+                                      OptimisticLockRetry retry,
+                                      PostingConcurrencyLimiter limiter) {
+        this.delegate = delegate;
+        this.postingExecutor = postingExecutor;
+        this.postingProperties = postingProperties;
+        this.retry = retry;
+        this.limiter = limiter;
+    }
+
+    @Override
+    public Transaction create(CreateTransactionCommand command) {
+        if (postingProperties.mode() == PostingMode.SERIALIZED) {
+            // Another instance may still move the version; retry those conflicts the same way
+            return limiter.execute(() -> retry.execute("transaction.create", () -> postingExecutor.getObject().post(command)));
+        }
+        if (postingProperties.mode() == PostingMode.JOURNALED) {
+            return limiter.execute(() -> delegate.createJournaled(command)
+                    .orElseGet(() -> retry.execute("transaction.create", () -> delegate.create(command))));
+        }
+        return limiter.execute(() -> retry.execute("transaction.create", () -> delegate.create(command)));
+    }
+
+    @Override
+    public Transaction get(String accountNumber, String transactionId, String requestingUserId) {
+        return delegate.get(accountNumber, transactionId, requestingUserId);
+    }
+
+    @Override
+    public TransactionPage list(ListTransactionsQuery query) {
+        return delegate.list(query);
+    }
+}
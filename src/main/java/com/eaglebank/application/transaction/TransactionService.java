@@ -11,7 +11,7 @@ import java.util.List;
  * <ul>
  *   <li>Creating a new transaction (deposit or withdrawal) for an account</li>
  *   <li>Fetching a single transaction by id</li>
- *   <li>Listing all transactions for an account</li>
+ *   <li>Listing an account's transactions page by page</li>
  * </ul>
  * Note: Implementations are expected to validate account ownership for the provided
  * <code>requestingUserId</code> and to translate/propagate domain errors as runtime exceptions.
@@ -47,15 +47,17 @@ public interface TransactionService {
     Transaction get(String accountNumber, String transactionId, String requestingUserId);
 
     /**
-     * Lists all transactions for the given account, after validating the requesting user owns the account.
+     * Lists one page of transactions for the given account, newest first, after validating the
+     * requesting user owns the account. Pages are keyed by (createdAt, id), so each page costs
+     * a single index range scan however deep the client pages.
      *
-     * @param accountNumber    the bank account number whose transactions will be listed
-     * @param requestingUserId the id of the user making the request (must own the account)
-     * @return a list of {@link Transaction} objects belonging to the account (possibly empty)
+     * @param query immutable input carrying account number, requesting user, cursor and page size
+     * @return the page of {@link Transaction} objects (possibly empty) and the cursor of the next page
      * @throws com.eaglebank.domain.exception.AccountNotFoundException    if the account does not exist
      * @throws com.eaglebank.domain.exception.UnauthorizedAccessException if the requesting user does not own the account
+     * @throws IllegalArgumentException                                   if the cursor or page size is invalid
      */
-    List<Transaction> list(String accountNumber, String requestingUserId);
+    TransactionPage list(ListTransactionsQuery query);
 
     /**
      * Immutable command used to create a new transaction.
@@ -74,4 +76,32 @@ public interface TransactionService {
             String reference
     ) {
     }
+
+    /**
+     * Immutable query used to list a page of transactions.
+     *
+     * @param accountNumber    the bank account number whose transactions will be listed
+     * @param requestingUserId the user id making the request (must own the account)
+     * @param cursor           opaque cursor returned as {@code next} by the previous page, or {@code null} for the first page
+     * @param limit            requested page size, or {@code null} for the default; capped at the maximum page size
+     */
+    record ListTransactionsQuery(
+            String accountNumber,
+            String requestingUserId,
+            String cursor,
+            Integer limit
+    ) {
+    }
+
+    /**
+     * A page of transactions.
+     *
+     * @param transactions the transactions on this page, newest first
+     * @param next         opaque cursor of the following page, or {@code null} when this is the last page
+     */
+    record TransactionPage(
+            List<Transaction> transactions,
+            String next
+    ) {
+    }
 }
@@ -1,24 +1,35 @@
 package com.eaglebank.application.transaction;
 
+import com.eaglebank.application.account.AccountOwnershipIndex;
+import com.eaglebank.config.PostingProperties;
+import com.eaglebank.domain.exception.AccountGenericException;
 import com.eaglebank.domain.exception.AccountNotFoundException;
+import com.eaglebank.domain.exception.DomainException;
+import com.eaglebank.domain.exception.InsufficientFundsException;
 import com.eaglebank.domain.exception.TransactionNotFoundException;
 import com.eaglebank.domain.exception.UnauthorizedAccessException;
 import com.eaglebank.domain.model.account.Account;
 import com.eaglebank.domain.model.account.AccountNumber;
 import com.eaglebank.domain.model.account.Money;
 import com.eaglebank.domain.model.transaction.Transaction;
+import com.eaglebank.domain.model.transaction.TransactionCursor;
 import com.eaglebank.domain.model.transaction.TransactionId;
 import com.eaglebank.domain.model.transaction.TransactionReference;
 import com.eaglebank.domain.model.transaction.TransactionType;
 import com.eaglebank.domain.model.user.UserId;
 import com.eaglebank.domain.repository.AccountRepository;
+import com.eaglebank.domain.repository.BalanceStripeRepository;
 import com.eaglebank.domain.repository.TransactionRepository;
 import com.eaglebank.domain.service.TransactionDomainService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
 
 
 @Service
@@ -27,15 +38,94 @@ import java.util.List;
 public class TransactionServiceImpl implements
         TransactionService {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final TransactionRepository transactionRepository;
     private final AccountRepository accountRepository;
     private final TransactionDomainService transactionDomainService;
+    private final PostingProperties postingProperties;
+    private final BalanceStripeRepository balanceStripeRepository;
+    private final ObjectProvider<BalanceEngine> balanceEngine;
+    private final AccountOwnershipIndex ownershipIndex;
 
+    /**
+     * A rejected posting changes nothing before it throws, so it does not doom an
+     * enclosing transaction shared with other postings by {@link AccountPostingExecutor}.
+     */
     @Override
+    @Transactional(noRollbackFor = {DomainException.class, IllegalArgumentException.class})
     public Transaction create(CreateTransactionCommand command) {
+        Posting posting = resolve(command);
+        Account account = posting.account();
+        TransactionType transactionType = posting.type();
+        Money amount = posting.amount();
+        TransactionReference reference = posting.reference();
+
+        if (account.isStriped()) {
+            return postToStripes(account, transactionType, amount, reference);
+        }
+
+        if (postingProperties.mode() == PostingMode.ATOMIC) {
+            return postAtomically(account, transactionType, amount, reference);
+        }
+
+        if (postingProperties.mode() == PostingMode.JOURNALED) {
+            return balanceEngine.getObject().post(account, transactionType, amount, reference);
+        }
+
+        Transaction transaction;
+        if (transactionType == TransactionType.DEPOSIT) {
+            transaction = transactionDomainService.createDepositTransaction(
+                    account, amount, reference
+            );
+            account.deposit(amount);
+        } else if (transactionType == TransactionType.WITHDRAWAL) {
+            transaction = transactionDomainService.createWithdrawalTransaction(
+                    account, amount, reference
+            );
+            account.withdraw(amount);
+        } else {
+            throw new UnsupportedOperationException(
+                    "Transaction type " + transactionType + " is not yet supported"
+            );
+        }
+        accountRepository.save(account);
+
+        return transactionRepository.save(transaction);
+    }
+
+    /**
+     * Posts through the {@link BalanceEngine} in {@link PostingMode#JOURNALED} mode.
+     * <p>
+     * Runs outside any database transaction: the in-memory balance is the source of
+     * truth, so the account is resolved like a read (from the account cache when it
+     * holds it) and no connection is held while the journal flushes.
+     *
+     * @return empty for a striped account, whose balance lives in the database; post
+     * it with {@link #create} instead
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED, readOnly = true)
+    public Optional<Transaction> createJournaled(CreateTransactionCommand command) {
+        Posting posting = resolve(command);
+        if (posting.account().isStriped()) {
+            return Optional.empty();
+        }
+        return Optional.of(balanceEngine.getObject().post(
+                posting.account(), posting.type(), posting.amount(), posting.reference()));
+    }
+
+    /**
+     * Loads the account, checks its owner and parses the command
+     */
+    private Posting resolve(CreateTransactionCommand command) {
         AccountNumber accountNumber = AccountNumber.of(command.accountNumber());
         UserId userId = UserId.of(command.requestingUserId());
 
+        if (ownershipIndex.refutesOwner(accountNumber, userId)) {
+            throw new UnauthorizedAccessException(userId, accountNumber);
+        }
+
         // Get account
         Account account = accountRepository.findByAccountNumber(accountNumber)
                 .orElseThrow(() -> new AccountNotFoundException(accountNumber));
@@ -53,31 +143,78 @@ public class TransactionServiceImpl implements
             throw new IllegalArgumentException("Invalid transaction type: " + command.type());
         }
 
-        Money amount = Money.gbp(command.amount());
+        return new Posting(account, transactionType, Money.gbp(command.amount()),
+                TransactionReference.of(command.reference()));
+    }
 
-        TransactionReference reference = TransactionReference.of(command.reference());
+    /**
+     * Posts to one randomly chosen stripe of a hot account, leaving the account row untouched.
+     * The aggregate still applies its deposit and withdrawal rules against the total balance;
+     * the balance after is the total as read at the start of this posting.
+     */
+    private Transaction postToStripes(Account account, TransactionType transactionType,
+                                      Money amount, TransactionReference reference) {
+        AccountNumber accountNumber = account.getAccountNumber();
+        int stripe = ThreadLocalRandom.current().nextInt(account.getBalanceStripes());
 
         Transaction transaction;
         if (transactionType == TransactionType.DEPOSIT) {
-            transaction = transactionDomainService.createDepositTransaction(
-                    account, amount, reference
-            );
+            transaction = transactionDomainService.createDepositTransaction(account, amount, reference);
             account.deposit(amount);
-        } else if (transactionType == TransactionType.WITHDRAWAL) {
-            transaction = transactionDomainService.createWithdrawalTransaction(
-                    account, amount, reference
-            );
-            account.withdraw(amount);
+            balanceStripeRepository.credit(accountNumber, stripe, amount);
         } else {
-            throw new UnsupportedOperationException(
-                    "Transaction type " + transactionType + " is not yet supported"
-            );
+            transaction = transactionDomainService.createWithdrawalTransaction(account, amount, reference);
+            account.withdraw(amount);
+            if (!balanceStripeRepository.debit(accountNumber, stripe, amount)) {
+                transaction = withdrawConsolidated(account, amount, reference);
+            }
         }
-        accountRepository.save(account);
 
         return transactionRepository.save(transaction);
     }
 
+    /**
+     * No single stripe covers the withdrawal: lock every stripe, re-check the rules against
+     * their exact total and collapse what is left onto one stripe
+     */
+    private Transaction withdrawConsolidated(Account account, Money amount, TransactionReference reference) {
+        account.setBalance(balanceStripeRepository.lockTotal(
+                account.getAccountNumber(), account.getBalance().getCurrency()));
+
+        Transaction transaction = transactionDomainService.createWithdrawalTransaction(account, amount, reference);
+        account.withdraw(amount);
+        balanceStripeRepository.consolidate(account.getAccountNumber(), account.getBalance());
+
+        return transaction;
+    }
+
+    /**
+     * Applies the balance change and records the transaction in a single conditional statement,
+     * so concurrent postings to the same account never conflict on the version column.
+     * The store rejects the posting when the account is inactive, would be overdrawn, or has
+     * been striped since it was read; in the last case the posting goes to a stripe instead.
+     */
+    private Transaction postAtomically(Account account, TransactionType transactionType,
+                                       Money amount, TransactionReference reference) {
+        transactionDomainService.validatePosting(account, amount);
+
+        AccountNumber accountNumber = account.getAccountNumber();
+        return transactionRepository.postAtomically(
+                TransactionId.generate(), accountNumber, transactionType, amount, reference
+        ).orElseGet(() -> {
+            int stripes = accountRepository.findBalanceStripes(accountNumber);
+            if (stripes > 0) {
+                account.setBalanceStripes(stripes);
+                account.setBalance(balanceStripeRepository.lockTotal(
+                        accountNumber, account.getBalance().getCurrency()));
+                return postToStripes(account, transactionType, amount, reference);
+            }
+            throw transactionType.isDebit()
+                    ? new InsufficientFundsException("Insufficient funds in account " + accountNumber.getValue())
+                    : new AccountGenericException("Cannot post to account " + accountNumber.getValue());
+        });
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Transaction get(String accountNumber, String transactionId, String requestingUserId) {
@@ -85,14 +222,7 @@ public class TransactionServiceImpl implements
         TransactionId txnId = TransactionId.of(transactionId);
         UserId userId = UserId.of(requestingUserId);
 
-        // Get account to verify ownership
-        Account account = accountRepository.findByAccountNumber(accNum)
-                .orElseThrow(() -> new AccountNotFoundException(accNum));
-
-        // Verify ownership
-        if (!account.isOwnedBy(userId)) {
-            throw new UnauthorizedAccessException(userId, accNum);
-        }
+        verifyOwnership(accNum, userId);
 
         // Get transaction
         Transaction transaction = transactionRepository.findById(txnId)
@@ -110,18 +240,53 @@ public class TransactionServiceImpl implements
 
     @Override
     @Transactional(readOnly = true)
-    public List<Transaction> list(String accountNumber, String requestingUserId) {
-        AccountNumber accNum = AccountNumber.of(accountNumber);
-        UserId userId = UserId.of(requestingUserId);
+    public TransactionPage list(ListTransactionsQuery query) {
+        AccountNumber accNum = AccountNumber.of(query.accountNumber());
+        UserId userId = UserId.of(query.requestingUserId());
+        TransactionCursor after = query.cursor() != null ? TransactionCursor.of(query.cursor()) : null;
+        int pageSize = resolvePageSize(query.limit());
+
+        verifyOwnership(accNum, userId);
+
+        // Fetch one extra row to learn whether another page follows
+        List<Transaction> transactions = transactionRepository.findByAccountNumber(accNum, after, pageSize + 1);
+        if (transactions.size() <= pageSize) {
+            return new TransactionPage(transactions, null);
+        }
 
-        // Get account to verify ownership
-        Account account = accountRepository.findByAccountNumber(accNum)
-                .orElseThrow(() -> new AccountNotFoundException(accNum));
+        List<Transaction> page = transactions.subList(0, pageSize);
+        return new TransactionPage(page, TransactionCursor.after(page.get(pageSize - 1)).getValue());
+    }
 
+    /**
+     * Answers from the ownership index when it knows the account, and only loads
+     * the account when it does not
+     */
+    private void verifyOwnership(AccountNumber accountNumber, UserId userId) {
+        if (ownershipIndex.confirmsOwner(accountNumber, userId)) {
+            return;
+        }
+        if (ownershipIndex.refutesOwner(accountNumber, userId)) {
+            throw new UnauthorizedAccessException(userId, accountNumber);
+        }
+
+        Account account = accountRepository.findByAccountNumber(accountNumber)
+                .orElseThrow(() -> new AccountNotFoundException(accountNumber));
         if (!account.isOwnedBy(userId)) {
-            throw new UnauthorizedAccessException(userId, accNum);
+            throw new UnauthorizedAccessException(userId, accountNumber);
         }
+    }
 
-        return transactionRepository.findByAccountNumber(accNum);
+    private record Posting(Account account, TransactionType type, Money amount, TransactionReference reference) {
+    }
+
+    private int resolvePageSize(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        return Math.min(limit, MAX_PAGE_SIZE);
     }
 }
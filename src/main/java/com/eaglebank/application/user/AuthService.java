@@ -1,5 +1,7 @@
 package com.eaglebank.application.user;
 
+import java.time.Instant;
+
 /**
  * Application-level service contract for authenticating users and issuing JWT tokens.
  * <p>
@@ -18,32 +20,83 @@ public interface AuthService {
      * @return the authentication result including user id, email, and a JWT token
      * @throws com.eaglebank.domain.exception.UserNotFoundException if a user with the given email does not exist
      * @throws IllegalArgumentException                             if the provided credentials are invalid
+     * @throws com.eaglebank.application.exception.TooManyRequestsException if too many attempts were made
+     *                                                              for the email or from the client address
      */
     AuthenticationResult authenticate(AuthenticationCommand command);
 
+    /**
+     * Exchanges a refresh token for a new JWT token and a new refresh token.
+     * <p>
+     * The presented refresh token is used up. Presenting it again revokes every
+     * refresh token issued since the login it descends from.
+     *
+     * @param command immutable input carrying the refresh token
+     * @return the authentication result including user id, email, and new tokens
+     * @throws com.eaglebank.application.exception.InvalidTokenException if the refresh token is unknown,
+     *                                                                   expired or already used
+     */
+    AuthenticationResult refresh(RefreshCommand command);
+
+    /**
+     * Revokes the caller's JWT token until it expires and, when given, the refresh
+     * token issued with it and its successors.
+     *
+     * @param command immutable input identifying the tokens to revoke
+     */
+    void logout(LogoutCommand command);
+
     /**
      * Immutable command carrying user credentials for authentication.
      *
-     * @param email    the user's email address (must be a valid email format)
-     * @param password the user's raw password
+     * @param email         the user's email address (must be a valid email format)
+     * @param password      the user's raw password
+     * @param clientAddress IP address the attempt came from, used for throttling; may be null
      */
     record AuthenticationCommand(
             String email,
-            String password
+            String password,
+            String clientAddress
+    ) {
+    }
+
+    /**
+     * Immutable command carrying a refresh token.
+     *
+     * @param refreshToken the opaque refresh token issued with a previous authentication result
+     */
+    record RefreshCommand(
+            String refreshToken
+    ) {
+    }
+
+    /**
+     * Immutable command identifying the tokens to revoke on logout.
+     *
+     * @param tokenId      the {@code jti} of the JWT token being revoked
+     * @param expiresAt    when that JWT token expires
+     * @param refreshToken the refresh token to revoke with it; may be null
+     */
+    record LogoutCommand(
+            String tokenId,
+            Instant expiresAt,
+            String refreshToken
     ) {
     }
 
     /**
      * Result of a successful authentication.
      *
-     * @param userId the authenticated user's identifier
-     * @param email  the authenticated user's email address
-     * @param token  a signed JWT token to be used for authorizing API requests
+     * @param userId       the authenticated user's identifier
+     * @param email        the authenticated user's email address
+     * @param token        a signed JWT token to be used for authorizing API requests
+     * @param refreshToken an opaque, single-use token to obtain the next JWT token without the password
      */
     record AuthenticationResult(
             String userId,
             String email,
-            String token
+            String token,
+            String refreshToken
     ) {
     }
 }
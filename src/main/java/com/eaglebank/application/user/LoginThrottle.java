@@ -0,0 +1,110 @@
+package com.eaglebank.application.user;
+
+import com.eaglebank.application.exception.TooManyRequestsException;
+import com.eaglebank.config.LoginThrottleProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Throttles login attempts per email address and per client IP address, before
+ * any database lookup or password hashing is done for them.
+ * <p>
+ * Each key has a sliding-window counter: the count of the current fixed window
+ * plus the previous window's count weighted by how much of it still overlaps the
+ * sliding window. Window index and both counts are packed into one
+ * {@link AtomicLong} and updated by compare-and-set, so admitting an attempt never
+ * takes a lock. Counters live in a size-bounded cache and expire after two idle
+ * windows, so memory stays bounded however many keys an attacker cycles through.
+ * <p>
+ * Publishes {@code eaglebank.login.throttled} tagged with the key that was over
+ * its limit ({@code email} or {@code address}).
+ */
+@Component
+public class LoginThrottle {
+
+    private final Cache<String, SlidingWindow> windows;
+    private final long windowMillis;
+    private final int maxAttemptsPerEmail;
+    private final int maxAttemptsPerAddress;
+    private final Counter emailRejections;
+    private final Counter addressRejections;
+
+    public LoginThrottle(LoginThrottleProperties properties, MeterRegistry meterRegistry) {
+        this.windowMillis = properties.window().toMillis();
+        this.maxAttemptsPerEmail = properties.maxAttemptsPerEmail();
+        this.maxAttemptsPerAddress = properties.maxAttemptsPerAddress();
+        this.windows = Caffeine.newBuilder()
+                .maximumSize(properties.maxTrackedKeys())
+                .expireAfterAccess(properties.window().multipliedBy(2))
+                .build();
+        this.emailRejections = meterRegistry.counter("eaglebank.login.throttled", "key", "email");
+        this.addressRejections = meterRegistry.counter("eaglebank.login.throttled", "key", "address");
+    }
+
+    /**
+     * Admits one login attempt or throws {@link TooManyRequestsException}
+     */
+    public void acquire(String email, String clientAddress) {
+        long now = System.currentTimeMillis();
+        if (clientAddress != null
+                && !window("address:" + clientAddress).tryAcquire(now, windowMillis, maxAttemptsPerAddress)) {
+            addressRejections.increment();
+            throw rejection(now);
+        }
+        if (email != null
+                && !window("email:" + email.trim().toLowerCase(Locale.ROOT)).tryAcquire(now, windowMillis, maxAttemptsPerEmail)) {
+            emailRejections.increment();
+            throw rejection(now);
+        }
+    }
+
+    private SlidingWindow window(String key) {
+        return windows.get(key, ignored -> new SlidingWindow());
+    }
+
+    private TooManyRequestsException rejection(long now) {
+        return new TooManyRequestsException(
+                "Too many login attempts. Please retry later.",
+                Duration.ofMillis(windowMillis - now % windowMillis));
+    }
+
+    /**
+     * Packed state: window index (high 32 bits), current count (16 bits), previous count (16 bits)
+     */
+    private static final class SlidingWindow {
+
+        private final AtomicLong state = new AtomicLong();
+
+        boolean tryAcquire(long now, long windowMillis, int limit) {
+            long index = now / windowMillis;
+            double previousWeight = 1.0 - (double) (now % windowMillis) / windowMillis;
+
+            while (true) {
+                long packed = state.get();
+                int storedIndex = (int) (packed >>> 32);
+                int current = (int) ((packed >>> 16) & 0xFFFF);
+                int previous = (int) (packed & 0xFFFF);
+
+                if (storedIndex != (int) index) {
+                    previous = storedIndex == (int) (index - 1) ? current : 0;
+                    current = 0;
+                }
+                if (previous * previousWeight + current + 1 > limit) {
+                    return false;
+                }
+
+                long next = (index << 32) | ((long) (current + 1) << 16) | previous;
+                if (state.compareAndSet(packed, next)) {
+                    return true;
+                }
+            }
+        }
+    }
+}
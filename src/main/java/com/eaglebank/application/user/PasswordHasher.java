@@ -0,0 +1,99 @@
+package com.eaglebank.application.user;
+
+import com.eaglebank.application.exception.ServiceOverloadedException;
+import com.eaglebank.config.PasswordHashingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs password hashing on a dedicated pool, off the request threads.
+ * <p>
+ * BCrypt is deliberately slow and CPU-bound, so the pool has one thread per
+ * processor and a bounded queue. When the queue is full the request is shed with
+ * a {@link ServiceOverloadedException} instead of tying up yet another request
+ * thread, leaving the rest of the API responsive during a login burst.
+ * <p>
+ * Publishes {@code eaglebank.password.hashing.queue.depth},
+ * {@code eaglebank.password.hashing.duration} tagged with the operation (time spent
+ * hashing, excluding the wait for a thread) and {@code eaglebank.password.hashing.rejected}.
+ */
+@Component
+public class PasswordHasher implements AutoCloseable {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Duration retryAfter;
+    private final MeterRegistry meterRegistry;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          PasswordHashingProperties properties,
+                          MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.retryAfter = properties.retryAfter();
+        this.meterRegistry = meterRegistry;
+        this.executor = new ThreadPoolExecutor(
+                properties.threads(),
+                properties.threads(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.queueCapacity()),
+                Thread.ofPlatform().name("password-hasher-", 0).daemon().factory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        meterRegistry.gauge("eaglebank.password.hashing.queue.depth", executor, pool -> pool.getQueue().size());
+    }
+
+    public String hash(CharSequence rawPassword) {
+        return run("hash", () -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(CharSequence rawPassword, String passwordHash) {
+        return run("matches", () -> passwordEncoder.matches(rawPassword, passwordHash));
+    }
+
+    /**
+     * Whether the hash was made with weaker settings than are configured now
+     */
+    public boolean needsRehash(String passwordHash) {
+        return passwordEncoder.upgradeEncoding(passwordHash);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private <T> T run(String operation, Callable<T> task) {
+        Timer timer = meterRegistry.timer("eaglebank.password.hashing.duration", "operation", operation);
+        Future<T> result;
+        try {
+            result = executor.submit(() -> timer.recordCallable(task));
+        } catch (RejectedExecutionException e) {
+            meterRegistry.counter("eaglebank.password.hashing.rejected", "operation", operation).increment();
+            throw new ServiceOverloadedException("Too many sign-in requests. Please retry shortly.", retryAfter);
+        }
+
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+}
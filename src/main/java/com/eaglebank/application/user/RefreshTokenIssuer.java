@@ -0,0 +1,91 @@
+package com.eaglebank.application.user;
+
+import com.eaglebank.config.RefreshTokenProperties;
+import com.eaglebank.domain.model.auth.RefreshToken;
+import com.eaglebank.domain.model.user.Email;
+import com.eaglebank.domain.model.user.UserId;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Mints and checks opaque refresh tokens of the form {@code <id>.<secret>}.
+ * <p>
+ * The id is the primary key of the stored token, so a refresh is a single
+ * indexed lookup. The secret is 256 random bits; as it cannot be guessed, a fast
+ * SHA-256 of it is a sufficient stored form, with no need for a slow password hash.
+ */
+@Component
+public class RefreshTokenIssuer {
+
+    private static final int SECRET_BYTES = 32;
+
+    private final SecureRandom random = new SecureRandom();
+    private final RefreshTokenProperties properties;
+
+    public RefreshTokenIssuer(RefreshTokenProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Issues a token; the value is only ever returned here, never stored
+     */
+    public Issued issue(UserId userId, Email email, String familyId) {
+        byte[] secret = new byte[SECRET_BYTES];
+        random.nextBytes(secret);
+        String encodedSecret = Base64.getUrlEncoder().withoutPadding().encodeToString(secret);
+
+        RefreshToken refreshToken = RefreshToken.issue(
+                UUID.randomUUID().toString(),
+                familyId,
+                userId,
+                email,
+                hash(encodedSecret),
+                LocalDateTime.now().plus(properties.validity())
+        );
+        return new Issued(refreshToken, refreshToken.getId() + "." + encodedSecret);
+    }
+
+    /**
+     * Splits a presented token into its id and secret
+     */
+    public Optional<Presented> parse(String value) {
+        int separator = value == null ? -1 : value.indexOf('.');
+        if (separator <= 0 || separator == value.length() - 1) {
+            return Optional.empty();
+        }
+        return Optional.of(new Presented(value.substring(0, separator), value.substring(separator + 1)));
+    }
+
+    /**
+     * Compares the secret to the stored hash in constant time
+     */
+    public boolean matches(RefreshToken refreshToken, Presented presented) {
+        return MessageDigest.isEqual(
+                refreshToken.getSecretHash().getBytes(StandardCharsets.US_ASCII),
+                hash(presented.secret()).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static String hash(String secret) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                    .digest(secret.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public record Issued(RefreshToken refreshToken, String value) {
+    }
+
+    public record Presented(String id, String secret) {
+    }
+}
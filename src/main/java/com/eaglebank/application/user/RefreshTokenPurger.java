@@ -0,0 +1,70 @@
+package com.eaglebank.application.user;
+
+import com.eaglebank.config.RefreshTokenProperties;
+import com.eaglebank.domain.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Deletes expired refresh tokens every {@code eaglebank.refresh-token.purge-interval}.
+ * <p>
+ * Every refresh leaves its used token behind so a replay of it can be detected.
+ * Once expired, a used token would be rejected as expired anyway, so expired
+ * tokens are deleted whether they were used or not.
+ * <p>
+ * Publishes {@code eaglebank.refresh-token.purge.failures}.
+ */
+@Slf4j
+@Component
+public class RefreshTokenPurger implements AutoCloseable {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenProperties properties;
+    private final Counter failures;
+    private final Thread purger;
+    private volatile boolean closed;
+
+    public RefreshTokenPurger(RefreshTokenRepository refreshTokenRepository,
+                              RefreshTokenProperties properties,
+                              MeterRegistry meterRegistry) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.properties = properties;
+        this.failures = meterRegistry.counter("eaglebank.refresh-token.purge.failures");
+        this.purger = Thread.ofVirtual().name("refresh-token-purger").start(this::purgeLoop);
+    }
+
+    /**
+     * Deletes the tokens that have expired by now
+     */
+    public void purge() {
+        refreshTokenRepository.deleteExpired(LocalDateTime.now());
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        purger.interrupt();
+    }
+
+    private void purgeLoop() {
+        while (!closed) {
+            try {
+                Thread.sleep(properties.purgeInterval());
+            } catch (InterruptedException e) {
+                return;
+            }
+
+            try {
+                purge();
+            } catch (RuntimeException e) {
+                // The rows keep until the next interval
+                failures.increment();
+                log.warn("Purging expired refresh tokens failed", e);
+            }
+        }
+    }
+}
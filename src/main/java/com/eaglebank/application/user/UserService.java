@@ -1,7 +1,6 @@
 package com.eaglebank.application.user;
 
 import com.eaglebank.domain.model.user.User;
-import org.springframework.security.core.Authentication;
 
 /**
  * Application-level service contract for managing {@link User} accounts.
@@ -29,36 +28,36 @@ public interface UserService {
     /**
      * Retrieves the profile for the specified user, verifying the requester is the same user.
      *
-     * @param userId         the id of the user to fetch
-     * @param authentication Spring Security authentication containing the requesting user's id
+     * @param userId           the id of the user to fetch
+     * @param requestingUserId the id of the authenticated user making the request
      * @return the {@link User}
      * @throws com.eaglebank.domain.exception.UserNotFoundException       if the user does not exist
      * @throws com.eaglebank.domain.exception.UnauthorizedAccessException if the requester is not the user
      */
-    User get(String userId, Authentication authentication);
+    User get(String userId, String requestingUserId);
 
     /**
      * Deletes the specified user after verifying ownership and ensuring there are no bank accounts.
      *
-     * @param userId         the id of the user to delete
-     * @param authentication Spring Security authentication containing the requesting user's id
+     * @param userId           the id of the user to delete
+     * @param requestingUserId the id of the authenticated user making the request
      * @throws com.eaglebank.domain.exception.UserNotFoundException       if the user does not exist
      * @throws com.eaglebank.domain.exception.UnauthorizedAccessException if the requester is not the user
      * @throws com.eaglebank.domain.exception.UserHasAccountsException    if the user still has bank accounts
      */
-    void delete(String userId, Authentication authentication);
+    void delete(String userId, String requestingUserId);
 
     /**
      * Updates personal information for the specified user after verifying ownership.
      *
-     * @param command        immutable input carrying user id and the fields to update (name, phone, address)
-     * @param authentication Spring Security authentication containing the requesting user's id
+     * @param command          immutable input carrying user id and the fields to update (name, phone, address)
+     * @param requestingUserId the id of the authenticated user making the request
      * @return the updated {@link User}
      * @throws com.eaglebank.domain.exception.UserNotFoundException       if the user does not exist
      * @throws com.eaglebank.domain.exception.UnauthorizedAccessException if the requester is not the user
      * @throws IllegalArgumentException                                   if provided fields are invalid
      */
-    User update(UpdateUserCommand command, Authentication authentication);
+    User update(UpdateUserCommand command, String requestingUserId);
 
     /**
      * Immutable command used to update user information. Omitted fields will not be changed.
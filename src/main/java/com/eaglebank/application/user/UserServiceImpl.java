@@ -1,18 +1,25 @@
 package com.eaglebank.application.user;
 
+import com.eaglebank.application.exception.InvalidTokenException;
+import com.eaglebank.application.exception.ServiceOverloadedException;
+import com.eaglebank.domain.model.auth.RefreshToken;
 import com.eaglebank.domain.exception.UnauthorizedAccessException;
 import com.eaglebank.domain.exception.UserHasAccountsException;
 import com.eaglebank.domain.exception.UserNotFoundException;
 import com.eaglebank.domain.model.user.*;
 import com.eaglebank.domain.repository.AccountRepository;
+import com.eaglebank.domain.repository.RefreshTokenRepository;
 import com.eaglebank.domain.repository.UserRepository;
 import com.eaglebank.infrastructure.security.JwtTokenProvider;
+import com.eaglebank.infrastructure.security.TokenRevocationList;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.UUID;
+
 
 @Service
 @Transactional
@@ -23,11 +30,20 @@ public class UserServiceImpl implements
 
     private final UserRepository userRepository;
     private final AccountRepository accountRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final LoginThrottle loginThrottle;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenIssuer refreshTokenIssuer;
+    private final TokenRevocationList tokenRevocationList;
     private final JwtTokenProvider jwtTokenProvider;
 
 
+    /**
+     * Runs outside a transaction so no database connection is held while hashing;
+     * the email check and the insert each use a connection only for their statement
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public User create(CreateUserCommand command) {
         // Check if email already exists
         Email email = Email.of(command.email());
@@ -47,7 +63,7 @@ public class UserServiceImpl implements
         );
 
         // Hash password
-        String passwordHash = passwordEncoder.encode(command.password());
+        String passwordHash = passwordHasher.hash(command.password());
 
         // Create user
         User user = User.create(
@@ -65,20 +81,20 @@ public class UserServiceImpl implements
 
     @Override
     @Transactional(readOnly = true)
-    public User get(String userId, Authentication authentication) {
+    public User get(String userId, String requestingUserId) {
         UserId id = UserId.of(userId);
-        checkUserRequestingOwnProfile(id, authentication);
+        checkUserRequestingOwnProfile(id, requestingUserId);
         return userRepository.findById(id)
                 .orElseThrow(() -> new UserNotFoundException(id));
     }
 
     @Override
-    public User update(UpdateUserCommand command, Authentication authentication) {
+    public User update(UpdateUserCommand command, String requestingUserId) {
         UserId userId = UserId.of(command.userId());
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException(userId));
 
-        checkUserRequestingOwnProfile(userId, authentication);
+        checkUserRequestingOwnProfile(userId, requestingUserId);
 
         PhoneNumber phoneNumber = command.phoneNumber() != null
                 ? PhoneNumber.of(command.phoneNumber())
@@ -99,12 +115,12 @@ public class UserServiceImpl implements
     }
 
     @Override
-    public void delete(String userId, Authentication authentication) {
+    public void delete(String userId, String requestingUserId) {
         UserId id = UserId.of(userId);
         if (!userRepository.existsById(id)) {
             throw new UserNotFoundException(id);
         }
-        checkUserRequestingOwnProfile(id, authentication);
+        checkUserRequestingOwnProfile(id, requestingUserId);
 
         // Check if user has accounts
         long accountCount = accountRepository.countByOwnerId(id);
@@ -112,36 +128,103 @@ public class UserServiceImpl implements
             throw new UserHasAccountsException(id, accountCount);
         }
 
+        refreshTokenRepository.deleteByUserId(id);
         userRepository.deleteById(id);
     }
 
+    /**
+     * Runs outside a transaction so no database connection is held while hashing
+     */
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AuthenticationResult authenticate(AuthenticationCommand command) {
+        // Throttle before any lookup or hashing is spent on the attempt
+        loginThrottle.acquire(command.email(), command.clientAddress());
+
         Email email = Email.of(command.email());
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UserNotFoundException(email));
 
         // Verify password
-        if (!passwordEncoder.matches(command.password(), user.getPasswordHash())) {
+        if (!passwordHasher.matches(command.password(), user.getPasswordHash())) {
             throw new IllegalArgumentException("Invalid credentials");
         }
 
-        // Generate JWT token
+        // Upgrade a hash made at a lower cost factor while the raw password is at hand
+        if (passwordHasher.needsRehash(user.getPasswordHash())) {
+            rehash(user, command.password());
+        }
+
+        return issueTokens(user.getId(), user.getEmail(), UUID.randomUUID().toString());
+    }
+
+    /**
+     * A single lookup by token id; no password hashing is involved
+     */
+    @Override
+    @Transactional(noRollbackFor = InvalidTokenException.class)
+    public AuthenticationResult refresh(RefreshCommand command) {
+        RefreshTokenIssuer.Presented presented = refreshTokenIssuer.parse(command.refreshToken())
+                .orElseThrow(() -> new InvalidTokenException("Invalid refresh token"));
+        RefreshToken refreshToken = refreshTokenRepository.findById(presented.id())
+                .filter(stored -> refreshTokenIssuer.matches(stored, presented))
+                .orElseThrow(() -> new InvalidTokenException("Invalid refresh token"));
+
+        LocalDateTime now = LocalDateTime.now();
+        if (refreshToken.isExpired(now)) {
+            throw new InvalidTokenException("Refresh token has expired");
+        }
+        // A used token presented again was copied: revoke everything issued from the same login
+        if (refreshToken.isUsed() || !refreshTokenRepository.markUsed(refreshToken.getId(), now)) {
+            refreshTokenRepository.deleteByFamilyId(refreshToken.getFamilyId());
+            throw new InvalidTokenException("Refresh token has already been used");
+        }
+
+        return issueTokens(refreshToken.getUserId(), refreshToken.getEmail(), refreshToken.getFamilyId());
+    }
+
+    @Override
+    public void logout(LogoutCommand command) {
+        if (command.tokenId() != null) {
+            tokenRevocationList.revoke(command.tokenId(), command.expiresAt());
+        }
+        if (command.refreshToken() != null) {
+            refreshTokenIssuer.parse(command.refreshToken())
+                    .flatMap(presented -> refreshTokenRepository.findById(presented.id())
+                            .filter(stored -> refreshTokenIssuer.matches(stored, presented)))
+                    .ifPresent(stored -> refreshTokenRepository.deleteByFamilyId(stored.getFamilyId()));
+        }
+    }
+
+    private AuthenticationResult issueTokens(UserId userId, Email email, String familyId) {
         String token = jwtTokenProvider.createToken(
-                user.getId().getValue(),
-                user.getEmail().getValue()
+                userId.getValue(),
+                email.getValue()
         );
+        RefreshTokenIssuer.Issued refreshToken = refreshTokenIssuer.issue(userId, email, familyId);
+        refreshTokenRepository.save(refreshToken.refreshToken());
 
         return new AuthenticationResult(
-                user.getId().getValue(),
-                user.getEmail().getValue(),
-                token
+                userId.getValue(),
+                email.getValue(),
+                token,
+                refreshToken.value()
         );
     }
 
-    private void checkUserRequestingOwnProfile(UserId userId, Authentication authentication) {
-        String requestingUserId = (String) authentication.getPrincipal();
+    /**
+     * Best effort: the login has already succeeded, so a shed rehash is retried next login
+     */
+    private void rehash(User user, String rawPassword) {
+        try {
+            user.changePassword(passwordHasher.hash(rawPassword));
+            userRepository.save(user);
+        } catch (ServiceOverloadedException e) {
+            // Pool saturated; keep the existing hash
+        }
+    }
+
+    private void checkUserRequestingOwnProfile(UserId userId, String requestingUserId) {
         if (!userId.getValue().equals(requestingUserId)) {
             throw new UnauthorizedAccessException("You do not have permission for this action");
         }
@@ -0,0 +1,26 @@
+package com.eaglebank.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Account Cache Configuration
+ * Binds {@code eaglebank.account-cache.*}
+ *
+ * @param maximumSize      accounts kept before the least valuable are evicted
+ * @param expireAfterWrite age at which a cached account is dropped regardless of use
+ */
+@ConfigurationProperties("eaglebank.account-cache")
+public record AccountCacheProperties(
+        @DefaultValue("10000") long maximumSize,
+        @DefaultValue("30s") Duration expireAfterWrite
+) {
+
+    public AccountCacheProperties {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("Account cache maximum size must not be negative");
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.eaglebank.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Account Existence Configuration
+ * Binds {@code eaglebank.account-existence.*}, shared by the known account numbers
+ * and the account ownership index
+ *
+ * @param refreshInterval how often accounts created by other instances are picked up
+ * @param rebuildInterval how often both are rebuilt without accounts deleted by other instances
+ * @param refreshOverlap  how far before the previous refresh each one re-reads; must exceed the
+ *                        longest transaction creating an account plus clock skew between instances
+ */
+@ConfigurationProperties("eaglebank.account-existence")
+public record AccountExistenceProperties(
+        @DefaultValue("5s") Duration refreshInterval,
+        @DefaultValue("10m") Duration rebuildInterval,
+        @DefaultValue("1m") Duration refreshOverlap
+) {
+}
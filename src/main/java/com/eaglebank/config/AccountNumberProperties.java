@@ -0,0 +1,24 @@
+package com.eaglebank.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Account Number Configuration
+ * Binds {@code eaglebank.account-numbers.*}
+ *
+ * @param blockSize      sequence positions each instance reserves at a time
+ * @param permutationKey key of the permutation that makes sequential positions look random
+ * @param settle         how long a reserved block waits before its numbers are issued, so every
+ *                       instance has re-read the high-water mark first; zero never answers an
+ *                       unknown number from memory
+ */
+@ConfigurationProperties("eaglebank.account-numbers")
+public record AccountNumberProperties(
+        @DefaultValue("100") int blockSize,
+        @DefaultValue("7046029254386353131") long permutationKey,
+        @DefaultValue("2s") Duration settle
+) {
+}
@@ -0,0 +1,107 @@
+package com.eaglebank.config;
+
+import com.eaglebank.infrastructure.persistence.bulkhead.DatabaseBulkhead;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.ClassFilter;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Database Bulkhead Configuration
+ * Wraps the transactional application services in the {@link DatabaseBulkhead}
+ * when requests are served on virtual threads ({@code spring.threads.virtual.enabled}).
+ * <p>
+ * The advisor is ordered ahead of the transaction interceptor, so a call waits for
+ * its permit before a connection is taken.
+ * <p>
+ * Background work takes connections without passing the bulkhead, so by default
+ * the permits are what is left of the pool once those are reserved: one for each
+ * background loop, the balance projector in journaled mode, and the posting
+ * writers allowed to commit at once in serialized mode. A pool that leaves fewer
+ * than the minimum permits fails startup rather than serving requests a few at a
+ * time.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class DatabaseBulkheadConfiguration {
+
+    private static final String APPLICATION_PACKAGE = "com.eaglebank.application";
+
+    /**
+     * Known account numbers, token revocation list and account ownership refreshers,
+     * the refresh token purger, and the account number block reserver and
+     * high-water mark reader
+     */
+    private static final int BACKGROUND_LOOPS = 6;
+
+    @Bean
+    public DatabaseBulkhead databaseBulkhead(DatabaseBulkheadProperties properties,
+                                             PostingProperties postingProperties,
+                                             DataSource dataSource,
+                                             MeterRegistry meterRegistry) {
+        int permits = properties.permits() > 0
+                ? properties.permits()
+                : defaultPermits(poolSize(dataSource), postingProperties, properties.minPermits());
+        return new DatabaseBulkhead(permits, properties, meterRegistry);
+    }
+
+    /**
+     * The pool size less the connections background work may hold at once
+     *
+     * @throws IllegalStateException if that leaves fewer than {@code minPermits}
+     */
+    static int defaultPermits(int poolSize, PostingProperties postingProperties, int minPermits) {
+        int reserved = BACKGROUND_LOOPS + switch (postingProperties.mode()) {
+            case SERIALIZED -> postingProperties.connections();
+            case JOURNALED -> 1;
+            default -> 0;
+        };
+        if (poolSize - reserved < minPermits) {
+            throw new IllegalStateException("A connection pool of " + poolSize + " leaves "
+                    + Math.max(poolSize - reserved, 0) + " connections for requests once " + reserved
+                    + " are reserved for background work, fewer than eaglebank.db-bulkhead.min-permits ("
+                    + minPermits + "); enlarge the pool or set eaglebank.db-bulkhead.permits");
+        }
+        return poolSize - reserved;
+    }
+
+    /**
+     * Resolves the bulkhead lazily, so building the advisor does not pull the data
+     * source in ahead of the post-processors
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor databaseBulkheadAdvisor(ObjectProvider<DatabaseBulkhead> bulkhead) {
+        ClassFilter transactionalServices = type -> type.getPackageName().startsWith(APPLICATION_PACKAGE)
+                && AnnotatedElementUtils.hasAnnotation(type, Transactional.class);
+        MethodInterceptor interceptor = invocation -> bulkhead.getObject().invoke(invocation);
+
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(new ComposablePointcut(transactionalServices), interceptor);
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    private static int poolSize(DataSource dataSource) {
+        try {
+            return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+        } catch (SQLException e) {
+            throw new IllegalStateException(
+                    "Cannot read the connection pool size; set eaglebank.db-bulkhead.permits", e);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.eaglebank.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Database Bulkhead Configuration
+ * Binds {@code eaglebank.db-bulkhead.*}
+ *
+ * @param permits    service calls allowed to hold a connection at once; 0 sizes the bulkhead to the connection
+ *                   pool less the connections reserved for background work
+ * @param minPermits fewest permits the default sizing may leave; startup fails below it
+ * @param maxWait    how long a call queues for a permit before it is shed
+ * @param retryAfter Retry-After sent with a shed call
+ */
+@ConfigurationProperties("eaglebank.db-bulkhead")
+public record DatabaseBulkheadProperties(
+        @DefaultValue("0") int permits,
+        @DefaultValue("4") int minPermits,
+        @DefaultValue("5s") Duration maxWait,
+        @DefaultValue("1s") Duration retryAfter
+) {
+
+    public DatabaseBulkheadProperties {
+        if (permits < 0) {
+            throw new IllegalArgumentException("Database bulkhead permits must not be negative");
+        }
+        if (minPermits < 1) {
+            throw new IllegalArgumentException("Database bulkhead minimum permits must be positive");
+        }
+    }
+}
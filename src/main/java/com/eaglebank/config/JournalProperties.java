@@ -0,0 +1,32 @@
+package com.eaglebank.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+
+/**
+ * Posting Journal Configuration
+ * Binds {@code eaglebank.journal.*}, used in journaled posting mode
+ *
+ * @param directory     where journal segments and the balance snapshot are kept
+ * @param segmentSize   size of each memory-mapped journal segment
+ * @param snapshotEvery postings between snapshots; older journal segments are then deleted
+ */
+@ConfigurationProperties("eaglebank.journal")
+public record JournalProperties(
+        @DefaultValue("data/journal") Path directory,
+        @DefaultValue("64MB") DataSize segmentSize,
+        @DefaultValue("100000") long snapshotEvery
+) {
+
+    public JournalProperties {
+        if (segmentSize.toBytes() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Journal segment size cannot exceed 2GB");
+        }
+        if (snapshotEvery < 1) {
+            throw new IllegalArgumentException("Journal snapshot interval must be at least 1");
+        }
+    }
+}
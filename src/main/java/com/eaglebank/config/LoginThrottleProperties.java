@@ -0,0 +1,34 @@
+package com.eaglebank.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Login Throttle Configuration
+ * Binds {@code eaglebank.login-throttle.*}
+ *
+ * @param window                sliding window over which attempts are counted
+ * @param maxAttemptsPerEmail   login attempts allowed per email address in a window
+ * @param maxAttemptsPerAddress login attempts allowed per client IP address in a window
+ * @param maxTrackedKeys        emails and addresses tracked at once; the coldest are evicted
+ */
+@ConfigurationProperties("eaglebank.login-throttle")
+public record LoginThrottleProperties(
+        @DefaultValue("1m") Duration window,
+        @DefaultValue("5") int maxAttemptsPerEmail,
+        @DefaultValue("30") int maxAttemptsPerAddress,
+        @DefaultValue("100000") long maxTrackedKeys
+) {
+
+    public LoginThrottleProperties {
+        if (window.toMillis() < 1) {
+            throw new IllegalArgumentException("Login throttle window must be at least 1ms");
+        }
+        if (maxAttemptsPerEmail < 1 || maxAttemptsPerEmail > 0xFFFF
+                || maxAttemptsPerAddress < 1 || maxAttemptsPerAddress > 0xFFFF) {
+            throw new IllegalArgumentException("Login throttle limits must be between 1 and 65535");
+        }
+    }
+}
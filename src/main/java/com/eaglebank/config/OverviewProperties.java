@@ -0,0 +1,28 @@
+package com.eaglebank.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Overview Configuration
+ * Binds {@code eaglebank.overview.*}
+ *
+ * @param deadline               time allowed for all of an overview's reads together
+ * @param transactionsPerAccount latest transactions included per account when the request does not say
+ * @param retryAfter             Retry-After sent when the deadline is missed
+ */
+@ConfigurationProperties("eaglebank.overview")
+public record OverviewProperties(
+        @DefaultValue("2s") Duration deadline,
+        @DefaultValue("5") int transactionsPerAccount,
+        @DefaultValue("1s") Duration retryAfter
+) {
+
+    public OverviewProperties {
+        if (transactionsPerAccount < 1) {
+            throw new IllegalArgumentException("Overview transactions per account must be positive");
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.eaglebank.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Password Hashing Configuration
+ * Binds {@code eaglebank.password-hashing.*}
+ *
+ * @param threads       hashing threads; 0 uses one per available processor
+ * @param queueCapacity hashes allowed to wait for a thread before requests are shed
+ * @param strength      BCrypt cost factor; stored hashes below it are upgraded on login
+ * @param retryAfter    Retry-After sent to callers shed while the queue is full
+ */
+@ConfigurationProperties("eaglebank.password-hashing")
+public record PasswordHashingProperties(
+        @DefaultValue("0") int threads,
+        @DefaultValue("64") int queueCapacity,
+        @DefaultValue("10") int strength,
+        @DefaultValue("1s") Duration retryAfter
+) {
+
+    public PasswordHashingProperties {
+        if (threads <= 0) {
+            threads = Runtime.getRuntime().availableProcessors();
+        }
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("Password hashing queue capacity must be at least 1");
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.eaglebank.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Posting Concurrency Limit Configuration
+ * Binds {@code eaglebank.posting-limit.*}
+ *
+ * @param initialLimit concurrent postings allowed before any latency has been measured
+ * @param minLimit     the limit never drops below this
+ * @param maxLimit     the limit never grows above this
+ * @param smoothing    share of each new estimate blended into the limit, between 0 and 1
+ * @param retryAfter   Retry-After sent with a shed posting
+ */
+@ConfigurationProperties("eaglebank.posting-limit")
+public record PostingLimitProperties(
+        @DefaultValue("20") int initialLimit,
+        @DefaultValue("2") int minLimit,
+        @DefaultValue("200") int maxLimit,
+        @DefaultValue("0.2") double smoothing,
+        @DefaultValue("1s") Duration retryAfter
+) {
+
+    public PostingLimitProperties {
+        if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Posting limits must satisfy 1 <= min <= initial <= max");
+        }
+        if (smoothing <= 0 || smoothing > 1) {
+            throw new IllegalArgumentException("Posting limit smoothing must be in (0, 1]");
+        }
+    }
+}
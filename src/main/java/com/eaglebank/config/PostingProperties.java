@@ -0,0 +1,42 @@
+package com.eaglebank.config;
+
+import com.eaglebank.application.transaction.PostingMode;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Posting Configuration
+ * Binds {@code eaglebank.posting.*}
+ *
+ * @param mode         how deposits and withdrawals are applied to the account balance
+ * @param shards       number of single-writer queues used in {@link PostingMode#SERIALIZED} mode
+ * @param maxBatchSize most postings a writer drains into one database transaction
+ * @param linger       how long a writer waits for more postings before committing a batch
+ * @param connections  most writers holding a database connection at once; the bulkhead reserves them
+ */
+@ConfigurationProperties("eaglebank.posting")
+public record PostingProperties(
+        @DefaultValue("OPTIMISTIC") PostingMode mode,
+        @DefaultValue("64") int shards,
+        @DefaultValue("256") int maxBatchSize,
+        @DefaultValue("300us") Duration linger,
+        @DefaultValue("4") int connections
+) {
+
+    public PostingProperties {
+        if (shards < 1) {
+            throw new IllegalArgumentException("Posting shards must be at least 1");
+        }
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Posting max batch size must be at least 1");
+        }
+        if (linger.isNegative()) {
+            throw new IllegalArgumentException("Posting linger cannot be negative");
+        }
+        if (connections < 1) {
+            throw new IllegalArgumentException("Posting connections must be at least 1");
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.eaglebank.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Rate Limit Configuration
+ * Binds {@code eaglebank.rate-limit.*}
+ *
+ * @param readBurst       reads (GET, HEAD, OPTIONS) a user may make back to back
+ * @param readsPerSecond  sustained reads per user
+ * @param writeBurst      writes a user may make back to back
+ * @param writesPerSecond sustained writes per user
+ * @param idleTimeout     how long an unused user's buckets are kept
+ * @param maxTrackedUsers users tracked at once; the coldest are evicted
+ */
+@ConfigurationProperties("eaglebank.rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("100") int readBurst,
+        @DefaultValue("50") double readsPerSecond,
+        @DefaultValue("50") int writeBurst,
+        @DefaultValue("10") double writesPerSecond,
+        @DefaultValue("10m") Duration idleTimeout,
+        @DefaultValue("100000") long maxTrackedUsers
+) {
+
+    public RateLimitProperties {
+        if (readBurst < 1 || writeBurst < 1) {
+            throw new IllegalArgumentException("Rate limit bursts must be positive");
+        }
+        if (readsPerSecond <= 0 || writesPerSecond <= 0) {
+            throw new IllegalArgumentException("Rate limit rates must be positive");
+        }
+    }
+}
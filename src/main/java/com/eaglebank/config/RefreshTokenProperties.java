@@ -0,0 +1,20 @@
+package com.eaglebank.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Refresh Token Configuration
+ * Binds {@code eaglebank.refresh-token.*}
+ *
+ * @param validity      lifetime of each refresh token; rotation issues a fresh one
+ * @param purgeInterval how often expired tokens, used or not, are deleted
+ */
+@ConfigurationProperties("eaglebank.refresh-token")
+public record RefreshTokenProperties(
+        @DefaultValue("30d") Duration validity,
+        @DefaultValue("1h") Duration purgeInterval
+) {
+}
@@ -0,0 +1,28 @@
+package com.eaglebank.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Optimistic Lock Retry Configuration
+ * Binds {@code eaglebank.retry.optimistic-lock.*}
+ *
+ * @param maxAttempts    total attempts including the first one
+ * @param initialBackoff upper bound of the random delay before the first retry
+ * @param maxBackoff     cap on the upper bound as it doubles with each retry
+ */
+@ConfigurationProperties("eaglebank.retry.optimistic-lock")
+public record RetryProperties(
+        @DefaultValue("4") int maxAttempts,
+        @DefaultValue("200us") Duration initialBackoff,
+        @DefaultValue("20ms") Duration maxBackoff
+) {
+
+    public RetryProperties {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Retry max attempts must be at least 1");
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.eaglebank.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Set;
+
+/**
+ * Balance Striping Configuration
+ * Binds {@code eaglebank.striping.*}
+ *
+ * @param stripes  number of sub-balances given to each striped account
+ * @param accounts account numbers of the hot accounts to stripe at startup
+ */
+@ConfigurationProperties("eaglebank.striping")
+public record StripingProperties(
+        @DefaultValue("8") int stripes,
+        @DefaultValue Set<String> accounts
+) {
+}
@@ -0,0 +1,27 @@
+package com.eaglebank.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Token Revocation Configuration
+ * Binds {@code eaglebank.token-revocation.*}
+ *
+ * @param expectedRevocations unexpired revocations the Bloom filter is sized for
+ * @param falsePositiveRate   share of valid tokens that still need the exact check at that size
+ * @param refreshInterval     how often revocations made by other instances are picked up
+ * @param rebuildInterval     how often the filter is rebuilt without expired revocations
+ * @param refreshOverlap      how far before the previous refresh each one re-reads; must exceed the
+ *                            longest transaction revoking a token plus clock skew between instances
+ */
+@ConfigurationProperties("eaglebank.token-revocation")
+public record TokenRevocationProperties(
+        @DefaultValue("100000") long expectedRevocations,
+        @DefaultValue("0.01") double falsePositiveRate,
+        @DefaultValue("5s") Duration refreshInterval,
+        @DefaultValue("1h") Duration rebuildInterval,
+        @DefaultValue("5m") Duration refreshOverlap
+) {
+}
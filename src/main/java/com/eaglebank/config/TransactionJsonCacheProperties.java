@@ -0,0 +1,23 @@
+package com.eaglebank.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Transaction JSON Cache Configuration
+ * Binds {@code eaglebank.transaction-json-cache.*}
+ *
+ * @param maximumWeight serialized bytes kept before the least valuable transactions are evicted
+ */
+@ConfigurationProperties("eaglebank.transaction-json-cache")
+public record TransactionJsonCacheProperties(
+        @DefaultValue("32MB") DataSize maximumWeight
+) {
+
+    public TransactionJsonCacheProperties {
+        if (maximumWeight.isNegative()) {
+            throw new IllegalArgumentException("Transaction JSON cache maximum weight must not be negative");
+        }
+    }
+}
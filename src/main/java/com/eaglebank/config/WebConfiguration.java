@@ -0,0 +1,72 @@
+package com.eaglebank.config;
+
+import com.eaglebank.interfaces.rest.interceptor.UnknownAccountInterceptor;
+import com.eaglebank.interfaces.rest.json.PreSerializedJsonHttpMessageConverter;
+import com.eaglebank.interfaces.rest.negotiation.RepresentationTags;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.accept.ContentNegotiationManager;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.util.List;
+
+/**
+ * Web Configuration
+ * Registers handler interceptors, the writer for pre-serialized JSON bodies, the
+ * binary (CBOR, Smile) representations and their entity tags
+ * <p>
+ * The binary converters are built from Boot's {@link Jackson2ObjectMapperBuilder}, so
+ * they follow the same {@code spring.jackson.*} settings as JSON. Declared as beans,
+ * they take the place of Spring MVC's own, behind JSON, so JSON stays the default.
+ */
+@Configuration
+public class WebConfiguration implements WebMvcConfigurer {
+
+    private final UnknownAccountInterceptor unknownAccountInterceptor;
+
+    public WebConfiguration(UnknownAccountInterceptor unknownAccountInterceptor) {
+        this.unknownAccountInterceptor = unknownAccountInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(unknownAccountInterceptor)
+                .addPathPatterns("/v1/accounts/*", "/v1/accounts/*/transactions/**");
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(
+                builder.createXmlMapper(false).factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(
+                builder.createXmlMapper(false).factory(new SmileFactory()).build());
+    }
+
+    /**
+     * Negotiates with the handler adapter's converters, so the tag follows the
+     * representation actually written
+     */
+    @Bean
+    public RepresentationTags representationTags(ContentNegotiationManager mvcContentNegotiationManager,
+                                                 RequestMappingHandlerAdapter requestMappingHandlerAdapter) {
+        return new RepresentationTags(
+                mvcContentNegotiationManager, requestMappingHandlerAdapter.getMessageConverters());
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new PreSerializedJsonHttpMessageConverter());
+    }
+}
@@ -27,6 +27,10 @@ public class Account {
     private Money balance;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private int balanceStripes;
+    // Version of the stored account; it changes with every write to the account row
+    @EqualsAndHashCode.Exclude
+    private long version;
 
     private Account(AccountNumber accountNumber, SortCode sortCode, UserId ownerId,
                     String name, AccountType type) {
@@ -74,6 +78,17 @@ public class Account {
         return account;
     }
 
+    public static Account reconstitute(AccountNumber accountNumber, SortCode sortCode,
+                                       UserId ownerId, String accountName, AccountType accountType,
+                                       AccountStatus status, Money balance,
+                                       LocalDateTime createdAt, LocalDateTime updatedAt,
+                                       int balanceStripes) {
+        Account account = reconstitute(accountNumber, sortCode, ownerId, accountName, accountType,
+                status, balance, createdAt, updatedAt);
+        account.balanceStripes = balanceStripes;
+        return account;
+    }
+
     public void deposit(Money amount) {
         if (!status.canPerformTransactions()) {
             throw new AccountGenericException("Cannot deposit to account with status: " + status);
@@ -134,6 +149,28 @@ public class Account {
         this.updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * Spreads the balance over {@code stripes} sub-balances so concurrent deposits
+     * do not all contend for one row. The balance is still their sum.
+     */
+    public void stripeBalance(int stripes) {
+        if (status == AccountStatus.CLOSED) {
+            throw new AccountGenericException("Cannot stripe the balance of a closed account");
+        }
+        if (isStriped()) {
+            throw new AccountGenericException("Account balance is already striped");
+        }
+        if (stripes < 2) {
+            throw new AccountGenericException("Balance stripes must be at least 2");
+        }
+        this.balanceStripes = stripes;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public boolean isStriped() {
+        return balanceStripes > 0;
+    }
+
     public boolean isOwnedBy(UserId userId) {
         return this.ownerId.equals(userId);
     }
@@ -33,6 +33,23 @@ public class AccountNumber {
         return new AccountNumber(value);
     }
 
+    /**
+     * Account number held in a primitive: the six digits after the prefix
+     */
+    public static AccountNumber ofInt(int digits) {
+        if (digits < 0 || digits > 999999) {
+            throw new IllegalArgumentException("Account number digits must be between 0 and 999999");
+        }
+        return new AccountNumber(PREFIX + String.format("%06d", digits));
+    }
+
+    /**
+     * The six digits after the prefix, so the number fits in an int
+     */
+    public int toInt() {
+        return Integer.parseInt(value, PREFIX.length(), TOTAL_LENGTH, 10);
+    }
+
     public static AccountNumber generate() {
         int randomPart = RANDOM.nextInt(1000000); // 0 to 999999
         String accountNumber = PREFIX + String.format("%06d", randomPart);
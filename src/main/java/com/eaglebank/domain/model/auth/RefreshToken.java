@@ -0,0 +1,50 @@
+package com.eaglebank.domain.model.auth;
+
+import com.eaglebank.domain.model.user.Email;
+import com.eaglebank.domain.model.user.UserId;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * A stored refresh token.
+ * <p>
+ * Only a hash of the token's secret is kept. Tokens are single-use: refreshing
+ * marks the token used and issues its successor in the same family, so a token
+ * presented a second time reveals that it was copied and the whole family can be
+ * revoked.
+ */
+@Value
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class RefreshToken {
+    String id;
+    String familyId;
+    UserId userId;
+    Email email;
+    String secretHash;
+    LocalDateTime expiresAt;
+    LocalDateTime usedAt;
+
+    public static RefreshToken issue(String id, String familyId, UserId userId, Email email,
+                                     String secretHash, LocalDateTime expiresAt) {
+        if (id == null || familyId == null || secretHash == null || expiresAt == null) {
+            throw new IllegalArgumentException("Refresh token id, family, secret hash and expiry are required");
+        }
+        return new RefreshToken(id, familyId, userId, email, secretHash, expiresAt, null);
+    }
+
+    public static RefreshToken reconstitute(String id, String familyId, UserId userId, Email email,
+                                            String secretHash, LocalDateTime expiresAt, LocalDateTime usedAt) {
+        return new RefreshToken(id, familyId, userId, email, secretHash, expiresAt, usedAt);
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !now.isBefore(expiresAt);
+    }
+
+    public boolean isUsed() {
+        return usedAt != null;
+    }
+}
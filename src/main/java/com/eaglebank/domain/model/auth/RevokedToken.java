@@ -0,0 +1,29 @@
+package com.eaglebank.domain.model.auth;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * An access token revoked before its expiry, identified by its {@code jti} claim.
+ * It only needs to be remembered until the token would have expired anyway.
+ */
+@Value
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class RevokedToken {
+    String tokenId;
+    LocalDateTime expiresAt;
+    LocalDateTime revokedAt;
+
+    public static RevokedToken of(String tokenId, LocalDateTime expiresAt, LocalDateTime revokedAt) {
+        if (tokenId == null || tokenId.isBlank()) {
+            throw new IllegalArgumentException("Revoked token id cannot be null or empty");
+        }
+        if (expiresAt == null || revokedAt == null) {
+            throw new IllegalArgumentException("Revoked token expiry and revocation time are required");
+        }
+        return new RevokedToken(tokenId, expiresAt, revokedAt);
+    }
+}
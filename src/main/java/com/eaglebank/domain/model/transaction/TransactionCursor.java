@@ -0,0 +1,53 @@
+package com.eaglebank.domain.model.transaction;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Value Object representing a position in an account's transaction history
+ * <p>
+ * Points at the last transaction of a page by its (createdAt, id) key. The
+ * string form is opaque to clients: URL-safe Base64 of "{createdAt}|{id}".
+ */
+@Value
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class TransactionCursor {
+    private static final char SEPARATOR = '|';
+
+    LocalDateTime createdAt;
+    TransactionId transactionId;
+
+    public static TransactionCursor of(String value) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Transaction cursor cannot be null or empty");
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid transaction cursor");
+            }
+            return new TransactionCursor(
+                    LocalDateTime.parse(decoded.substring(0, separator)),
+                    TransactionId.of(decoded.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid transaction cursor");
+        }
+    }
+
+    public static TransactionCursor after(Transaction transaction) {
+        return new TransactionCursor(transaction.getCreatedAt(), transaction.getId());
+    }
+
+    public String getValue() {
+        String raw = createdAt.toString() + SEPARATOR + transactionId.getValue();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,22 @@
+package com.eaglebank.domain.repository;
+
+/**
+ * Account Number Block Repository Interface (Port)
+ * <p>
+ * Persistent high-water mark of the account number sequence, from which each
+ * instance reserves blocks of positions to allocate on its own.
+ */
+public interface AccountNumberBlockRepository {
+
+    /**
+     * Reserves the next {@code size} positions of the sequence
+     *
+     * @return the first reserved position
+     */
+    long reserve(int size);
+
+    /**
+     * The first position no instance has reserved yet, 0 before the first reservation
+     */
+    long highWaterMark();
+}
@@ -2,10 +2,13 @@ package com.eaglebank.domain.repository;
 
 import com.eaglebank.domain.model.account.Account;
 import com.eaglebank.domain.model.account.AccountNumber;
+import com.eaglebank.domain.model.account.Money;
 import com.eaglebank.domain.model.user.UserId;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 
 /**
  * Account Repository Interface (Port)
@@ -20,11 +23,23 @@ public interface AccountRepository {
      */
     Account save(Account account);
 
+    /**
+     * Overwrites the stored balance of an account, bumping its version.
+     * Used to project balances held elsewhere as the source of truth.
+     */
+    void updateBalance(AccountNumber accountNumber, Money balance);
+
     /**
      * Finds an account by account number
      */
     Optional<Account> findByAccountNumber(AccountNumber accountNumber);
 
+    /**
+     * Reads the stored number of balance stripes, 0 when the account is not striped.
+     * Always queries the store, even for an account already loaded in this transaction.
+     */
+    int findBalanceStripes(AccountNumber accountNumber);
+
     /**
      * Finds all accounts owned by a specific user
      */
@@ -40,6 +55,27 @@ public interface AccountRepository {
      */
     long countByOwnerId(UserId ownerId);
 
+    /**
+     * False when this instance has not seen the account, answered without a database round trip.
+     * An account created on another instance since the last refresh is not seen yet.
+     */
+    boolean mightExist(AccountNumber accountNumber);
+
+    /**
+     * Same answer as {@link #mightExist}, without counting it as a lookup in the existence metrics
+     */
+    boolean isKnownAccountNumber(AccountNumber accountNumber);
+
+    /**
+     * Streams the owner of every account, reading only those two columns
+     */
+    void forEachOwnership(BiConsumer<AccountNumber, UserId> consumer);
+
+    /**
+     * Streams the owner of every account created at or after the given time
+     */
+    void forEachOwnershipCreatedSince(LocalDateTime since, BiConsumer<AccountNumber, UserId> consumer);
+
     /**
      * Deletes an account by account number
      */
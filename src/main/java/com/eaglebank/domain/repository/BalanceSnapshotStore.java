@@ -0,0 +1,33 @@
+package com.eaglebank.domain.repository;
+
+import com.eaglebank.domain.model.account.AccountNumber;
+import com.eaglebank.domain.model.account.Money;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Balance Snapshot Store Interface (Port)
+ * <p>
+ * Keeps the latest point-in-time copy of in-memory balances, so recovery only
+ * replays the journal entries written after it.
+ */
+public interface BalanceSnapshotStore {
+
+    /**
+     * Loads the latest snapshot, if one was ever saved
+     */
+    Optional<Snapshot> load();
+
+    /**
+     * Replaces the latest snapshot
+     */
+    void save(Snapshot snapshot);
+
+    /**
+     * @param sequence last journal sequence reflected in the balances
+     * @param balances balance of every account held in memory
+     */
+    record Snapshot(long sequence, Map<AccountNumber, Money> balances) {
+    }
+}
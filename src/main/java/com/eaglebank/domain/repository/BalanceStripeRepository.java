@@ -0,0 +1,47 @@
+package com.eaglebank.domain.repository;
+
+import com.eaglebank.domain.model.account.AccountNumber;
+import com.eaglebank.domain.model.account.Money;
+
+import java.util.Currency;
+
+/**
+ * Balance Stripe Repository Interface (Port)
+ * <p>
+ * Stores the sub-balances of a striped account. Each stripe is adjusted in place,
+ * so postings to different stripes of one account do not contend.
+ */
+public interface BalanceStripeRepository {
+
+    /**
+     * Creates the stripes of an account, with the opening balance on the first stripe
+     */
+    void create(AccountNumber accountNumber, int stripes, Money openingBalance);
+
+    /**
+     * Adds the amount to one stripe
+     */
+    void credit(AccountNumber accountNumber, int stripe, Money amount);
+
+    /**
+     * Subtracts the amount from one stripe if that stripe covers it
+     *
+     * @return false when the stripe holds less than the amount
+     */
+    boolean debit(AccountNumber accountNumber, int stripe, Money amount);
+
+    /**
+     * Locks every stripe of the account until the end of the transaction and returns their total
+     */
+    Money lockTotal(AccountNumber accountNumber, Currency currency);
+
+    /**
+     * Moves the whole balance onto the first stripe; stripes must be locked by {@link #lockTotal}
+     */
+    void consolidate(AccountNumber accountNumber, Money balance);
+
+    /**
+     * Deletes the stripes of an account
+     */
+    void deleteByAccountNumber(AccountNumber accountNumber);
+}
@@ -0,0 +1,43 @@
+package com.eaglebank.domain.repository;
+
+import com.eaglebank.domain.model.transaction.Transaction;
+
+import java.util.function.Consumer;
+
+/**
+ * Posting Journal Interface (Port)
+ * <p>
+ * Append-only, durable log of postings. Each entry gets the next sequence number;
+ * an entry is durable once {@link #awaitDurable} returns for its sequence.
+ */
+public interface PostingJournal {
+
+    /**
+     * Appends a posting; it is not yet durable
+     */
+    Entry append(Transaction transaction);
+
+    /**
+     * Blocks until every entry up to and including the sequence is on disk.
+     * Throws {@link IllegalStateException} when the journal failed before it got there.
+     */
+    void awaitDurable(long sequence);
+
+    /**
+     * Reads back, in order, every entry after the given sequence
+     */
+    void replay(long afterSequence, Consumer<Entry> consumer);
+
+    /**
+     * Sequence of the last appended entry, or 0 when the journal is empty
+     */
+    long lastSequence();
+
+    /**
+     * Discards entries up to and including the sequence, once they are covered by a snapshot
+     */
+    void truncate(long throughSequence);
+
+    record Entry(long sequence, Transaction transaction) {
+    }
+}
@@ -0,0 +1,46 @@
+package com.eaglebank.domain.repository;
+
+import com.eaglebank.domain.model.auth.RefreshToken;
+import com.eaglebank.domain.model.user.UserId;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Refresh Token Repository Interface (Port)
+ * <p>
+ * Defines the contract for persisting and retrieving refresh tokens.
+ * Tokens are looked up by their id only; the secret is checked against the stored hash.
+ */
+public interface RefreshTokenRepository {
+
+    /**
+     * Saves a newly issued refresh token
+     */
+    RefreshToken save(RefreshToken refreshToken);
+
+    /**
+     * Finds a refresh token by ID
+     */
+    Optional<RefreshToken> findById(String id);
+
+    /**
+     * Marks an unused token as used; false when it was already used, e.g. by a concurrent refresh
+     */
+    boolean markUsed(String id, LocalDateTime usedAt);
+
+    /**
+     * Deletes every token descended from the same login
+     */
+    void deleteByFamilyId(String familyId);
+
+    /**
+     * Deletes every token of a user
+     */
+    void deleteByUserId(UserId userId);
+
+    /**
+     * Deletes tokens that have expired, used or not
+     */
+    void deleteExpired(LocalDateTime now);
+}
@@ -0,0 +1,40 @@
+package com.eaglebank.domain.repository;
+
+import com.eaglebank.domain.model.auth.RevokedToken;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Revoked Token Repository Interface (Port)
+ * <p>
+ * The exact record of revoked access tokens, consulted only when a faster
+ * in-memory check cannot rule a token out.
+ */
+public interface RevokedTokenRepository {
+
+    /**
+     * Records a revocation; revoking the same token twice is a no-op
+     */
+    void save(RevokedToken revokedToken);
+
+    /**
+     * Checks if a token is revoked
+     */
+    boolean existsByTokenId(String tokenId);
+
+    /**
+     * Ids of tokens revoked at or after the given time, by any instance
+     */
+    List<String> findTokenIdsRevokedSince(LocalDateTime since);
+
+    /**
+     * Ids of all revoked tokens that have not expired yet
+     */
+    List<String> findUnexpiredTokenIds(LocalDateTime now);
+
+    /**
+     * Forgets revocations of tokens that have expired on their own
+     */
+    void deleteExpired(LocalDateTime now);
+}
@@ -1,8 +1,12 @@
 package com.eaglebank.domain.repository;
 
 import com.eaglebank.domain.model.account.AccountNumber;
+import com.eaglebank.domain.model.account.Money;
 import com.eaglebank.domain.model.transaction.Transaction;
+import com.eaglebank.domain.model.transaction.TransactionCursor;
 import com.eaglebank.domain.model.transaction.TransactionId;
+import com.eaglebank.domain.model.transaction.TransactionReference;
+import com.eaglebank.domain.model.transaction.TransactionType;
 
 import java.util.List;
 import java.util.Optional;
@@ -20,14 +24,28 @@ public interface TransactionRepository {
      */
     Transaction save(Transaction transaction);
 
+    /**
+     * Applies a posting in one statement: adjusts the balance of an active, unstriped account by
+     * the amount, refusing a withdrawal the balance cannot cover, and saves the transaction with
+     * the resulting balance. Returns empty when the guard rejected the posting.
+     */
+    Optional<Transaction> postAtomically(TransactionId id, AccountNumber accountNumber, TransactionType type,
+                                         Money amount, TransactionReference reference);
+
+    /**
+     * Checks if a transaction has been saved
+     */
+    boolean existsById(TransactionId transactionId);
+
     /**
      * Finds a transaction by ID
      */
     Optional<Transaction> findById(TransactionId transactionId);
 
     /**
-     * Finds all transactions for a specific account
+     * Finds up to {@code limit} transactions for a specific account, newest first,
+     * starting after the given cursor ({@code null} for the first page)
      */
-    List<Transaction> findByAccountNumber(AccountNumber accountNumber);
+    List<Transaction> findByAccountNumber(AccountNumber accountNumber, TransactionCursor after, int limit);
 
 }
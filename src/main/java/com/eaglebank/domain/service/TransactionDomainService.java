@@ -1,5 +1,6 @@
 package com.eaglebank.domain.service;
 
+import com.eaglebank.domain.exception.AccountGenericException;
 import com.eaglebank.domain.exception.InsufficientFundsException;
 import com.eaglebank.domain.model.account.Account;
 import com.eaglebank.domain.model.account.Money;
@@ -56,6 +57,18 @@ public class TransactionDomainService {
         );
     }
 
+    /**
+     * Validates a posting whose balance change is applied outside the aggregate,
+     * e.g. by a conditional update in the store that also guards against overdrawing
+     */
+    public void validatePosting(Account account, Money amount) {
+        validateTransactionAmount(amount);
+
+        if (!account.getStatus().canPerformTransactions()) {
+            throw new AccountGenericException("Cannot post to account with status: " + account.getStatus());
+        }
+    }
+
     /**
      * Validates transaction amount
      */
@@ -0,0 +1,91 @@
+package com.eaglebank.infrastructure.journal;
+
+import com.eaglebank.config.JournalProperties;
+import com.eaglebank.domain.model.account.AccountNumber;
+import com.eaglebank.domain.model.account.Money;
+import com.eaglebank.domain.repository.BalanceSnapshotStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Balance snapshot kept in a single file next to the journal.
+ * <p>
+ * A new snapshot is written and synced to a temporary file, then moved over the
+ * previous one atomically, so a crash leaves either the old or the new snapshot.
+ */
+@Component
+@ConditionalOnProperty(prefix = "eaglebank.posting", name = "mode", havingValue = "journaled")
+public class FileBalanceSnapshotStore implements BalanceSnapshotStore {
+
+    private static final String SNAPSHOT_FILE = "balances.snapshot";
+
+    private final Path file;
+    private final Path temporaryFile;
+
+    public FileBalanceSnapshotStore(JournalProperties properties) {
+        this.file = properties.directory().resolve(SNAPSHOT_FILE);
+        this.temporaryFile = properties.directory().resolve(SNAPSHOT_FILE + ".tmp");
+    }
+
+    @Override
+    public Optional<Snapshot> load() {
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        try (InputStream stream = Files.newInputStream(file);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(stream))) {
+            long sequence = in.readLong();
+            int count = in.readInt();
+            Map<AccountNumber, Money> balances = new HashMap<>(count);
+            for (int i = 0; i < count; i++) {
+                AccountNumber accountNumber = AccountNumber.of(in.readUTF());
+                BigDecimal amount = new BigDecimal(in.readUTF());
+                balances.put(accountNumber, Money.of(amount, Currency.getInstance(in.readUTF())));
+            }
+            return Optional.of(new Snapshot(sequence, balances));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read balance snapshot " + file, e);
+        }
+    }
+
+    @Override
+    public void save(Snapshot snapshot) {
+        try (FileOutputStream stream = new FileOutputStream(temporaryFile.toFile());
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream))) {
+            out.writeLong(snapshot.sequence());
+            out.writeInt(snapshot.balances().size());
+            for (Map.Entry<AccountNumber, Money> balance : snapshot.balances().entrySet()) {
+                out.writeUTF(balance.getKey().getValue());
+                out.writeUTF(balance.getValue().getAmount().toPlainString());
+                out.writeUTF(balance.getValue().getCurrency().getCurrencyCode());
+            }
+            out.flush();
+            stream.getFD().sync();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write balance snapshot " + temporaryFile, e);
+        }
+
+        try {
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot replace balance snapshot " + file, e);
+        }
+    }
+}
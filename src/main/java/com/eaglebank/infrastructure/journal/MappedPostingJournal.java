@@ -0,0 +1,326 @@
+package com.eaglebank.infrastructure.journal;
+
+import com.eaglebank.config.JournalProperties;
+import com.eaglebank.domain.model.transaction.Transaction;
+import com.eaglebank.domain.repository.PostingJournal;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Posting journal on memory-mapped segment files.
+ * <p>
+ * Each record is {@code [length][sequence][payload][crc32c]}. The length is written
+ * last, so a record torn by a crash reads as the end of the journal. A background
+ * flusher forces the mapped segment to disk whenever callers are waiting, so every
+ * caller that appended while the previous force was running shares the next one
+ * (group fsync).
+ * <p>
+ * Closing flushes every appended record, so callers waiting at that point still see
+ * them become durable. A failed flush fails the journal for good: waiters and later
+ * appends get an exception, and nothing appended after the last successful flush is
+ * reported durable.
+ * <p>
+ * Segments are named after their first sequence. A new segment is started on
+ * every open and when the current one is full; segments covered by a snapshot
+ * are deleted by {@link #truncate}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "eaglebank.posting", name = "mode", havingValue = "journaled")
+public class MappedPostingJournal implements PostingJournal, AutoCloseable {
+
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final int HEADER_BYTES = Integer.BYTES + Long.BYTES;
+    private static final int TRAILER_BYTES = Integer.BYTES;
+    private static final long IDLE_FLUSH_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final Path directory;
+    private final int segmentSize;
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final ReentrantLock durableLock = new ReentrantLock();
+    private final Condition flushRequested = durableLock.newCondition();
+    private final Condition durableAdvanced = durableLock.newCondition();
+    private final Thread flusher;
+
+    private MappedByteBuffer segment;
+    private volatile long lastSequence;
+    private volatile long durableSequence;
+    private volatile boolean closed;
+    private volatile RuntimeException failure;
+
+    public MappedPostingJournal(JournalProperties properties) {
+        this.directory = properties.directory();
+        this.segmentSize = (int) properties.segmentSize().toBytes();
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create journal directory " + directory, e);
+        }
+
+        long[] last = {0};
+        for (Path path : segments()) {
+            scan(path, (sequence, payload) -> last[0] = sequence);
+        }
+        this.lastSequence = last[0];
+        this.durableSequence = last[0];
+        this.segment = openSegment(last[0] + 1);
+        this.flusher = Thread.ofVirtual().name("journal-flusher").start(this::flushLoop);
+    }
+
+    @Override
+    public Entry append(Transaction transaction) {
+        byte[] payload = PostingRecordCodec.encode(transaction);
+        int recordSize = HEADER_BYTES + payload.length + TRAILER_BYTES;
+        if (recordSize > segmentSize) {
+            throw new IllegalArgumentException("Posting does not fit in a journal segment");
+        }
+
+        appendLock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Posting journal is closed");
+            }
+            if (failure != null) {
+                throw new IllegalStateException("Posting journal failed to flush", failure);
+            }
+            if (segment.remaining() < recordSize) {
+                rotate();
+            }
+            long sequence = lastSequence + 1;
+            int position = segment.position();
+
+            segment.putLong(position + Integer.BYTES, sequence);
+            segment.put(position + HEADER_BYTES, payload);
+            segment.putInt(position + HEADER_BYTES + payload.length, checksum(sequence, payload));
+            // Length last: it marks the record complete
+            segment.putInt(position, payload.length);
+            segment.position(position + recordSize);
+
+            lastSequence = sequence;
+            return new Entry(sequence, transaction);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    @Override
+    public void awaitDurable(long sequence) {
+        if (durableSequence >= sequence) {
+            return;
+        }
+        durableLock.lock();
+        try {
+            // Uninterruptible: an appended record is flushed either way, so giving up early
+            // would report a posting as failed that is about to become durable
+            while (durableSequence < sequence) {
+                if (failure != null) {
+                    throw new IllegalStateException("Posting journal failed to flush", failure);
+                }
+                flushRequested.signal();
+                durableAdvanced.awaitUninterruptibly();
+            }
+        } finally {
+            durableLock.unlock();
+        }
+    }
+
+    @Override
+    public void replay(long afterSequence, Consumer<Entry> consumer) {
+        for (Path path : segments()) {
+            scan(path, (sequence, payload) -> {
+                if (sequence > afterSequence) {
+                    consumer.accept(new Entry(sequence, PostingRecordCodec.decode(payload)));
+                }
+            });
+        }
+    }
+
+    @Override
+    public long lastSequence() {
+        return lastSequence;
+    }
+
+    @Override
+    public void truncate(long throughSequence) {
+        List<Path> segments = segments();
+        // The newest segment is the one being appended to and is always kept
+        for (int i = 0; i < segments.size() - 1; i++) {
+            if (firstSequence(segments.get(i + 1)) - 1 > throughSequence) {
+                return;
+            }
+            try {
+                Files.deleteIfExists(segments.get(i));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot delete journal segment " + segments.get(i), e);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        flusher.interrupt();
+        appendLock.lock();
+        try {
+            force(segment);
+            advanceDurable(lastSequence);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private void flushLoop() {
+        while (!closed) {
+            durableLock.lock();
+            try {
+                if (durableSequence >= lastSequence) {
+                    flushRequested.awaitNanos(IDLE_FLUSH_NANOS);
+                }
+            } catch (InterruptedException e) {
+                return;
+            } finally {
+                durableLock.unlock();
+            }
+
+            MappedByteBuffer current;
+            long target;
+            appendLock.lock();
+            try {
+                current = segment;
+                target = lastSequence;
+            } finally {
+                appendLock.unlock();
+            }
+            if (target > durableSequence) {
+                try {
+                    force(current);
+                } catch (RuntimeException e) {
+                    return;
+                }
+                advanceDurable(target);
+            }
+        }
+    }
+
+    private void advanceDurable(long sequence) {
+        durableLock.lock();
+        try {
+            if (sequence > durableSequence) {
+                durableSequence = sequence;
+                durableAdvanced.signalAll();
+            }
+        } finally {
+            durableLock.unlock();
+        }
+    }
+
+    /**
+     * Forces the segment to disk, failing the journal if that does not succeed
+     */
+    private void force(MappedByteBuffer buffer) {
+        try {
+            buffer.force();
+        } catch (RuntimeException e) {
+            durableLock.lock();
+            try {
+                failure = e;
+                durableAdvanced.signalAll();
+            } finally {
+                durableLock.unlock();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Seals the full segment and starts the next one; called with the append lock held
+     */
+    private void rotate() {
+        force(segment);
+        advanceDurable(lastSequence);
+        segment = openSegment(lastSequence + 1);
+    }
+
+    private MappedByteBuffer openSegment(long firstSequence) {
+        Path path = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, firstSequence, SEGMENT_SUFFIX));
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open journal segment " + path, e);
+        }
+    }
+
+    private List<Path> segments() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> path.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                    .filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot list journal segments in " + directory, e);
+        }
+    }
+
+    private static long firstSequence(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    /**
+     * Reads the complete records of a segment, stopping at the first empty or torn one
+     */
+    private static void scan(Path path, RecordConsumer consumer) {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read journal segment " + path, e);
+        }
+
+        int position = 0;
+        while (buffer.limit() - position >= HEADER_BYTES) {
+            int length = buffer.getInt(position);
+            if (length <= 0 || buffer.limit() - position < HEADER_BYTES + length + TRAILER_BYTES) {
+                return;
+            }
+            long sequence = buffer.getLong(position + Integer.BYTES);
+            byte[] payload = new byte[length];
+            buffer.get(position + HEADER_BYTES, payload);
+            if (buffer.getInt(position + HEADER_BYTES + length) != checksum(sequence, payload)) {
+                return;
+            }
+            consumer.accept(sequence, payload);
+            position += HEADER_BYTES + length + TRAILER_BYTES;
+        }
+    }
+
+    private static int checksum(long sequence, byte[] payload) {
+        CRC32C crc = new CRC32C();
+        crc.update(ByteBuffer.allocate(Long.BYTES).putLong(0, sequence));
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    @FunctionalInterface
+    private interface RecordConsumer {
+        void accept(long sequence, byte[] payload);
+    }
+}
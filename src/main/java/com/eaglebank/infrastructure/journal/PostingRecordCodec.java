@@ -0,0 +1,61 @@
+package com.eaglebank.infrastructure.journal;
+
+import com.eaglebank.domain.model.account.AccountNumber;
+import com.eaglebank.domain.model.account.Money;
+import com.eaglebank.domain.model.transaction.Transaction;
+import com.eaglebank.domain.model.transaction.TransactionId;
+import com.eaglebank.domain.model.transaction.TransactionReference;
+import com.eaglebank.domain.model.transaction.TransactionType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Currency;
+
+/**
+ * Binary form of a posting in the journal
+ */
+final class PostingRecordCodec {
+
+    private PostingRecordCodec() {
+    }
+
+    static byte[] encode(Transaction transaction) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeUTF(transaction.getId().getValue());
+            out.writeUTF(transaction.getAccountNumber().getValue());
+            out.writeUTF(transaction.getType().name());
+            out.writeUTF(transaction.getAmount().getAmount().toPlainString());
+            out.writeUTF(transaction.getBalanceAfter().getAmount().toPlainString());
+            out.writeUTF(transaction.getAmount().getCurrency().getCurrencyCode());
+            out.writeUTF(transaction.getReference().getValue());
+            out.writeUTF(transaction.getCreatedAt().toString());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static Transaction decode(byte[] record) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(record))) {
+            TransactionId id = TransactionId.of(in.readUTF());
+            AccountNumber accountNumber = AccountNumber.of(in.readUTF());
+            TransactionType type = TransactionType.valueOf(in.readUTF());
+            BigDecimal amount = new BigDecimal(in.readUTF());
+            BigDecimal balanceAfter = new BigDecimal(in.readUTF());
+            Currency currency = Currency.getInstance(in.readUTF());
+            TransactionReference reference = TransactionReference.of(in.readUTF());
+            LocalDateTime createdAt = LocalDateTime.parse(in.readUTF());
+            return Transaction.reconstitute(id, accountNumber, type,
+                    Money.of(amount, currency), Money.of(balanceAfter, currency), reference, createdAt);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.eaglebank.infrastructure.persistence.adapter;
+
+import com.eaglebank.domain.repository.AccountNumberBlockRepository;
+import com.eaglebank.infrastructure.persistence.entity.AccountNumberBlockEntity;
+import com.eaglebank.infrastructure.persistence.repository.AccountNumberBlockJpaRepository;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adapter implementation of AccountNumberBlockRepository
+ * <p>
+ * The first reservation creates the sequence row. Two instances racing to create
+ * it fail one of them on the primary key; its transaction is lost, so the
+ * allocator reserves again in a new one, which advances the row instead.
+ */
+@Component
+public class AccountNumberBlockRepositoryAdapter implements AccountNumberBlockRepository {
+
+    private static final String SEQUENCE = "account_number";
+
+    private final AccountNumberBlockJpaRepository jpaRepository;
+
+    public AccountNumberBlockRepositoryAdapter(AccountNumberBlockJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    public long reserve(int size) {
+        if (jpaRepository.advance(SEQUENCE, size) == 0) {
+            AccountNumberBlockEntity entity = new AccountNumberBlockEntity();
+            entity.setName(SEQUENCE);
+            entity.setNextPosition(size);
+            jpaRepository.saveAndFlush(entity);
+            return 0;
+        }
+        return jpaRepository.findNextPosition(SEQUENCE).orElseThrow() - size;
+    }
+
+    @Override
+    public long highWaterMark() {
+        return jpaRepository.findNextPosition(SEQUENCE).orElse(0L);
+    }
+}
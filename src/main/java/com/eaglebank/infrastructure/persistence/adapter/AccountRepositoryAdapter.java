@@ -2,61 +2,130 @@ package com.eaglebank.infrastructure.persistence.adapter;
 
 import com.eaglebank.domain.model.account.Account;
 import com.eaglebank.domain.model.account.AccountNumber;
+import com.eaglebank.domain.model.account.Money;
 import com.eaglebank.domain.model.user.UserId;
 import com.eaglebank.domain.repository.AccountRepository;
+import com.eaglebank.infrastructure.persistence.cache.AccountCache;
+import com.eaglebank.infrastructure.persistence.cache.KnownAccountNumbers;
 import com.eaglebank.infrastructure.persistence.entity.AccountEntity;
 import com.eaglebank.infrastructure.persistence.mapper.AccountPersistenceMapper;
+import com.eaglebank.infrastructure.persistence.repository.AccountBalanceStripeJpaRepository;
 import com.eaglebank.infrastructure.persistence.repository.AccountJpaRepository;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 /**
  * Adapter implementation of AccountRepository
  * Translates between domain model and persistence layer
+ * <p>
+ * Single-account lookups in read-only transactions are served from the
+ * {@link AccountCache}. Read-write transactions always read the row, so a write
+ * never starts from a cached balance that the version check would not catch.
+ * <p>
+ * {@link KnownAccountNumbers} follows inserts and deletes so the existence check
+ * in front of the account endpoints needs no query. It is not consulted here: an
+ * account created on another instance is missing from it until the next refresh.
  */
 @Component
 public class AccountRepositoryAdapter implements AccountRepository {
 
     private final AccountJpaRepository jpaRepository;
+    private final AccountBalanceStripeJpaRepository stripeJpaRepository;
     private final AccountPersistenceMapper mapper;
+    private final AccountCache cache;
+    private final KnownAccountNumbers knownAccountNumbers;
 
     public AccountRepositoryAdapter(AccountJpaRepository jpaRepository,
-                                    AccountPersistenceMapper mapper) {
+                                    AccountBalanceStripeJpaRepository stripeJpaRepository,
+                                    AccountPersistenceMapper mapper,
+                                    AccountCache cache,
+                                    KnownAccountNumbers knownAccountNumbers) {
         this.jpaRepository = jpaRepository;
+        this.stripeJpaRepository = stripeJpaRepository;
         this.mapper = mapper;
+        this.cache = cache;
+        this.knownAccountNumbers = knownAccountNumbers;
     }
 
+    /**
+     * Saves an account.
+     * <p>
+     * An account loaded earlier in the same transaction is still managed, so the
+     * lookup below is served from the persistence context without a query and the
+     * changes are flushed as one versioned UPDATE of the changed columns. The
+     * caller's already-loaded state is returned instead of re-reading the row.
+     * <p>
+     * Once committed, the cache is refreshed with the saved state at its new version.
+     */
     @Override
     public Account save(Account account) {
+        long readStamp = cache.readStamp();
         Optional<AccountEntity> existingEntity = jpaRepository
-                .findByAccountNumber(account.getAccountNumber().getValue());
+                .findById(account.getAccountNumber().getValue());
 
-        AccountEntity entityToSave;
         if (existingEntity.isPresent()) {
-            entityToSave = existingEntity.get();
-            mapper.updateEntity(account, entityToSave);
-        } else {
-            entityToSave = mapper.toEntity(account);
+            AccountEntity entity = existingEntity.get();
+            mapper.updateEntity(account, entity);
+            // No-op merge when managed; only does work for a detached entity outside a transaction
+            jpaRepository.save(entity);
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                cache.putAfterCommit(account, entity::getVersion, readStamp);
+            } else {
+                // The merge bumped the version on a copy, not on this entity
+                cache.invalidateAfterCommit(account.getAccountNumber());
+            }
+            return account;
         }
 
-        AccountEntity savedEntity = jpaRepository.save(entityToSave);
+        AccountEntity savedEntity = jpaRepository.save(mapper.toEntity(account));
+        knownAccountNumbers.add(account.getAccountNumber());
+        // Clears anything left behind by a previous account with the same number
+        cache.invalidateAfterCommit(account.getAccountNumber());
         return mapper.toDomain(savedEntity);
     }
 
+    @Override
+    public void updateBalance(AccountNumber accountNumber, Money balance) {
+        jpaRepository.updateBalance(accountNumber.getValue(), balance.getAmount());
+        cache.invalidateAfterCommit(accountNumber);
+    }
+
     @Override
     public Optional<Account> findByAccountNumber(AccountNumber accountNumber) {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            Optional<Account> cached = cache.get(accountNumber);
+            if (cached.isPresent()) {
+                return cached;
+            }
+        }
+
+        long readStamp = cache.readStamp();
         return jpaRepository.findById(accountNumber.getValue())
-                .map(mapper::toDomain);
+                .map(entity -> {
+                    Account account = toDomain(entity);
+                    long version = entity.getVersion();
+                    cache.putAfterCommit(account, () -> version, readStamp);
+                    return account;
+                });
+    }
+
+    @Override
+    public int findBalanceStripes(AccountNumber accountNumber) {
+        // A scalar query, so it is not answered from the persistence context
+        return jpaRepository.findBalanceStripes(accountNumber.getValue()).orElse(0);
     }
 
     @Override
     public List<Account> findByOwnerId(UserId ownerId) {
         return jpaRepository.findByOwnerId(ownerId.getValue())
                 .stream()
-                .map(mapper::toDomain)
+                .map(this::toDomain)
                 .collect(Collectors.toList());
     }
 
@@ -70,8 +139,45 @@ public class AccountRepositoryAdapter implements AccountRepository {
         return jpaRepository.countByOwnerId(ownerId.getValue());
     }
 
+    @Override
+    public boolean mightExist(AccountNumber accountNumber) {
+        return knownAccountNumbers.mightExist(accountNumber);
+    }
+
+    @Override
+    public boolean isKnownAccountNumber(AccountNumber accountNumber) {
+        return knownAccountNumbers.contains(accountNumber);
+    }
+
+    @Override
+    public void forEachOwnership(BiConsumer<AccountNumber, UserId> consumer) {
+        jpaRepository.findAllOwnerships().forEach(ownership -> consumer.accept(
+                AccountNumber.of(ownership.getAccountNumber()),
+                UserId.of(ownership.getOwnerId())));
+    }
+
+    @Override
+    public void forEachOwnershipCreatedSince(LocalDateTime since, BiConsumer<AccountNumber, UserId> consumer) {
+        jpaRepository.findOwnershipsCreatedSince(since).forEach(ownership -> consumer.accept(
+                AccountNumber.of(ownership.getAccountNumber()),
+                UserId.of(ownership.getOwnerId())));
+    }
+
     @Override
     public void deleteByAccountNumber(AccountNumber accountNumber) {
+        stripeJpaRepository.deleteByAccountNumber(accountNumber.getValue());
         jpaRepository.deleteById(accountNumber.getValue());
+        cache.invalidateAfterCommit(accountNumber);
+        knownAccountNumbers.removeAfterCommit(accountNumber);
+    }
+
+    /**
+     * A striped account's balance is the total of its stripes
+     */
+    private Account toDomain(AccountEntity entity) {
+        if (entity.getBalanceStripes() == null) {
+            return mapper.toDomain(entity);
+        }
+        return mapper.toDomain(entity, stripeJpaRepository.sumBalance(entity.getAccountNumber()));
     }
 }
@@ -0,0 +1,70 @@
+package com.eaglebank.infrastructure.persistence.adapter;
+
+import com.eaglebank.domain.model.account.AccountNumber;
+import com.eaglebank.domain.model.account.Money;
+import com.eaglebank.domain.repository.BalanceStripeRepository;
+import com.eaglebank.infrastructure.persistence.entity.AccountBalanceStripeEntity;
+import com.eaglebank.infrastructure.persistence.repository.AccountBalanceStripeJpaRepository;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+
+/**
+ * Adapter implementation of BalanceStripeRepository
+ */
+@Component
+public class BalanceStripeRepositoryAdapter implements BalanceStripeRepository {
+
+    private final AccountBalanceStripeJpaRepository jpaRepository;
+
+    public BalanceStripeRepositoryAdapter(AccountBalanceStripeJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    public void create(AccountNumber accountNumber, int stripes, Money openingBalance) {
+        List<AccountBalanceStripeEntity> entities = new ArrayList<>(stripes);
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            AccountBalanceStripeEntity entity = new AccountBalanceStripeEntity();
+            entity.setAccountNumber(accountNumber.getValue());
+            entity.setStripe(stripe);
+            entity.setBalance(stripe == 0 ? openingBalance.getAmount() : BigDecimal.ZERO);
+            entities.add(entity);
+        }
+        jpaRepository.saveAll(entities);
+        jpaRepository.flush();
+    }
+
+    @Override
+    public void credit(AccountNumber accountNumber, int stripe, Money amount) {
+        if (jpaRepository.credit(accountNumber.getValue(), stripe, amount.getAmount()) != 1) {
+            throw new IllegalStateException("Missing balance stripe " + stripe + " of account " + accountNumber.getValue());
+        }
+    }
+
+    @Override
+    public boolean debit(AccountNumber accountNumber, int stripe, Money amount) {
+        return jpaRepository.debit(accountNumber.getValue(), stripe, amount.getAmount()) == 1;
+    }
+
+    @Override
+    public Money lockTotal(AccountNumber accountNumber, Currency currency) {
+        BigDecimal total = jpaRepository.lockBalances(accountNumber.getValue())
+                .stream()
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return Money.of(total, currency);
+    }
+
+    @Override
+    public void consolidate(AccountNumber accountNumber, Money balance) {
+        jpaRepository.consolidate(accountNumber.getValue(), balance.getAmount());
+    }
+
+    @Override
+    public void deleteByAccountNumber(AccountNumber accountNumber) {
+        jpaRepository.deleteByAccountNumber(accountNumber.getValue());
+    }
+}
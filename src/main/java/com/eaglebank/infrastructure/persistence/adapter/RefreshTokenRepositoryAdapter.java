@@ -0,0 +1,60 @@
+package com.eaglebank.infrastructure.persistence.adapter;
+
+import com.eaglebank.domain.model.auth.RefreshToken;
+import com.eaglebank.domain.model.user.UserId;
+import com.eaglebank.domain.repository.RefreshTokenRepository;
+import com.eaglebank.infrastructure.persistence.mapper.RefreshTokenPersistenceMapper;
+import com.eaglebank.infrastructure.persistence.repository.RefreshTokenJpaRepository;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Adapter implementation of RefreshTokenRepository
+ * Translates between domain model and persistence layer
+ */
+@Component
+public class RefreshTokenRepositoryAdapter implements RefreshTokenRepository {
+
+    private final RefreshTokenJpaRepository jpaRepository;
+    private final RefreshTokenPersistenceMapper mapper;
+
+    public RefreshTokenRepositoryAdapter(RefreshTokenJpaRepository jpaRepository,
+                                         RefreshTokenPersistenceMapper mapper) {
+        this.jpaRepository = jpaRepository;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public RefreshToken save(RefreshToken refreshToken) {
+        var savedEntity = jpaRepository.save(mapper.toEntity(refreshToken));
+        return mapper.toDomain(savedEntity);
+    }
+
+    @Override
+    public Optional<RefreshToken> findById(String id) {
+        return jpaRepository.findById(id)
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    public boolean markUsed(String id, LocalDateTime usedAt) {
+        return jpaRepository.markUsed(id, usedAt) == 1;
+    }
+
+    @Override
+    public void deleteByFamilyId(String familyId) {
+        jpaRepository.deleteByFamilyId(familyId);
+    }
+
+    @Override
+    public void deleteByUserId(UserId userId) {
+        jpaRepository.deleteByUserId(userId.getValue());
+    }
+
+    @Override
+    public void deleteExpired(LocalDateTime now) {
+        jpaRepository.deleteExpired(now);
+    }
+}
@@ -0,0 +1,56 @@
+package com.eaglebank.infrastructure.persistence.adapter;
+
+import com.eaglebank.domain.model.auth.RevokedToken;
+import com.eaglebank.domain.repository.RevokedTokenRepository;
+import com.eaglebank.infrastructure.persistence.entity.RevokedTokenEntity;
+import com.eaglebank.infrastructure.persistence.repository.RevokedTokenJpaRepository;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Adapter implementation of RevokedTokenRepository
+ * Translates between domain model and persistence layer
+ */
+@Component
+public class RevokedTokenRepositoryAdapter implements RevokedTokenRepository {
+
+    private final RevokedTokenJpaRepository jpaRepository;
+
+    public RevokedTokenRepositoryAdapter(RevokedTokenJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    public void save(RevokedToken revokedToken) {
+        if (jpaRepository.existsById(revokedToken.getTokenId())) {
+            return;
+        }
+        RevokedTokenEntity entity = new RevokedTokenEntity();
+        entity.setId(revokedToken.getTokenId());
+        entity.setExpiresAt(revokedToken.getExpiresAt());
+        entity.setRevokedAt(revokedToken.getRevokedAt());
+        jpaRepository.save(entity);
+    }
+
+    @Override
+    public boolean existsByTokenId(String tokenId) {
+        return jpaRepository.existsById(tokenId);
+    }
+
+    @Override
+    public List<String> findTokenIdsRevokedSince(LocalDateTime since) {
+        return jpaRepository.findIdsRevokedSince(since);
+    }
+
+    @Override
+    public List<String> findUnexpiredTokenIds(LocalDateTime now) {
+        return jpaRepository.findUnexpiredIds(now);
+    }
+
+    @Override
+    public void deleteExpired(LocalDateTime now) {
+        jpaRepository.deleteExpired(now);
+    }
+}
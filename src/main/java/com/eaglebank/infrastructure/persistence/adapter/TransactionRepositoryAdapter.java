@@ -1,13 +1,22 @@
 package com.eaglebank.infrastructure.persistence.adapter;
 
 import com.eaglebank.domain.model.account.AccountNumber;
+import com.eaglebank.domain.model.account.Money;
 import com.eaglebank.domain.model.transaction.Transaction;
+import com.eaglebank.domain.model.transaction.TransactionCursor;
 import com.eaglebank.domain.model.transaction.TransactionId;
+import com.eaglebank.domain.model.transaction.TransactionReference;
+import com.eaglebank.domain.model.transaction.TransactionType;
 import com.eaglebank.domain.repository.TransactionRepository;
+import com.eaglebank.infrastructure.persistence.cache.AccountCache;
+import com.eaglebank.infrastructure.persistence.entity.TransactionEntity;
 import com.eaglebank.infrastructure.persistence.mapper.TransactionPersistenceMapper;
 import com.eaglebank.infrastructure.persistence.repository.TransactionJpaRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -22,11 +31,14 @@ public class TransactionRepositoryAdapter implements TransactionRepository {
 
     private final TransactionJpaRepository jpaRepository;
     private final TransactionPersistenceMapper mapper;
+    private final AccountCache accountCache;
 
     public TransactionRepositoryAdapter(TransactionJpaRepository jpaRepository,
-                                        TransactionPersistenceMapper mapper) {
+                                        TransactionPersistenceMapper mapper,
+                                        AccountCache accountCache) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.accountCache = accountCache;
     }
 
     @Override
@@ -36,6 +48,38 @@ public class TransactionRepositoryAdapter implements TransactionRepository {
         return mapper.toDomain(savedEntity);
     }
 
+    @Override
+    public Optional<Transaction> postAtomically(TransactionId id, AccountNumber accountNumber, TransactionType type,
+                                                Money amount, TransactionReference reference) {
+        LocalDateTime createdAt = LocalDateTime.now();
+        BigDecimal delta = type.isCredit() ? amount.getAmount() : amount.getAmount().negate();
+        // The balance is updated in SQL, behind the account adapter
+        accountCache.invalidateAfterCommit(accountNumber);
+
+        return jpaRepository.insertWithBalanceUpdate(
+                        id.getValue(),
+                        accountNumber.getValue(),
+                        type.name(),
+                        amount.getAmount(),
+                        amount.getCurrency().getCurrencyCode(),
+                        delta,
+                        reference.getValue(),
+                        createdAt)
+                .map(balanceAfter -> Transaction.reconstitute(
+                        id,
+                        accountNumber,
+                        type,
+                        amount,
+                        Money.of(balanceAfter, amount.getCurrency()),
+                        reference,
+                        createdAt));
+    }
+
+    @Override
+    public boolean existsById(TransactionId transactionId) {
+        return jpaRepository.existsById(transactionId.getValue());
+    }
+
     @Override
     public Optional<Transaction> findById(TransactionId transactionId) {
         return jpaRepository.findById(transactionId.getValue())
@@ -43,9 +87,13 @@ public class TransactionRepositoryAdapter implements TransactionRepository {
     }
 
     @Override
-    public List<Transaction> findByAccountNumber(AccountNumber accountNumber) {
-        return jpaRepository.findByAccountNumber(accountNumber.getValue())
-                .stream()
+    public List<Transaction> findByAccountNumber(AccountNumber accountNumber, TransactionCursor after, int limit) {
+        Pageable page = PageRequest.ofSize(limit);
+        List<TransactionEntity> entities = after == null
+                ? jpaRepository.findByAccountNumberOrderByCreatedAtDescIdDesc(accountNumber.getValue(), page)
+                : jpaRepository.findPageBefore(accountNumber.getValue(), after.getCreatedAt(),
+                        after.getTransactionId().getValue(), page);
+        return entities.stream()
                 .map(mapper::toDomain)
                 .collect(Collectors.toList());
     }
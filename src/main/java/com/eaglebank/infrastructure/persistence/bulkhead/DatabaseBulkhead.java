@@ -0,0 +1,95 @@
+package com.eaglebank.infrastructure.persistence.bulkhead;
+
+import com.eaglebank.application.exception.ServiceOverloadedException;
+import com.eaglebank.config.DatabaseBulkheadProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionAttribute;
+import org.springframework.transaction.interceptor.TransactionAttributeSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.transaction.TransactionDefinition.PROPAGATION_NEVER;
+import static org.springframework.transaction.TransactionDefinition.PROPAGATION_NOT_SUPPORTED;
+
+/**
+ * Fair semaphore around transactional service calls, sized to the part of the
+ * connection pool not reserved for background work.
+ * <p>
+ * On virtual threads every request gets a thread, so nothing bounds how many of
+ * them reach the pool at once; without this they would all queue inside Hikari
+ * and fail together when its connection timeout expires. Here they queue in
+ * arrival order for at most {@code maxWait} and are then shed with a 503.
+ * <p>
+ * Only the outermost transactional call takes a permit: a call made while a
+ * transaction is already active (or while this thread holds a permit) already has
+ * its connection. Calls that run without a transaction ({@code NOT_SUPPORTED},
+ * {@code NEVER}) are not limited.
+ * <p>
+ * Publishes the {@code eaglebank.db.bulkhead.available} and
+ * {@code eaglebank.db.bulkhead.waiting} gauges and {@code eaglebank.db.bulkhead.rejected}.
+ */
+public class DatabaseBulkhead implements MethodInterceptor {
+
+    private static final ThreadLocal<Boolean> HOLDING = new ThreadLocal<>();
+
+    private final Semaphore permits;
+    private final long maxWaitNanos;
+    private final Duration retryAfter;
+    private final TransactionAttributeSource attributeSource = new AnnotationTransactionAttributeSource();
+    private final Counter rejected;
+
+    public DatabaseBulkhead(int permits, DatabaseBulkheadProperties properties, MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(permits, true);
+        this.maxWaitNanos = properties.maxWait().toNanos();
+        this.retryAfter = properties.retryAfter();
+        this.rejected = meterRegistry.counter("eaglebank.db.bulkhead.rejected");
+        meterRegistry.gauge("eaglebank.db.bulkhead.available", this.permits, Semaphore::availablePermits);
+        meterRegistry.gauge("eaglebank.db.bulkhead.waiting", this.permits, Semaphore::getQueueLength);
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (HOLDING.get() != null
+                || TransactionSynchronizationManager.isActualTransactionActive()
+                || !needsConnection(invocation)) {
+            return invocation.proceed();
+        }
+
+        acquire();
+        HOLDING.set(Boolean.TRUE);
+        try {
+            return invocation.proceed();
+        } finally {
+            HOLDING.remove();
+            permits.release();
+        }
+    }
+
+    private boolean needsConnection(MethodInvocation invocation) {
+        Class<?> targetClass = invocation.getThis() != null ? AopUtils.getTargetClass(invocation.getThis()) : null;
+        TransactionAttribute attribute = attributeSource.getTransactionAttribute(invocation.getMethod(), targetClass);
+        return attribute != null
+                && attribute.getPropagationBehavior() != PROPAGATION_NOT_SUPPORTED
+                && attribute.getPropagationBehavior() != PROPAGATION_NEVER;
+    }
+
+    private void acquire() {
+        try {
+            if (!permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                rejected.increment();
+                throw new ServiceOverloadedException("The service is busy. Please retry shortly.", retryAfter);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a database permit", e);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.eaglebank.infrastructure.persistence.cache;
+
+import com.eaglebank.config.AccountCacheProperties;
+import com.eaglebank.domain.model.account.Account;
+import com.eaglebank.domain.model.account.AccountNumber;
+import com.eaglebank.infrastructure.persistence.mapper.AccountPersistenceMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded cache of reconstituted accounts (Caffeine, W-TinyLFU eviction).
+ * <p>
+ * Entries are only ever written after the transaction that read or wrote them has
+ * committed, so rolled-back state is never cached. Each entry carries the entity
+ * {@code @Version} it was read at, and an older version never replaces a newer one.
+ * <p>
+ * Writes whose resulting version is unknown (bulk updates, deletes, inserts) leave
+ * a stamped tombstone instead. A read that started before the tombstone was laid
+ * cannot replace it, so a reader racing a writer never re-caches the old row.
+ * <p>
+ * Accounts are copied in and out: the domain model is mutable and a cached instance
+ * must never be shared. Striped accounts are not cached, as their balance lives in
+ * the stripes and changes without touching the account row.
+ * <p>
+ * Publishes {@code eaglebank.account.cache.requests} tagged {@code result=hit|miss},
+ * {@code eaglebank.account.cache.evictions} and the {@code eaglebank.account.cache.size}
+ * gauge.
+ */
+@Component
+public class AccountCache {
+
+    private final Cache<AccountNumber, Entry> cache;
+    private final AccountPersistenceMapper mapper;
+    private final AtomicLong invalidations = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+
+    public AccountCache(AccountCacheProperties properties,
+                        AccountPersistenceMapper mapper,
+                        MeterRegistry meterRegistry) {
+        Counter evictions = meterRegistry.counter("eaglebank.account.cache.evictions");
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.expireAfterWrite())
+                .evictionListener((key, value, cause) -> evictions.increment())
+                .build();
+        this.mapper = mapper;
+        this.hits = meterRegistry.counter("eaglebank.account.cache.requests", "result", "hit");
+        this.misses = meterRegistry.counter("eaglebank.account.cache.requests", "result", "miss");
+        meterRegistry.gauge("eaglebank.account.cache.size", cache, Cache::estimatedSize);
+    }
+
+    public Optional<Account> get(AccountNumber accountNumber) {
+        Entry entry = cache.getIfPresent(accountNumber);
+        if (entry == null || entry.account() == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(mapper.copy(entry.account()));
+    }
+
+    /**
+     * Stamp to take before reading an account from the database, for {@link #putAfterCommit}
+     */
+    public long readStamp() {
+        return invalidations.get();
+    }
+
+    /**
+     * Caches the account once the current transaction commits. The version is read
+     * then, as Hibernate only increments it when the transaction flushes.
+     */
+    public void putAfterCommit(Account account, LongSupplier version, long readStamp) {
+        if (account.isStriped()) {
+            invalidateAfterCommit(account.getAccountNumber());
+            return;
+        }
+        Account snapshot = mapper.copy(account);
+        afterCommit(() -> {
+            snapshot.setVersion(version.getAsLong());
+            cache.asMap().merge(account.getAccountNumber(),
+                    new Entry(snapshot, snapshot.getVersion(), readStamp), AccountCache::newer);
+        });
+    }
+
+    /**
+     * Replaces the cached account with a tombstone once the current transaction commits
+     */
+    public void invalidateAfterCommit(AccountNumber accountNumber) {
+        afterCommit(() -> cache.put(accountNumber, new Entry(null, Long.MAX_VALUE, invalidations.incrementAndGet())));
+    }
+
+    private static Entry newer(Entry cached, Entry candidate) {
+        if (cached.account() == null) {
+            // Tombstone: only a read that started after it may replace it
+            return candidate.stamp() >= cached.stamp() ? candidate : cached;
+        }
+        return candidate.version() >= cached.version() ? candidate : cached;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * A cached account, or a tombstone when {@code account} is null
+     */
+    private record Entry(Account account, long version, long stamp) {
+    }
+}
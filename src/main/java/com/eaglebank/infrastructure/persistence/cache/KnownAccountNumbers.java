@@ -0,0 +1,192 @@
+package com.eaglebank.infrastructure.persistence.cache;
+
+import com.eaglebank.config.AccountExistenceProperties;
+import com.eaglebank.domain.model.account.AccountNumber;
+import com.eaglebank.infrastructure.persistence.repository.AccountJpaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Existence bitset over the whole account number space.
+ * <p>
+ * Account numbers are {@code 01} plus six digits, so one bit per possible number
+ * takes 125 KB and no hashing is needed, unlike a Bloom filter. A set bit means
+ * the account may exist. A clear bit means this instance has not seen it, which is
+ * not proof of absence: an account created on another instance shows up only at
+ * the next refresh.
+ * <p>
+ * Bits are set as soon as an account is inserted, before its transaction commits,
+ * so a reader never misses a new account; a rolled-back insert just leaves a
+ * harmless set bit. Bits are cleared only after a delete commits.
+ * <p>
+ * The set is loaded on startup and a background thread keeps it current: every
+ * refresh interval it adds accounts created by other instances, and every rebuild
+ * interval it starts over to drop the ones they deleted. A refresh re-reads the
+ * refresh overlap before the previous one, since a creation time is stamped
+ * before its transaction commits.
+ * <p>
+ * Publishes {@code eaglebank.account.existence.checks} tagged with the outcome:
+ * {@code unknown} or {@code possible}, and
+ * {@code eaglebank.account.existence.refresh.failures}.
+ */
+@Slf4j
+@Component
+public class KnownAccountNumbers implements AutoCloseable {
+
+    private static final int ACCOUNT_NUMBERS = 1_000_000;
+
+    private final AccountJpaRepository jpaRepository;
+    private final AccountExistenceProperties properties;
+    private final Thread refresher;
+    private final Counter unknown;
+    private final Counter possible;
+    private final Counter refreshFailures;
+
+    private volatile AtomicLongArray bits;
+    private volatile AtomicLongArray rebuilding;
+    private volatile boolean closed;
+
+    public KnownAccountNumbers(AccountJpaRepository jpaRepository,
+                               AccountExistenceProperties properties,
+                               MeterRegistry meterRegistry) {
+        this.jpaRepository = jpaRepository;
+        this.properties = properties;
+        this.unknown = meterRegistry.counter("eaglebank.account.existence.checks", "result", "unknown");
+        this.possible = meterRegistry.counter("eaglebank.account.existence.checks", "result", "possible");
+        this.refreshFailures = meterRegistry.counter("eaglebank.account.existence.refresh.failures");
+
+        rebuild();
+        this.refresher = Thread.ofVirtual().name("account-existence-refresher").start(this::refreshLoop);
+    }
+
+    public boolean mightExist(AccountNumber accountNumber) {
+        if (!contains(accountNumber)) {
+            unknown.increment();
+            return false;
+        }
+        possible.increment();
+        return true;
+    }
+
+    /**
+     * Reads the bit without counting a lookup, for callers that are not
+     * answering a request
+     */
+    public boolean contains(AccountNumber accountNumber) {
+        int digits = accountNumber.toInt();
+        return (bits.get(digits >>> 6) & (1L << digits)) != 0;
+    }
+
+    /**
+     * Adds a newly inserted account straight away, and again once its transaction
+     * commits: a rebuild that read the table before the commit would otherwise
+     * swap in a set without it
+     */
+    public void add(AccountNumber accountNumber) {
+        int digits = accountNumber.toInt();
+        set(digits);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    set(digits);
+                }
+            });
+        }
+    }
+
+    /**
+     * Clears the account once the current transaction commits
+     */
+    public void removeAfterCommit(AccountNumber accountNumber) {
+        int digits = accountNumber.toInt();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            clear(bits, digits);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                clear(bits, digits);
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        refresher.interrupt();
+    }
+
+    private void rebuild() {
+        AtomicLongArray next = new AtomicLongArray(ACCOUNT_NUMBERS / Long.SIZE + 1);
+        // Published before reading, so accounts inserted meanwhile are added to it too
+        rebuilding = next;
+        try {
+            jpaRepository.findAllAccountNumbers()
+                    .forEach(number -> set(next, AccountNumber.of(number).toInt()));
+            bits = next;
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    private void refreshLoop() {
+        LocalDateTime lastRefresh = LocalDateTime.now();
+        long nextRebuild = System.nanoTime() + properties.rebuildInterval().toNanos();
+
+        while (!closed) {
+            try {
+                Thread.sleep(properties.refreshInterval());
+            } catch (InterruptedException e) {
+                return;
+            }
+
+            try {
+                LocalDateTime now = LocalDateTime.now();
+                if (System.nanoTime() - nextRebuild >= 0) {
+                    rebuild();
+                    nextRebuild = System.nanoTime() + properties.rebuildInterval().toNanos();
+                } else {
+                    jpaRepository.findAccountNumbersCreatedSince(lastRefresh.minus(properties.refreshOverlap()))
+                            .forEach(number -> set(AccountNumber.of(number).toInt()));
+                }
+                lastRefresh = now;
+            } catch (RuntimeException e) {
+                // Keep the current set and try again on the next tick
+                refreshFailures.increment();
+                log.warn("Refreshing the known account numbers failed", e);
+            }
+        }
+    }
+
+    /**
+     * Reads {@code rebuilding} before {@code bits}: if no rebuild was seen, the
+     * account is visible to any rebuild that starts later, or the rebuilt set has
+     * already been swapped in
+     */
+    private void set(int digits) {
+        AtomicLongArray next = rebuilding;
+        if (next != null) {
+            set(next, digits);
+        }
+        set(bits, digits);
+    }
+
+    private static void set(AtomicLongArray words, int digits) {
+        long mask = 1L << digits;
+        words.getAndAccumulate(digits >>> 6, mask, (current, bit) -> current | bit);
+    }
+
+    private static void clear(AtomicLongArray words, int digits) {
+        long mask = 1L << digits;
+        words.getAndAccumulate(digits >>> 6, mask, (current, bit) -> current & ~bit);
+    }
+}
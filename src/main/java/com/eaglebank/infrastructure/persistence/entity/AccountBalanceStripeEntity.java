@@ -0,0 +1,42 @@
+package com.eaglebank.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+/**
+ * JPA Entity for one sub-balance of a striped account
+ * <p>
+ * Stripes are only ever changed with single-statement updates, so they carry
+ * no version column; the row lock taken by the update is the only contention.
+ */
+@Data
+@Entity
+@IdClass(AccountBalanceStripeEntity.Key.class)
+@Table(name = "account_balance_stripes")
+public class AccountBalanceStripeEntity {
+
+    @Id
+    private String accountNumber;
+
+    @Id
+    private int stripe;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal balance;
+
+    public AccountBalanceStripeEntity() {
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private String accountNumber;
+        private int stripe;
+    }
+}
@@ -2,6 +2,7 @@ package com.eaglebank.infrastructure.persistence.entity;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -11,10 +12,19 @@ import java.time.LocalDateTime;
 
 /**
  * JPA Entity for Account
+ * <p>
+ * Dynamic updates keep a posting's UPDATE to the columns it changed
+ * (balance, updated_at and version).
+ * <p>
+ * A striped account keeps its balance in {@link AccountBalanceStripeEntity} rows;
+ * {@code balance} is then left at zero and {@code balanceStripes} holds their count.
  */
 @Data
 @Entity
-@Table(name = "accounts")
+@DynamicUpdate
+@Table(name = "accounts", indexes = {
+        @Index(name = "idx_accounts_created_at", columnList = "created_at")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class AccountEntity {
 
@@ -44,6 +54,8 @@ public class AccountEntity {
     @Column(nullable = false, length = 3)
     private String currency;
 
+    private Integer balanceStripes;
+
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
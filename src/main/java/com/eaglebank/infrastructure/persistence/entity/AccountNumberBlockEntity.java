@@ -0,0 +1,26 @@
+package com.eaglebank.infrastructure.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * JPA Entity for the account number sequence
+ * <p>
+ * One row per sequence holding the next position no instance has reserved yet.
+ */
+@Setter
+@Getter
+@Entity
+@Table(name = "account_number_blocks")
+public class AccountNumberBlockEntity {
+
+    @Id
+    private String name;
+
+    @Column(nullable = false)
+    private long nextPosition;
+}
@@ -1,21 +1,28 @@
 package com.eaglebank.infrastructure.persistence.entity;
 
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.domain.Persistable;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 /**
  * JPA Entity for Transaction
+ * <p>
+ * Ids are assigned by the domain, so the entity reports whether it is new itself;
+ * otherwise Spring Data would merge, and SELECT, before every insert.
  */
 @Setter
 @Getter
 @Entity
-@Table(name = "transactions")
-public class TransactionEntity {
+@Table(name = "transactions", indexes = {
+        @Index(name = "idx_transactions_account_created", columnList = "account_number, created_at")
+})
+public class TransactionEntity implements Persistable<String> {
 
     // Getters and Setters
     @Id
@@ -44,9 +51,25 @@ public class TransactionEntity {
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean persisted;
+
     public TransactionEntity() {
     }
 
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+
     public enum TransactionTypeEntity {
         DEPOSIT, WITHDRAWAL
     }
@@ -5,6 +5,7 @@ import com.eaglebank.domain.model.user.UserId;
 import com.eaglebank.infrastructure.persistence.entity.AccountEntity;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
 import java.util.Currency;
 
 /**
@@ -21,8 +22,9 @@ public class AccountPersistenceMapper {
         entity.setAccountName(account.getName());
         entity.setAccountType(toEntityAccountType(account.getType()));
         entity.setStatus(toEntityAccountStatus(account.getStatus()));
-        entity.setBalance(account.getBalance().getAmount());
+        entity.setBalance(toEntityBalance(account));
         entity.setCurrency(account.getBalance().getCurrency().getCurrencyCode());
+        entity.setBalanceStripes(toEntityBalanceStripes(account));
         entity.setCreatedAt(account.getCreatedAt());
         entity.setUpdatedAt(account.getUpdatedAt());
         return entity;
@@ -31,24 +33,63 @@ public class AccountPersistenceMapper {
     public void updateEntity(Account account, AccountEntity entity) {
         entity.setAccountName(account.getName());
         entity.setStatus(toEntityAccountStatus(account.getStatus()));
-        entity.setBalance(account.getBalance().getAmount());
+        entity.setBalance(toEntityBalance(account));
         entity.setCurrency(account.getBalance().getCurrency().getCurrencyCode());
+        entity.setBalanceStripes(toEntityBalanceStripes(account));
         entity.setUpdatedAt(account.getUpdatedAt());
     }
 
 
     public Account toDomain(AccountEntity entity) {
-        return Account.reconstitute(
+        return toDomain(entity, entity.getBalance());
+    }
+
+    /**
+     * Maps an account whose balance is held elsewhere, i.e. the total of its stripes
+     */
+    public Account toDomain(AccountEntity entity, BigDecimal balance) {
+        Account account = Account.reconstitute(
                 AccountNumber.of(entity.getAccountNumber()),
                 SortCode.of(entity.getSortCode()),
                 UserId.of(entity.getOwnerId()),
                 entity.getAccountName(),
                 toDomainAccountType(entity.getAccountType()),
                 toDomainAccountStatus(entity.getStatus()),
-                Money.of(entity.getBalance(), Currency.getInstance(entity.getCurrency())),
+                Money.of(balance, Currency.getInstance(entity.getCurrency())),
                 entity.getCreatedAt(),
-                entity.getUpdatedAt()
+                entity.getUpdatedAt(),
+                entity.getBalanceStripes() != null ? entity.getBalanceStripes() : 0
+        );
+        account.setVersion(entity.getVersion() != null ? entity.getVersion() : 0);
+        return account;
+    }
+
+    /**
+     * Detached copy of an account, so a cached account is never shared with a caller
+     */
+    public Account copy(Account account) {
+        Account copy = Account.reconstitute(
+                account.getAccountNumber(),
+                account.getSortCode(),
+                account.getOwnerId(),
+                account.getName(),
+                account.getType(),
+                account.getStatus(),
+                account.getBalance(),
+                account.getCreatedAt(),
+                account.getUpdatedAt(),
+                account.getBalanceStripes()
         );
+        copy.setVersion(account.getVersion());
+        return copy;
+    }
+
+    private BigDecimal toEntityBalance(Account account) {
+        return account.isStriped() ? BigDecimal.ZERO : account.getBalance().getAmount();
+    }
+
+    private Integer toEntityBalanceStripes(Account account) {
+        return account.isStriped() ? account.getBalanceStripes() : null;
     }
 
     private AccountEntity.AccountTypeEntity toEntityAccountType(AccountType type) {
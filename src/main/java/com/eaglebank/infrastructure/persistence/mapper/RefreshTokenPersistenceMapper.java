@@ -0,0 +1,38 @@
+package com.eaglebank.infrastructure.persistence.mapper;
+
+import com.eaglebank.domain.model.auth.RefreshToken;
+import com.eaglebank.domain.model.user.Email;
+import com.eaglebank.domain.model.user.UserId;
+import com.eaglebank.infrastructure.persistence.entity.RefreshTokenEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mapper between RefreshToken domain model and RefreshTokenEntity
+ */
+@Component
+public class RefreshTokenPersistenceMapper {
+
+    public RefreshTokenEntity toEntity(RefreshToken refreshToken) {
+        RefreshTokenEntity entity = new RefreshTokenEntity();
+        entity.setId(refreshToken.getId());
+        entity.setFamilyId(refreshToken.getFamilyId());
+        entity.setUserId(refreshToken.getUserId().getValue());
+        entity.setEmail(refreshToken.getEmail().getValue());
+        entity.setSecretHash(refreshToken.getSecretHash());
+        entity.setExpiresAt(refreshToken.getExpiresAt());
+        entity.setUsedAt(refreshToken.getUsedAt());
+        return entity;
+    }
+
+    public RefreshToken toDomain(RefreshTokenEntity entity) {
+        return RefreshToken.reconstitute(
+                entity.getId(),
+                entity.getFamilyId(),
+                UserId.of(entity.getUserId()),
+                Email.of(entity.getEmail()),
+                entity.getSecretHash(),
+                entity.getExpiresAt(),
+                entity.getUsedAt()
+        );
+    }
+}
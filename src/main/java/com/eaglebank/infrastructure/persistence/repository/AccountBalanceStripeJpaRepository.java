@@ -0,0 +1,67 @@
+package com.eaglebank.infrastructure.persistence.repository;
+
+import com.eaglebank.infrastructure.persistence.entity.AccountBalanceStripeEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Spring Data JPA Repository for AccountBalanceStripeEntity
+ * <p>
+ * Updates are bulk statements that bypass the persistence context, so stripe
+ * entities are never loaded and cannot go stale within a transaction.
+ */
+@Repository
+public interface AccountBalanceStripeJpaRepository
+        extends JpaRepository<AccountBalanceStripeEntity, AccountBalanceStripeEntity.Key> {
+
+    @Query("""
+            select coalesce(sum(s.balance), 0) from AccountBalanceStripeEntity s
+            where s.accountNumber = :accountNumber
+            """)
+    BigDecimal sumBalance(@Param("accountNumber") String accountNumber);
+
+    @Query(value = """
+            SELECT balance FROM account_balance_stripes
+             WHERE account_number = :accountNumber
+             ORDER BY stripe
+               FOR UPDATE
+            """, nativeQuery = true)
+    List<BigDecimal> lockBalances(@Param("accountNumber") String accountNumber);
+
+    @Modifying
+    @Query("""
+            update AccountBalanceStripeEntity s set s.balance = s.balance + :amount
+            where s.accountNumber = :accountNumber and s.stripe = :stripe
+            """)
+    int credit(@Param("accountNumber") String accountNumber,
+               @Param("stripe") int stripe,
+               @Param("amount") BigDecimal amount);
+
+    @Modifying
+    @Query("""
+            update AccountBalanceStripeEntity s set s.balance = s.balance - :amount
+            where s.accountNumber = :accountNumber and s.stripe = :stripe and s.balance >= :amount
+            """)
+    int debit(@Param("accountNumber") String accountNumber,
+              @Param("stripe") int stripe,
+              @Param("amount") BigDecimal amount);
+
+    @Modifying
+    @Query("""
+            update AccountBalanceStripeEntity s
+               set s.balance = case when s.stripe = 0 then :balance else 0 end
+            where s.accountNumber = :accountNumber
+            """)
+    int consolidate(@Param("accountNumber") String accountNumber,
+                    @Param("balance") BigDecimal balance);
+
+    @Modifying
+    @Query("delete from AccountBalanceStripeEntity s where s.accountNumber = :accountNumber")
+    int deleteByAccountNumber(@Param("accountNumber") String accountNumber);
+}
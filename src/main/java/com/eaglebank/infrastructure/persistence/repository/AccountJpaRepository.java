@@ -2,8 +2,13 @@ package com.eaglebank.infrastructure.persistence.repository;
 
 import com.eaglebank.infrastructure.persistence.entity.AccountEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,5 +22,31 @@ public interface AccountJpaRepository extends JpaRepository<AccountEntity, Strin
 
     long countByOwnerId(String ownerId);
 
-    Optional<AccountEntity> findByAccountNumber(String accountNumber);
+    @Query("SELECT a.accountNumber FROM AccountEntity a")
+    List<String> findAllAccountNumbers();
+
+    @Query("SELECT a.accountNumber FROM AccountEntity a WHERE a.createdAt >= :since")
+    List<String> findAccountNumbersCreatedSince(@Param("since") LocalDateTime since);
+
+    @Query("SELECT a.balanceStripes FROM AccountEntity a WHERE a.accountNumber = :accountNumber")
+    Optional<Integer> findBalanceStripes(@Param("accountNumber") String accountNumber);
+
+    @Query("SELECT a.accountNumber AS accountNumber, a.ownerId AS ownerId FROM AccountEntity a")
+    List<OwnershipView> findAllOwnerships();
+
+    @Query("SELECT a.accountNumber AS accountNumber, a.ownerId AS ownerId FROM AccountEntity a WHERE a.createdAt >= :since")
+    List<OwnershipView> findOwnershipsCreatedSince(@Param("since") LocalDateTime since);
+
+    interface OwnershipView {
+        String getAccountNumber();
+
+        String getOwnerId();
+    }
+
+    @Modifying
+    @Query("""
+            update AccountEntity a set a.balance = :balance, a.version = a.version + 1
+            where a.accountNumber = :accountNumber
+            """)
+    int updateBalance(@Param("accountNumber") String accountNumber, @Param("balance") BigDecimal balance);
 }
@@ -0,0 +1,28 @@
+package com.eaglebank.infrastructure.persistence.repository;
+
+import com.eaglebank.infrastructure.persistence.entity.AccountNumberBlockEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Spring Data JPA Repository for AccountNumberBlockEntity
+ */
+@Repository
+public interface AccountNumberBlockJpaRepository extends JpaRepository<AccountNumberBlockEntity, String> {
+
+    /**
+     * Moves the high-water mark in one statement; the row stays locked until the
+     * transaction ends, so concurrent reservations queue rather than overlap
+     */
+    @Modifying
+    @Query("UPDATE AccountNumberBlockEntity b SET b.nextPosition = b.nextPosition + :size WHERE b.name = :name")
+    int advance(@Param("name") String name, @Param("size") long size);
+
+    @Query("SELECT b.nextPosition FROM AccountNumberBlockEntity b WHERE b.name = :name")
+    Optional<Long> findNextPosition(@Param("name") String name);
+}
@@ -0,0 +1,38 @@
+package com.eaglebank.infrastructure.persistence.repository;
+
+import com.eaglebank.infrastructure.persistence.entity.RefreshTokenEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Spring Data JPA Repository for RefreshTokenEntity
+ */
+@Repository
+public interface RefreshTokenJpaRepository extends JpaRepository<RefreshTokenEntity, String> {
+
+    /**
+     * Conditional update, so of two concurrent refreshes with the same token only one succeeds
+     */
+    @Modifying
+    @Query("UPDATE RefreshTokenEntity t SET t.usedAt = :usedAt WHERE t.id = :id AND t.usedAt IS NULL")
+    int markUsed(@Param("id") String id, @Param("usedAt") LocalDateTime usedAt);
+
+    @Modifying
+    @Query("DELETE FROM RefreshTokenEntity t WHERE t.familyId = :familyId")
+    void deleteByFamilyId(@Param("familyId") String familyId);
+
+    @Modifying
+    @Query("DELETE FROM RefreshTokenEntity t WHERE t.userId = :userId")
+    void deleteByUserId(@Param("userId") String userId);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM RefreshTokenEntity t WHERE t.expiresAt <= :now")
+    void deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,30 @@
+package com.eaglebank.infrastructure.persistence.repository;
+
+import com.eaglebank.infrastructure.persistence.entity.RevokedTokenEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Spring Data JPA Repository for RevokedTokenEntity
+ */
+@Repository
+public interface RevokedTokenJpaRepository extends JpaRepository<RevokedTokenEntity, String> {
+
+    @Query("SELECT t.id FROM RevokedTokenEntity t WHERE t.revokedAt >= :since")
+    List<String> findIdsRevokedSince(@Param("since") LocalDateTime since);
+
+    @Query("SELECT t.id FROM RevokedTokenEntity t WHERE t.expiresAt > :now")
+    List<String> findUnexpiredIds(@Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM RevokedTokenEntity t WHERE t.expiresAt <= :now")
+    void deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -1,10 +1,17 @@
 package com.eaglebank.infrastructure.persistence.repository;
 
 import com.eaglebank.infrastructure.persistence.entity.TransactionEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Spring Data JPA Repository for TransactionEntity
@@ -12,5 +19,59 @@ import java.util.List;
 @Repository
 public interface TransactionJpaRepository extends JpaRepository<TransactionEntity, String> {
 
-    List<TransactionEntity> findByAccountNumber(String accountNumber);
+    /**
+     * First page of an account's history, newest first
+     */
+    List<TransactionEntity> findByAccountNumberOrderByCreatedAtDescIdDesc(String accountNumber, Pageable pageable);
+
+    /**
+     * Page of an account's history strictly before the (createdAt, id) key, newest first.
+     * The {@code createdAt <= :createdAt} bound keeps this a single range scan on
+     * the (account_number, created_at) index regardless of page depth.
+     */
+    @Query("""
+            select t from TransactionEntity t
+            where t.accountNumber = :accountNumber
+              and t.createdAt <= :createdAt
+              and (t.createdAt < :createdAt or t.id < :id)
+            order by t.createdAt desc, t.id desc
+            """)
+    List<TransactionEntity> findPageBefore(@Param("accountNumber") String accountNumber,
+                                           @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") String id,
+                                           Pageable pageable);
+
+    /**
+     * Adjusts the balance of an active, unstriped account by {@code delta} unless that would take
+     * it below zero, and inserts the transaction with the resulting balance, in one round trip.
+     * Returns the balance after the posting, or empty when the guard matched no row. Striped
+     * accounts are refused because their balance no longer lives in this row.
+     * PostgreSQL only: relies on a data-modifying CTE with RETURNING.
+     */
+    @Transactional
+    @Query(value = """
+            WITH posted AS (
+                UPDATE accounts
+                   SET balance = balance + :delta,
+                       updated_at = :createdAt,
+                       version = version + 1
+                 WHERE account_number = :accountNumber
+                   AND status = 'ACTIVE'
+                   AND COALESCE(balance_stripes, 0) = 0
+                   AND balance + :delta >= 0
+                RETURNING balance
+            )
+            INSERT INTO transactions (id, account_number, type, amount, currency, balance_after, reference, created_at)
+            SELECT :id, :accountNumber, :type, :amount, :currency, posted.balance, :reference, :createdAt
+              FROM posted
+            RETURNING balance_after
+            """, nativeQuery = true)
+    Optional<BigDecimal> insertWithBalanceUpdate(@Param("id") String id,
+                                                 @Param("accountNumber") String accountNumber,
+                                                 @Param("type") String type,
+                                                 @Param("amount") BigDecimal amount,
+                                                 @Param("currency") String currency,
+                                                 @Param("delta") BigDecimal delta,
+                                                 @Param("reference") String reference,
+                                                 @Param("createdAt") LocalDateTime createdAt);
 }
@@ -12,45 +12,62 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.Optional;
 
 /**
  * JWT Authentication Filter
  * Intercepts requests and validates JWT tokens
+ * <p>
+ * The verified token is kept as the authentication's credentials, so its id and
+ * expiry are at hand when it is revoked on logout. The user id is also bound to the
+ * {@link UserContext} for the rest of the chain.
  */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
+    private final TokenRevocationList revocationList;
 
-    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider) {
+    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider, TokenRevocationList revocationList) {
         this.tokenProvider = tokenProvider;
+        this.revocationList = revocationList;
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
+        String userId = null;
         try {
             String token = extractToken(request);
+            Optional<JwtTokenProvider.VerifiedToken> verified =
+                    token != null ? tokenProvider.verify(token) : Optional.empty();
+            // Revocation is checked after the cache: a cached token may have been revoked since
+            verified = verified.filter(candidate -> !revocationList.isRevoked(candidate.tokenId()));
 
-            if (token != null && tokenProvider.validateToken(token)) {
-                String userId = tokenProvider.getUserId(token);
-
+            if (verified.isPresent()) {
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(
-                                userId,
-                                null,
+                                verified.get().userId(),
+                                verified.get(),
                                 Collections.emptyList()
                         );
 
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authentication);
+                userId = verified.get().userId();
             }
         } catch (Exception e) {
             logger.error("Cannot set user authentication", e);
         }
 
-        filterChain.doFilter(request, response);
+        if (userId == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        try (UserContext.Binding ignored = UserContext.bind(userId)) {
+            filterChain.doFilter(request, response);
+        }
     }
 
     /**
@@ -1,30 +1,59 @@
 package com.eaglebank.infrastructure.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JWT Token Provider
  * Handles JWT token generation and validation
+ * <p>
+ * Tokens are parsed and verified once by a shared, thread-safe parser. Verified
+ * tokens are cached under their SHA-256 digest until they expire, so a client
+ * reusing its bearer token is authenticated without HMAC verification or JSON
+ * parsing. Only valid tokens are cached; the raw token is never kept.
  */
 @Component
 public class JwtTokenProvider {
 
     private final SecretKey secretKey;
     private final long validityInMilliseconds;
+    private final JwtParser parser;
+    private final long cacheSize;
+    private final Cache<ByteBuffer, VerifiedToken> verifiedTokens;
 
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secret,
-            @Value("${jwt.validity:3600000}") long validityInMilliseconds) {
+            @Value("${jwt.validity:3600000}") long validityInMilliseconds,
+            @Value("${jwt.cache-size:10000}") long cacheSize) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.validityInMilliseconds = validityInMilliseconds;
+        this.parser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.cacheSize = cacheSize;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfter(new UntilTokenExpiry())
+                .build();
     }
 
     /**
@@ -35,6 +64,7 @@ public class JwtTokenProvider {
         Date validity = new Date(now.getTime() + validityInMilliseconds);
 
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(userId)
                 .claim("email", email)
                 .issuedAt(now)
@@ -44,29 +74,81 @@ public class JwtTokenProvider {
     }
 
     /**
-     * Validates the JWT token
+     * Verifies the token, returning its subject when it is valid
      */
-    public boolean validateToken(String token) {
+    public Optional<VerifiedToken> verify(String token) {
+        ByteBuffer digest = digest(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        VerifiedToken verified;
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            verified = new VerifiedToken(claims.getSubject(), claims.getId(), claims.getExpiration().toInstant());
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
+        }
+        if (cacheSize > 0) {
+            verifiedTokens.put(digest, verified);
         }
+        return Optional.of(verified);
+    }
+
+    /**
+     * Validates the JWT token
+     */
+    public boolean validateToken(String token) {
+        return verify(token).isPresent();
     }
 
     /**
      * Extracts user ID from token
      */
     public String getUserId(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
+        return verify(token)
+                .map(VerifiedToken::userId)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid JWT token"));
+    }
+
+    private static ByteBuffer digest(String token) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * The claims the application needs from a verified token; {@code tokenId} is the
+     * {@code jti} used for revocation
+     */
+    public record VerifiedToken(String userId, String tokenId, Instant expiresAt) {
+    }
+
+    /**
+     * Drops a cached token at the moment the token itself expires
+     */
+    private static final class UntilTokenExpiry implements Expiry<ByteBuffer, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, VerifiedToken token, long currentTime) {
+            long remainingMillis = token.expiresAt().toEpochMilli() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, VerifiedToken token, long currentTime,
+                                      long currentDuration) {
+            return expireAfterCreate(key, token, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, VerifiedToken token, long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
+        }
     }
 }
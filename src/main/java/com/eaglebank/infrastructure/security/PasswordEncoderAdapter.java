@@ -1,5 +1,6 @@
 package com.eaglebank.infrastructure.security;
 
+import com.eaglebank.config.PasswordHashingProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -7,13 +8,13 @@ import org.springframework.stereotype.Component;
 
 /**
  * Password Encoder Adapter
- * Provides BCrypt password encoding
+ * Provides BCrypt password encoding at the configured cost factor
  */
 @Component
 public class PasswordEncoderAdapter {
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties properties) {
+        return new BCryptPasswordEncoder(properties.strength());
     }
 }
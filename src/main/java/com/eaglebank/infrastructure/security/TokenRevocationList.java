@@ -0,0 +1,168 @@
+package com.eaglebank.infrastructure.security;
+
+import com.eaglebank.config.TokenRevocationProperties;
+import com.eaglebank.domain.model.auth.RevokedToken;
+import com.eaglebank.domain.repository.RevokedTokenRepository;
+import com.eaglebank.infrastructure.bloom.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Revoked access tokens, checked on every authenticated request.
+ * <p>
+ * A Bloom filter of revoked token ids sits in front of the
+ * {@link RevokedTokenRepository}. A token the filter has never seen is accepted
+ * after a few bit probes with no I/O, which is the case for nearly every request;
+ * only filter hits (real revocations and the occasional false positive) are
+ * checked against the repository.
+ * <p>
+ * The filter is loaded on startup and a background thread keeps it current:
+ * every refresh interval it adds revocations made by other instances, and every
+ * rebuild interval it builds a fresh filter without the revocations of tokens
+ * that have since expired. Revocations made on this instance are added
+ * immediately, including to a filter being rebuilt, and again once they commit.
+ * <p>
+ * A revocation is stamped before its transaction commits, so a refresh re-reads
+ * the refresh overlap before the previous one rather than just the time since:
+ * a revocation that commits late is still picked up, as long as its transaction
+ * took less than the overlap.
+ * <p>
+ * Publishes {@code eaglebank.token.revocation.checks} tagged with the outcome:
+ * {@code filtered}, {@code false_positive} or {@code revoked}, and
+ * {@code eaglebank.token.revocation.refresh.failures}.
+ */
+@Slf4j
+@Component
+public class TokenRevocationList implements AutoCloseable {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final TokenRevocationProperties properties;
+    private final Thread refresher;
+    private final Counter filtered;
+    private final Counter falsePositives;
+    private final Counter revoked;
+    private final Counter refreshFailures;
+
+    private volatile BloomFilter filter;
+    private volatile BloomFilter rebuilding;
+    private volatile boolean closed;
+
+    public TokenRevocationList(RevokedTokenRepository revokedTokenRepository,
+                               TokenRevocationProperties properties,
+                               MeterRegistry meterRegistry) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.properties = properties;
+        this.filtered = meterRegistry.counter("eaglebank.token.revocation.checks", "result", "filtered");
+        this.falsePositives = meterRegistry.counter("eaglebank.token.revocation.checks", "result", "false_positive");
+        this.revoked = meterRegistry.counter("eaglebank.token.revocation.checks", "result", "revoked");
+        this.refreshFailures = meterRegistry.counter("eaglebank.token.revocation.refresh.failures");
+
+        rebuild();
+        this.refresher = Thread.ofVirtual().name("token-revocation-refresher").start(this::refreshLoop);
+    }
+
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || !filter.mightContain(BloomFilter.hash(tokenId))) {
+            filtered.increment();
+            return false;
+        }
+        if (revokedTokenRepository.existsByTokenId(tokenId)) {
+            revoked.increment();
+            return true;
+        }
+        falsePositives.increment();
+        return false;
+    }
+
+    /**
+     * Revokes an access token until it expires. The token is added to the filter
+     * straight away, and again once the revocation commits: a rebuild that read the
+     * repository before the commit would otherwise swap in a filter without it.
+     */
+    public void revoke(String tokenId, Instant expiresAt) {
+        revokedTokenRepository.save(RevokedToken.of(
+                tokenId,
+                LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()),
+                LocalDateTime.now()));
+        add(tokenId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    add(tokenId);
+                }
+            });
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        refresher.interrupt();
+    }
+
+    /**
+     * Reads {@code rebuilding} before {@code filter}: if no rebuild was seen, the
+     * rebuilt filter has already been swapped in, or the next rebuild has not
+     * started reading yet
+     */
+    private void add(String tokenId) {
+        long key = BloomFilter.hash(tokenId);
+        BloomFilter next = rebuilding;
+        if (next != null) {
+            next.add(key);
+        }
+        filter.add(key);
+    }
+
+    private void rebuild() {
+        BloomFilter next = BloomFilter.create(properties.expectedRevocations(), properties.falsePositiveRate());
+        // Published before reading, so revocations committed meanwhile are added to it too
+        rebuilding = next;
+        try {
+            revokedTokenRepository.findUnexpiredTokenIds(LocalDateTime.now())
+                    .forEach(tokenId -> next.add(BloomFilter.hash(tokenId)));
+            filter = next;
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    private void refreshLoop() {
+        LocalDateTime lastRefresh = LocalDateTime.now();
+        long nextRebuild = System.nanoTime() + properties.rebuildInterval().toNanos();
+
+        while (!closed) {
+            try {
+                Thread.sleep(properties.refreshInterval());
+            } catch (InterruptedException e) {
+                return;
+            }
+
+            try {
+                LocalDateTime now = LocalDateTime.now();
+                if (System.nanoTime() - nextRebuild >= 0) {
+                    revokedTokenRepository.deleteExpired(now);
+                    rebuild();
+                    nextRebuild = System.nanoTime() + properties.rebuildInterval().toNanos();
+                } else {
+                    revokedTokenRepository.findTokenIdsRevokedSince(lastRefresh.minus(properties.refreshOverlap()))
+                            .forEach(this::add);
+                }
+                lastRefresh = now;
+            } catch (RuntimeException e) {
+                // Keep the current filter and try again on the next tick
+                refreshFailures.increment();
+                log.warn("Refreshing the token revocation list failed", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package com.eaglebank.infrastructure.security;
+
+public record TooManyRequestsResponse(String message) {
+}
@@ -0,0 +1,63 @@
+package com.eaglebank.infrastructure.security;
+
+/**
+ * The authenticated user of the request being served on this thread.
+ * <p>
+ * Bound once by {@link JwtAuthenticationFilter} for the rest of the filter chain, so
+ * controllers read the user id directly instead of unpacking the security context on
+ * every call. A binding is scoped: closing it restores whatever was bound before, so
+ * nothing leaks onto the next request served by a pooled thread.
+ * <p>
+ * Plain thread-local state: it is not visible to threads forked by the request, which
+ * must be handed the user id explicitly.
+ */
+public final class UserContext {
+
+    private static final ThreadLocal<String> USER_ID = new ThreadLocal<>();
+
+    private UserContext() {
+    }
+
+    /**
+     * Binds the user id until the returned binding is closed
+     */
+    public static Binding bind(String userId) {
+        String previous = USER_ID.get();
+        USER_ID.set(userId);
+        return new Binding(previous);
+    }
+
+    /**
+     * The authenticated user id
+     *
+     * @throws IllegalStateException when no user is bound, i.e. outside an authenticated request
+     */
+    public static String userId() {
+        String userId = USER_ID.get();
+        if (userId == null) {
+            throw new IllegalStateException("No authenticated user is bound to this thread");
+        }
+        return userId;
+    }
+
+    public static boolean isBound() {
+        return USER_ID.get() != null;
+    }
+
+    public static final class Binding implements AutoCloseable {
+        private final String previous;
+
+        private Binding(String previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                USER_ID.remove();
+            } else {
+                USER_ID.set(previous);
+            }
+        }
+    }
+}
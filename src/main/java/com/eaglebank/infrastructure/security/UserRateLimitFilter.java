@@ -0,0 +1,72 @@
+package com.eaglebank.infrastructure.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate Limit Filter
+ * Applies the {@link UserRateLimiter} budgets to authenticated requests
+ * <p>
+ * Runs right after {@link JwtAuthenticationFilter}, so a user over budget is
+ * turned away before any handler takes a database connection. Every limited
+ * response carries {@code RateLimit-Limit}, {@code RateLimit-Remaining} and
+ * {@code RateLimit-Reset}; a rejection is a JSON 429 with {@code Retry-After}.
+ * Unauthenticated requests are left to the rest of the chain.
+ */
+@Component
+public class UserRateLimitFilter extends OncePerRequestFilter {
+
+    private final UserRateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    public UserRateLimitFilter(UserRateLimiter rateLimiter, ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (!UserContext.isBound()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        UserRateLimiter.Decision decision = rateLimiter.tryAcquire(UserContext.userId(), !isRead(request.getMethod()));
+        response.setHeader("RateLimit-Limit", String.valueOf(decision.limit()));
+        response.setHeader("RateLimit-Remaining", String.valueOf(decision.remaining()));
+        response.setHeader("RateLimit-Reset", String.valueOf(decision.resetSeconds()));
+
+        if (!decision.allowed()) {
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(
+                    decision.retryAfterNanos() + TimeUnit.SECONDS.toNanos(1) - 1));
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            response.setContentType(MediaType.APPLICATION_JSON.toString());
+            objectMapper.writeValue(response.getWriter(),
+                    new TooManyRequestsResponse("Too many requests. Please retry later."));
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private static boolean isRead(String method) {
+        return HttpMethod.GET.matches(method)
+                || HttpMethod.HEAD.matches(method)
+                || HttpMethod.OPTIONS.matches(method);
+    }
+}
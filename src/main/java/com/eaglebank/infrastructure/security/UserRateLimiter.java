@@ -0,0 +1,109 @@
+package com.eaglebank.infrastructure.security;
+
+import com.eaglebank.config.RateLimitProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-user token buckets, one for reads and one for writes.
+ * <p>
+ * Each bucket is a single {@link AtomicLong} holding the theoretical arrival
+ * time of the next request (the generic cell rate algorithm, equivalent to a
+ * token bucket): a request advances it by one emission interval and is admitted
+ * if that leaves it no further ahead of now than the burst allows. Admitting a
+ * request is one compare-and-set with no lock and no allocation besides the
+ * decision.
+ * <p>
+ * Buckets live in a size-bounded cache and expire once idle, so memory stays
+ * bounded however many users are active.
+ * <p>
+ * Publishes {@code eaglebank.rate-limit.rejected} tagged with the budget that was
+ * exhausted ({@code read} or {@code write}).
+ */
+@Component
+public class UserRateLimiter {
+
+    private final Cache<String, Buckets> buckets;
+    private final Budget reads;
+    private final Budget writes;
+    private final Counter readRejections;
+    private final Counter writeRejections;
+
+    public UserRateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.reads = new Budget(properties.readBurst(), properties.readsPerSecond());
+        this.writes = new Budget(properties.writeBurst(), properties.writesPerSecond());
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.maxTrackedUsers())
+                .expireAfterAccess(properties.idleTimeout())
+                .build();
+        this.readRejections = meterRegistry.counter("eaglebank.rate-limit.rejected", "budget", "read");
+        this.writeRejections = meterRegistry.counter("eaglebank.rate-limit.rejected", "budget", "write");
+    }
+
+    /**
+     * Takes one request from the user's read or write budget
+     */
+    public Decision tryAcquire(String userId, boolean write) {
+        Buckets userBuckets = buckets.get(userId, ignored -> new Buckets());
+        Decision decision = write
+                ? writes.tryAcquire(userBuckets.writes, System.nanoTime())
+                : reads.tryAcquire(userBuckets.reads, System.nanoTime());
+        if (!decision.allowed()) {
+            (write ? writeRejections : readRejections).increment();
+        }
+        return decision;
+    }
+
+    /**
+     * Outcome of one request
+     *
+     * @param allowed         whether the request may proceed
+     * @param limit           the burst size of the budget
+     * @param remaining       requests that could follow immediately
+     * @param resetSeconds    seconds until the budget is full again
+     * @param retryAfterNanos when rejected, how long until one request is admitted
+     */
+    public record Decision(boolean allowed, int limit, int remaining, long resetSeconds, long retryAfterNanos) {
+    }
+
+    private static final class Buckets {
+        private final AtomicLong reads = new AtomicLong(Long.MIN_VALUE);
+        private final AtomicLong writes = new AtomicLong(Long.MIN_VALUE);
+    }
+
+    private static final class Budget {
+        private final int burst;
+        private final long intervalNanos;
+        private final long toleranceNanos;
+
+        Budget(int burst, double perSecond) {
+            this.burst = burst;
+            this.intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / perSecond));
+            this.toleranceNanos = intervalNanos * burst;
+        }
+
+        Decision tryAcquire(AtomicLong arrival, long now) {
+            while (true) {
+                long current = arrival.get();
+                long next = Math.max(current, now) + intervalNanos;
+                long ahead = next - now;
+                if (ahead > toleranceNanos) {
+                    return new Decision(false, burst, 0, seconds(Math.max(current, now) - now), ahead - toleranceNanos);
+                }
+                if (arrival.compareAndSet(current, next)) {
+                    return new Decision(true, burst, (int) ((toleranceNanos - ahead) / intervalNanos), seconds(ahead), 0);
+                }
+            }
+        }
+
+        private static long seconds(long nanos) {
+            return (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+        }
+    }
+}
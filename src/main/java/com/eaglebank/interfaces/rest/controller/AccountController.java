@@ -1,17 +1,21 @@
 package com.eaglebank.interfaces.rest.controller;
 
 import com.eaglebank.application.account.AccountService;
+import com.eaglebank.infrastructure.security.UserContext;
 import com.eaglebank.interfaces.rest.dto.request.CreateBankAccountRequest;
 import com.eaglebank.interfaces.rest.dto.request.UpdateBankAccountRequest;
 import com.eaglebank.interfaces.rest.dto.response.BankAccountResponse;
 import com.eaglebank.interfaces.rest.dto.response.ListBankAccountsResponse;
 import com.eaglebank.interfaces.rest.mapper.AccountRestMapper;
+import com.eaglebank.interfaces.rest.negotiation.RepresentationTags;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
 
 import java.util.stream.Collectors;
 
@@ -21,14 +25,16 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class AccountController {
 
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final AccountService accountService;
     private final AccountRestMapper mapper;
+    private final RepresentationTags representationTags;
 
     @PostMapping
     public ResponseEntity<BankAccountResponse> createAccount(
-            @Valid @RequestBody CreateBankAccountRequest request,
-            Authentication authentication) {
-        String userId = (String) authentication.getPrincipal();
+            @Valid @RequestBody CreateBankAccountRequest request) {
+        String userId = UserContext.userId();
 
         var command = new AccountService.CreateAccountCommand(
                 userId,
@@ -42,15 +48,29 @@ public class AccountController {
 
     @GetMapping("/{accountNumber}")
     public ResponseEntity<BankAccountResponse> getAccount(@PathVariable String accountNumber,
-                                                          Authentication authentication) {
-        String userId = (String) authentication.getPrincipal();
+                                                          NativeWebRequest webRequest) {
+        String userId = UserContext.userId();
         var account = accountService.get(accountNumber, userId);
-        return ResponseEntity.ok(mapper.toResponse(account));
+
+        // Answered before the response is built
+        String eTag = representationTags.forRequest(mapper.toETag(account), BankAccountResponse.class, webRequest);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .cacheControl(REVALIDATE)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .varyBy(HttpHeaders.ACCEPT)
+                .cacheControl(REVALIDATE)
+                .body(mapper.toResponse(account));
     }
 
     @GetMapping
-    public ResponseEntity<ListBankAccountsResponse> listAccounts(Authentication authentication) {
-        String userId = (String) authentication.getPrincipal();
+    public ResponseEntity<ListBankAccountsResponse> listAccounts() {
+        String userId = UserContext.userId();
         var accounts = accountService.list(userId);
 
         var response = new ListBankAccountsResponse(
@@ -65,9 +85,8 @@ public class AccountController {
     @PatchMapping("/{accountNumber}")
     public ResponseEntity<BankAccountResponse> updateAccount(
             @PathVariable String accountNumber,
-            @Valid @RequestBody UpdateBankAccountRequest request,
-            Authentication authentication) {
-        String userId = (String) authentication.getPrincipal();
+            @Valid @RequestBody UpdateBankAccountRequest request) {
+        String userId = UserContext.userId();
 
         var command = new AccountService.UpdateAccountCommand(
                 accountNumber,
@@ -80,9 +99,8 @@ public class AccountController {
     }
 
     @DeleteMapping("/{accountNumber}")
-    public ResponseEntity<Void> deleteAccount(@PathVariable String accountNumber,
-                                              Authentication authentication) {
-        String userId = (String) authentication.getPrincipal();
+    public ResponseEntity<Void> deleteAccount(@PathVariable String accountNumber) {
+        String userId = UserContext.userId();
         accountService.delete(accountNumber, userId);
         return ResponseEntity.noContent().build();
     }
@@ -1,11 +1,16 @@
 package com.eaglebank.interfaces.rest.controller;
 
 import com.eaglebank.application.user.AuthService;
+import com.eaglebank.infrastructure.security.JwtTokenProvider;
 import com.eaglebank.interfaces.rest.dto.request.AuthenticationRequest;
+import com.eaglebank.interfaces.rest.dto.request.LogoutRequest;
+import com.eaglebank.interfaces.rest.dto.request.RefreshTokenRequest;
 import com.eaglebank.interfaces.rest.dto.response.AuthenticationResponse;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -20,20 +25,49 @@ public class AuthController {
     private final AuthService authService;
 
     @PostMapping("/login")
-    public ResponseEntity<AuthenticationResponse> login(@Valid @RequestBody AuthenticationRequest request) {
+    public ResponseEntity<AuthenticationResponse> login(@Valid @RequestBody AuthenticationRequest request,
+                                                        HttpServletRequest servletRequest) {
         var command = new AuthService.AuthenticationCommand(
                 request.email(),
-                request.password()
+                request.password(),
+                servletRequest.getRemoteAddr()
         );
 
         var result = authService.authenticate(command);
 
-        var response = new AuthenticationResponse(
+        return ResponseEntity.ok(toResponse(result));
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthenticationResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        var command = new AuthService.RefreshCommand(request.refreshToken());
+
+        var result = authService.refresh(command);
+
+        return ResponseEntity.ok(toResponse(result));
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestBody(required = false) LogoutRequest request,
+                                       Authentication authentication) {
+        var token = (JwtTokenProvider.VerifiedToken) authentication.getCredentials();
+        var command = new AuthService.LogoutCommand(
+                token.tokenId(),
+                token.expiresAt(),
+                request != null ? request.refreshToken() : null
+        );
+
+        authService.logout(command);
+
+        return ResponseEntity.noContent().build();
+    }
+
+    private AuthenticationResponse toResponse(AuthService.AuthenticationResult result) {
+        return new AuthenticationResponse(
                 result.userId(),
                 result.email(),
-                result.token()
+                result.token(),
+                result.refreshToken()
         );
-
-        return ResponseEntity.ok(response);
     }
 }
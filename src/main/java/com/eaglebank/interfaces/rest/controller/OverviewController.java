@@ -0,0 +1,45 @@
+package com.eaglebank.interfaces.rest.controller;
+
+import com.eaglebank.application.overview.OverviewService;
+import com.eaglebank.infrastructure.security.UserContext;
+import com.eaglebank.interfaces.rest.dto.response.AccountOverviewResponse;
+import com.eaglebank.interfaces.rest.dto.response.OverviewResponse;
+import com.eaglebank.interfaces.rest.mapper.AccountRestMapper;
+import com.eaglebank.interfaces.rest.mapper.TransactionRestMapper;
+import com.eaglebank.interfaces.rest.mapper.UserRestMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.stream.Collectors;
+
+
+@RestController
+@RequestMapping("/v1/me")
+@RequiredArgsConstructor
+public class OverviewController {
+
+    private final OverviewService overviewService;
+    private final UserRestMapper userMapper;
+    private final AccountRestMapper accountMapper;
+    private final TransactionRestMapper transactionMapper;
+
+    @GetMapping("/overview")
+    public ResponseEntity<OverviewResponse> getOverview(@RequestParam(required = false) Integer transactions) {
+        String userId = UserContext.userId();
+        var overview = overviewService.get(userId, transactions);
+
+        var response = new OverviewResponse(
+                userMapper.toResponse(overview.user()),
+                overview.accounts().stream()
+                        .map(account -> new AccountOverviewResponse(
+                                accountMapper.toResponse(account.account()),
+                                account.recentTransactions().stream()
+                                        .map(transaction -> transactionMapper.toResponse(transaction, userId))
+                                        .collect(Collectors.toList())))
+                        .collect(Collectors.toList())
+        );
+
+        return ResponseEntity.ok(response);
+    }
+}
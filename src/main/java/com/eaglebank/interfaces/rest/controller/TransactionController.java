@@ -1,18 +1,23 @@
 package com.eaglebank.interfaces.rest.controller;
 
 import com.eaglebank.application.transaction.TransactionService;
+import com.eaglebank.infrastructure.security.UserContext;
 import com.eaglebank.interfaces.rest.dto.request.CreateTransactionRequest;
-import com.eaglebank.interfaces.rest.dto.response.ListTransactionsResponse;
 import com.eaglebank.interfaces.rest.dto.response.TransactionResponse;
+import com.eaglebank.interfaces.rest.json.PreSerializedJson;
+import com.eaglebank.interfaces.rest.json.TransactionJsonCache;
 import com.eaglebank.interfaces.rest.mapper.TransactionRestMapper;
+import com.eaglebank.interfaces.rest.negotiation.RepresentationTags;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
 
-import java.util.stream.Collectors;
+import java.time.Duration;
 
 
 @RestController
@@ -20,16 +25,20 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class TransactionController {
 
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable();
+
     private final TransactionService transactionService;
     private final TransactionRestMapper mapper;
+    private final TransactionJsonCache jsonCache;
+    private final RepresentationTags representationTags;
 
 
     @PostMapping
     public ResponseEntity<TransactionResponse> createTransaction(
             @PathVariable String accountNumber,
-            @Valid @RequestBody CreateTransactionRequest request,
-            Authentication authentication) {
-        String userId = (String) authentication.getPrincipal();
+            @Valid @RequestBody CreateTransactionRequest request) {
+        String userId = UserContext.userId();
 
         var command = new TransactionService.CreateTransactionCommand(
                 accountNumber,
@@ -39,33 +48,70 @@ public class TransactionController {
                 request.reference()
         );
 
+        // The service only succeeds for the account owner, so the requester is the owner
         var transaction = transactionService.create(command);
-        return ResponseEntity.status(HttpStatus.CREATED).body(mapper.toResponse(transaction));
+        return ResponseEntity.status(HttpStatus.CREATED).body(mapper.toResponse(transaction, userId));
     }
 
     @GetMapping("/{transactionId}")
-    public ResponseEntity<TransactionResponse> getTransaction(
+    public ResponseEntity<PreSerializedJson> getTransaction(
             @PathVariable String accountNumber,
             @PathVariable String transactionId,
-            Authentication authentication) {
-        String userId = (String) authentication.getPrincipal();
+            NativeWebRequest webRequest) {
+        String userId = UserContext.userId();
         var transaction = transactionService.get(accountNumber, transactionId, userId);
-        return ResponseEntity.ok(mapper.toResponse(transaction));
+
+        // Immutable, so private caches may keep it indefinitely
+        String eTag = representationTags.forRequest(
+                mapper.toETag(transaction), PreSerializedJson.class, webRequest);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .cacheControl(IMMUTABLE)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .varyBy(HttpHeaders.ACCEPT)
+                .cacheControl(IMMUTABLE)
+                .body(jsonCache.single(transaction, userId));
     }
 
     @GetMapping
-    public ResponseEntity<ListTransactionsResponse> listTransactions(
+    public ResponseEntity<PreSerializedJson> listTransactions(
             @PathVariable String accountNumber,
-            Authentication authentication) {
-        String userId = (String) authentication.getPrincipal();
-        var transactions = transactionService.list(accountNumber, userId);
-
-        var response = new ListTransactionsResponse(
-                transactions.stream()
-                        .map(mapper::toResponse)
-                        .collect(Collectors.toList())
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            NativeWebRequest webRequest) {
+        String userId = UserContext.userId();
+
+        var query = new TransactionService.ListTransactionsQuery(
+                accountNumber,
+                userId,
+                cursor,
+                limit
         );
 
-        return ResponseEntity.ok(response);
+        var page = transactionService.list(query);
+
+        // Answered before the response is built
+        String eTag = representationTags.forRequest(
+                mapper.toETag(page.transactions()), PreSerializedJson.class, webRequest);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .cacheControl(REVALIDATE)
+                    .build();
+        }
+
+        // Written from cached transaction JSON, in the shape of ListTransactionsResponse
+        var response = jsonCache.page(page.transactions(), page.next(), userId);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .varyBy(HttpHeaders.ACCEPT)
+                .cacheControl(REVALIDATE)
+                .body(response);
     }
 }
@@ -1,6 +1,7 @@
 package com.eaglebank.interfaces.rest.controller;
 
 import com.eaglebank.application.user.UserService;
+import com.eaglebank.infrastructure.security.UserContext;
 import com.eaglebank.interfaces.rest.dto.request.CreateUserRequest;
 import com.eaglebank.interfaces.rest.dto.request.UpdateUserRequest;
 import com.eaglebank.interfaces.rest.dto.response.UserResponse;
@@ -9,7 +10,6 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 /**
@@ -45,16 +45,14 @@ public class UserController {
     }
 
     @GetMapping("/{userId}")
-    public ResponseEntity<UserResponse> getUser(@PathVariable String userId,
-                                                Authentication authentication) {
-        var user = userService.get(userId, authentication);
+    public ResponseEntity<UserResponse> getUser(@PathVariable String userId) {
+        var user = userService.get(userId, UserContext.userId());
         return ResponseEntity.ok(mapper.toResponse(user));
     }
 
     @PatchMapping("/{userId}")
     public ResponseEntity<UserResponse> updateUser(@PathVariable String userId,
-                                                   @Valid @RequestBody UpdateUserRequest request,
-                                                   Authentication authentication) {
+                                                   @Valid @RequestBody UpdateUserRequest request) {
         var command = new UserService.UpdateUserCommand(
                 userId,
                 request.name(),
@@ -68,14 +66,13 @@ public class UserController {
                 request.address().postcode()
         );
 
-        var user = userService.update(command, authentication);
+        var user = userService.update(command, UserContext.userId());
         return ResponseEntity.ok(mapper.toResponse(user));
     }
 
     @DeleteMapping("/{userId}")
-    public ResponseEntity<Void> deleteUser(@PathVariable String userId,
-                                           Authentication authentication) {
-        userService.delete(userId, authentication);
+    public ResponseEntity<Void> deleteUser(@PathVariable String userId) {
+        userService.delete(userId, UserContext.userId());
         return ResponseEntity.noContent().build();
     }
 }
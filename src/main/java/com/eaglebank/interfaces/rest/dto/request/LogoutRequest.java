@@ -0,0 +1,9 @@
+package com.eaglebank.interfaces.rest.dto.request;
+
+/**
+ * Request DTO for logging out; the refresh token is optional
+ */
+public record LogoutRequest(
+        String refreshToken
+) {
+}
@@ -0,0 +1,12 @@
+package com.eaglebank.interfaces.rest.dto.response;
+
+import java.util.List;
+
+/**
+ * Response DTO for one account in the overview, with its latest transactions, newest first
+ */
+public record AccountOverviewResponse(
+        BankAccountResponse account,
+        List<TransactionResponse> transactions
+) {
+}
@@ -6,6 +6,7 @@ package com.eaglebank.interfaces.rest.dto.response;
 public record AuthenticationResponse(
         String userId,
         String email,
-        String token
+        String token,
+        String refreshToken
 ) {
 }
@@ -1,11 +1,17 @@
 package com.eaglebank.interfaces.rest.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.List;
 
 /**
  * Response DTO for listing transactions
+ * <p>
+ * {@code next} is an opaque cursor for the following page; it is omitted on the last page.
  */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record ListTransactionsResponse(
-        List<TransactionResponse> transactions
+        List<TransactionResponse> transactions,
+        String next
 ) {
 }
@@ -0,0 +1,12 @@
+package com.eaglebank.interfaces.rest.dto.response;
+
+import java.util.List;
+
+/**
+ * Response DTO for the authenticated user's overview
+ */
+public record OverviewResponse(
+        UserResponse user,
+        List<AccountOverviewResponse> accounts
+) {
+}
@@ -0,0 +1,35 @@
+package com.eaglebank.interfaces.rest.interceptor;
+
+import com.eaglebank.application.account.AccountService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * Answers requests for account numbers that do not exist with a 404 before the
+ * handler runs. Random account numbers from scanners are almost always numbers
+ * no instance has issued yet, which are refused without opening a transaction or
+ * taking a database connection.
+ */
+@Component
+@RequiredArgsConstructor
+public class UnknownAccountInterceptor implements HandlerInterceptor {
+
+    private final AccountService accountService;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        @SuppressWarnings("unchecked")
+        Map<String, String> variables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (variables != null && variables.containsKey("accountNumber")) {
+            accountService.requireKnown(variables.get("accountNumber"));
+        }
+        return true;
+    }
+}
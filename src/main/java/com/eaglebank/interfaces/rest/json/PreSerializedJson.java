@@ -0,0 +1,43 @@
+package com.eaglebank.interfaces.rest.json;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * A response body that is already UTF-8 JSON, held as the pieces it is written from.
+ * <p>
+ * The pieces are written one after another, so cached fragments go to the output
+ * stream as they are, without being copied into one array first.
+ * <p>
+ * When another representation is negotiated (CBOR, Smile), Jackson serializes the
+ * equivalent response DTO instead, built on demand by {@code value}.
+ */
+public record PreSerializedJson(List<byte[]> parts, Supplier<?> value) {
+
+    public static PreSerializedJson of(byte[] json, Supplier<?> value) {
+        return new PreSerializedJson(List.of(json), value);
+    }
+
+    public long length() {
+        long length = 0;
+        for (byte[] part : parts) {
+            length += part.length;
+        }
+        return length;
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        for (byte[] part : parts) {
+            out.write(part);
+        }
+    }
+
+    @JsonValue
+    public Object toValue() {
+        return value.get();
+    }
+}
@@ -0,0 +1,106 @@
+package com.eaglebank.interfaces.rest.json;
+
+import com.eaglebank.config.TransactionJsonCacheProperties;
+import com.eaglebank.domain.model.transaction.Transaction;
+import com.eaglebank.domain.model.transaction.TransactionId;
+import com.eaglebank.interfaces.rest.dto.response.ListTransactionsResponse;
+import com.eaglebank.interfaces.rest.mapper.TransactionRestMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bounded cache of transactions already serialized as {@code TransactionResponse}
+ * JSON (Caffeine, weighed by size in bytes).
+ * <p>
+ * Transactions are immutable and an account never changes owner, so the bytes for
+ * a transaction id never go stale and are never invalidated. Single transactions
+ * and pages are assembled from the cached bytes without building response DTOs;
+ * the output is byte for byte what the application's {@link ObjectMapper} writes
+ * for {@code TransactionResponse} and {@code ListTransactionsResponse}.
+ * <p>
+ * Publishes {@code eaglebank.transaction.json-cache.requests} tagged
+ * {@code result=hit|miss}.
+ */
+@Component
+public class TransactionJsonCache {
+
+    private static final byte[] PAGE_START = "{\"transactions\":[".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SEPARATOR = {','};
+    private static final byte[] TRANSACTIONS_END = {']'};
+    private static final byte[] NEXT = ",\"next\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] PAGE_END = {'}'};
+
+    private final Cache<TransactionId, byte[]> cache;
+    private final TransactionRestMapper mapper;
+    private final ObjectMapper objectMapper;
+    private final Counter hits;
+    private final Counter misses;
+
+    public TransactionJsonCache(TransactionJsonCacheProperties properties,
+                                TransactionRestMapper mapper,
+                                ObjectMapper objectMapper,
+                                MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.maximumWeight().toBytes())
+                .<TransactionId, byte[]>weigher((id, json) -> json.length)
+                .build();
+        this.mapper = mapper;
+        this.objectMapper = objectMapper;
+        this.hits = meterRegistry.counter("eaglebank.transaction.json-cache.requests", "result", "hit");
+        this.misses = meterRegistry.counter("eaglebank.transaction.json-cache.requests", "result", "miss");
+    }
+
+    public PreSerializedJson single(Transaction transaction, String ownerId) {
+        return PreSerializedJson.of(json(transaction, ownerId), () -> mapper.toResponse(transaction, ownerId));
+    }
+
+    /**
+     * A page in the shape of {@code ListTransactionsResponse}; {@code next} is omitted when null
+     */
+    public PreSerializedJson page(List<Transaction> transactions, String next, String ownerId) {
+        List<byte[]> parts = new ArrayList<>(transactions.size() * 2 + 4);
+        parts.add(PAGE_START);
+        for (int i = 0; i < transactions.size(); i++) {
+            if (i > 0) {
+                parts.add(SEPARATOR);
+            }
+            parts.add(json(transactions.get(i), ownerId));
+        }
+        parts.add(TRANSACTIONS_END);
+        if (next != null) {
+            parts.add(NEXT);
+            parts.add(serialize(next));
+        }
+        parts.add(PAGE_END);
+        return new PreSerializedJson(parts, () -> new ListTransactionsResponse(
+                transactions.stream().map(transaction -> mapper.toResponse(transaction, ownerId)).toList(),
+                next));
+    }
+
+    private byte[] json(Transaction transaction, String ownerId) {
+        byte[] json = cache.getIfPresent(transaction.getId());
+        if (json != null) {
+            hits.increment();
+            return json;
+        }
+        misses.increment();
+        return cache.get(transaction.getId(), id -> serialize(mapper.toResponse(transaction, ownerId)));
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize " + value.getClass().getSimpleName(), e);
+        }
+    }
+}
@@ -8,6 +8,10 @@ import java.time.ZoneOffset;
 
 /**
  * Mapper between Account domain model and REST DTOs
+ * <p>
+ * The entity tag is the account row's version together with the balance: a striped
+ * or journaled account's balance moves without touching the row, so the version
+ * alone would not change with it.
  */
 @Component
 public class AccountRestMapper {
@@ -24,4 +28,8 @@ public class AccountRestMapper {
             account.getUpdatedAt().atOffset(ZoneOffset.UTC)
         );
     }
+
+    public String toETag(Account account) {
+        return "\"" + account.getVersion() + "-" + account.getBalance().getAmount().toPlainString() + "\"";
+    }
 }
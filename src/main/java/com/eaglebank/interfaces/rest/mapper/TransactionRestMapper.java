@@ -1,37 +1,42 @@
 package com.eaglebank.interfaces.rest.mapper;
 
-import com.eaglebank.domain.exception.AccountGenericException;
-import com.eaglebank.domain.model.account.Account;
 import com.eaglebank.domain.model.transaction.Transaction;
-import com.eaglebank.domain.repository.AccountRepository;
 import com.eaglebank.interfaces.rest.dto.response.TransactionResponse;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.time.ZoneOffset;
+import java.util.List;
 
 /**
  * Mapper between Transaction domain model and REST DTOs
+ * <p>
+ * The owner's user ID is passed in by the caller, which has already resolved
+ * the account once for the whole request, rather than looked up per transaction.
+ * <p>
+ * Transactions are immutable, so a transaction's id is a strong entity tag for it,
+ * and the newest id on a page is one for the page: a page only changes when a
+ * newer transaction is posted.
  */
 @Component
-@RequiredArgsConstructor
 public class TransactionRestMapper {
 
-    private final AccountRepository accountRepository;
-
-    public TransactionResponse toResponse(Transaction transaction) {
-        // Get the account to retrieve the owner's user ID
-        Account account = accountRepository.findByAccountNumber(transaction.getAccountNumber())
-                .orElseThrow(() -> new AccountGenericException("Account not found for transaction"));
-
+    public TransactionResponse toResponse(Transaction transaction, String ownerId) {
         return new TransactionResponse(
                 transaction.getId().getValue(),
                 transaction.getAmount().getAmount().doubleValue(),
                 transaction.getAmount().getCurrency().getCurrencyCode(),
                 transaction.getType().name().toLowerCase(),
                 transaction.getReference().getValue(),
-                account.getOwnerId().getValue(),
+                ownerId,
                 transaction.getCreatedAt().atOffset(ZoneOffset.UTC)
         );
     }
+
+    public String toETag(Transaction transaction) {
+        return "\"" + transaction.getId().getValue() + "\"";
+    }
+
+    public String toETag(List<Transaction> newestFirst) {
+        return newestFirst.isEmpty() ? "\"empty\"" : toETag(newestFirst.get(0));
+    }
 }
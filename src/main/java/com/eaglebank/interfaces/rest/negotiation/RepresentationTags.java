@@ -0,0 +1,96 @@
+package com.eaglebank.interfaces.rest.negotiation;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationManager;
+import org.springframework.web.context.request.NativeWebRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Entity tags per representation.
+ * <p>
+ * A resource served as JSON, CBOR or Smile has one strong entity tag per
+ * representation, so the binary ones get a suffix. The representation is the one
+ * Spring MVC will write: the request's acceptable types come from the MVC
+ * {@link ContentNegotiationManager} and are matched against what the registered
+ * message converters can write for the body type, in converter order, the way the
+ * return value handler picks its converter. Knowing it up front lets a controller
+ * answer a conditional request before building the body.
+ */
+public class RepresentationTags {
+
+    public static final MediaType APPLICATION_SMILE = MediaType.valueOf("application/x-jackson-smile");
+
+    private final ContentNegotiationManager contentNegotiationManager;
+    private final List<HttpMessageConverter<?>> messageConverters;
+
+    public RepresentationTags(ContentNegotiationManager contentNegotiationManager,
+                              List<HttpMessageConverter<?>> messageConverters) {
+        this.contentNegotiationManager = contentNegotiationManager;
+        this.messageConverters = messageConverters;
+    }
+
+    /**
+     * The tag for the representation the request will be answered with
+     *
+     * @param eTag     quoted tag of the JSON representation
+     * @param bodyType type of the response body
+     */
+    public String forRequest(String eTag, Class<?> bodyType, NativeWebRequest request) {
+        MediaType selected = negotiate(bodyType, request);
+        if (selected == null || selected.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+            // Not acceptable is answered with a 406 by the converters, which needs no tag of its own
+            return eTag;
+        }
+        if (selected.isCompatibleWith(APPLICATION_SMILE)) {
+            return withSuffix(eTag, "smile");
+        }
+        return withSuffix(eTag, selected.getSubtype());
+    }
+
+    private MediaType negotiate(Class<?> bodyType, NativeWebRequest request) {
+        List<MediaType> acceptable;
+        try {
+            acceptable = contentNegotiationManager.resolveMediaTypes(request);
+        } catch (HttpMediaTypeNotAcceptableException e) {
+            return null;
+        }
+
+        List<MediaType> candidates = new ArrayList<>();
+        for (MediaType requested : acceptable) {
+            for (MediaType producible : producible(bodyType)) {
+                if (requested.isCompatibleWith(producible)) {
+                    candidates.add(mostSpecific(requested, producible));
+                }
+            }
+        }
+        MimeTypeUtils.sortBySpecificity(candidates);
+        return candidates.stream()
+                .filter(MediaType::isConcrete)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private List<MediaType> producible(Class<?> bodyType) {
+        List<MediaType> producible = new ArrayList<>();
+        for (HttpMessageConverter<?> converter : messageConverters) {
+            if (converter.canWrite(bodyType, null)) {
+                producible.addAll(converter.getSupportedMediaTypes(bodyType));
+            }
+        }
+        return producible;
+    }
+
+    private static MediaType mostSpecific(MediaType requested, MediaType producible) {
+        MediaType producibleWithQuality = producible.copyQualityValue(requested);
+        return requested.isLessSpecific(producibleWithQuality) ? producibleWithQuality : requested;
+    }
+
+    private static String withSuffix(String eTag, String suffix) {
+        return eTag.substring(0, eTag.length() - 1) + "+" + suffix + "\"";
+    }
+}
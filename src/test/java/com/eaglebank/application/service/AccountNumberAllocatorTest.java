@@ -0,0 +1,197 @@
+package com.eaglebank.application.service;
+
+import com.eaglebank.application.account.AccountNumberAllocator;
+import com.eaglebank.application.account.AccountNumberPermutation;
+import com.eaglebank.config.AccountNumberProperties;
+import com.eaglebank.domain.exception.AccountGenericException;
+import com.eaglebank.domain.model.account.AccountNumber;
+import com.eaglebank.domain.repository.AccountNumberBlockRepository;
+import com.eaglebank.domain.repository.AccountRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AccountNumberAllocatorTest {
+
+    private static final long KEY = 42L;
+
+    private final AccountNumberBlockRepository blockRepository = mock(AccountNumberBlockRepository.class);
+    private final AccountRepository accountRepository = mock(AccountRepository.class);
+    private final AtomicLong highWaterMark = new AtomicLong();
+
+    private AccountNumberAllocator allocator;
+
+    @BeforeEach
+    void setUp() {
+        when(blockRepository.reserve(anyInt())).thenAnswer(invocation -> {
+            int size = invocation.getArgument(0);
+            return highWaterMark.getAndAdd(size);
+        });
+        when(blockRepository.highWaterMark()).thenAnswer(invocation -> highWaterMark.get());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (allocator != null) {
+            allocator.close();
+        }
+    }
+
+    @Test
+    void shouldReserveFirstBlockOnStartup() {
+        // when
+        allocator = newAllocator();
+
+        // then
+        verify(blockRepository, timeout(5_000)).reserve(3);
+    }
+
+    @Test
+    void shouldIssueDistinctNumbersAcrossBlocks() {
+        // given
+        allocator = newAllocator();
+
+        // when
+        Set<AccountNumber> issued = new HashSet<>();
+        for (int i = 0; i < 10; i++) {
+            issued.add(allocator.allocate());
+        }
+
+        // then
+        assertThat(issued).hasSize(10);
+    }
+
+    @Test
+    void shouldSkipNumbersThatAlreadyExist() {
+        // given
+        AccountNumber taken = AccountNumber.ofInt(new AccountNumberPermutation(KEY).apply(0));
+        when(accountRepository.isKnownAccountNumber(any())).thenReturn(false);
+        when(accountRepository.isKnownAccountNumber(taken)).thenReturn(true);
+        allocator = newAllocator();
+
+        // when
+        AccountNumber first = allocator.allocate();
+
+        // then
+        assertThat(first).isNotEqualTo(taken);
+        assertThat(first).isEqualTo(AccountNumber.ofInt(new AccountNumberPermutation(KEY).apply(1)));
+    }
+
+    @Test
+    void shouldFailWhenEveryNumberHasBeenIssued() {
+        // given
+        highWaterMark.set(AccountNumberPermutation.SIZE);
+        allocator = newAllocator();
+
+        // when & then
+        assertThatThrownBy(() -> allocator.allocate())
+                .isInstanceOf(AccountGenericException.class)
+                .hasMessageContaining("No account numbers left");
+    }
+
+    @Test
+    void shouldReserveAgainAfterLosingTheRaceToCreateTheSequence() {
+        // given
+        when(blockRepository.reserve(anyInt()))
+                .thenThrow(new DataIntegrityViolationException("Duplicate sequence row"))
+                .thenAnswer(invocation -> highWaterMark.getAndAdd(invocation.<Integer>getArgument(0)));
+        allocator = newAllocator();
+
+        // when
+        AccountNumber first = allocator.allocate();
+
+        // then
+        assertThat(first).isEqualTo(AccountNumber.ofInt(new AccountNumberPermutation(KEY).apply(0)));
+    }
+
+    @Test
+    void shouldPermuteTheWholeRange() {
+        // given
+        AccountNumberPermutation permutation = new AccountNumberPermutation(KEY);
+        boolean[] seen = new boolean[AccountNumberPermutation.SIZE];
+
+        // when
+        for (int position = 0; position < AccountNumberPermutation.SIZE; position++) {
+            int value = permutation.apply(position);
+            assertThat(seen[value]).isFalse();
+            assertThat(permutation.invert(value)).isEqualTo(position);
+            seen[value] = true;
+        }
+
+        // then
+        assertThat(permutation.apply(0)).isNotEqualTo(0);
+        assertThat(permutation.apply(1)).isNotEqualTo(permutation.apply(0) + 1);
+    }
+
+    @Test
+    void shouldIssueFromReservedBlockOnlyOnceItHasSettled() {
+        // given
+        long start = System.nanoTime();
+        allocator = newAllocator(Duration.ofMillis(200));
+
+        // when
+        allocator.allocate();
+
+        // then
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(200));
+    }
+
+    @Test
+    void shouldTellNumbersPastTheHighWaterMarkAreUnissued() throws InterruptedException {
+        // given
+        AccountNumberPermutation permutation = new AccountNumberPermutation(KEY);
+        highWaterMark.set(6);
+        allocator = newAllocator(Duration.ofSeconds(1));
+        AccountNumber unissued = AccountNumber.ofInt(permutation.apply(9));
+
+        // when
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!allocator.isUnissued(unissued) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        // then
+        assertThat(allocator.isUnissued(unissued)).isTrue();
+        assertThat(allocator.isUnissued(AccountNumber.ofInt(permutation.apply(5)))).isFalse();
+    }
+
+    @Test
+    void shouldNotTellUnissuedNumbersWithoutSettleTime() {
+        // given
+        allocator = newAllocator();
+
+        // when & then
+        assertThat(allocator.isUnissued(AccountNumber.ofInt(new AccountNumberPermutation(KEY).apply(999_999))))
+                .isFalse();
+    }
+
+    private AccountNumberAllocator newAllocator() {
+        return newAllocator(Duration.ZERO);
+    }
+
+    private AccountNumberAllocator newAllocator(Duration settle) {
+        return new AccountNumberAllocator(
+                blockRepository,
+                accountRepository,
+                mock(PlatformTransactionManager.class),
+                new AccountNumberProperties(3, KEY, settle),
+                new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,113 @@
+package com.eaglebank.application.service;
+
+import com.eaglebank.application.account.AccountOwnershipIndex;
+import com.eaglebank.config.AccountExistenceProperties;
+import com.eaglebank.domain.model.account.AccountNumber;
+import com.eaglebank.domain.model.user.UserId;
+import com.eaglebank.domain.repository.AccountRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class AccountOwnershipIndexTest {
+
+    private final UserId owner = UserId.of("usr-owner");
+    private final UserId stranger = UserId.of("usr-stranger");
+    private final AccountNumber loaded = AccountNumber.of("01000042");
+    private final AccountNumber unknown = AccountNumber.of("01999999");
+
+    private AccountRepository accountRepository;
+    private AccountOwnershipIndex index;
+
+    @BeforeEach
+    void setUp() {
+        accountRepository = mock(AccountRepository.class);
+        doAnswer(invocation -> {
+            BiConsumer<AccountNumber, UserId> consumer = invocation.getArgument(0);
+            consumer.accept(loaded, owner);
+            return null;
+        }).when(accountRepository).forEachOwnership(any());
+
+        index = newIndex(Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.close();
+    }
+
+    @Test
+    void shouldKnowOwnersOfAccountsLoadedOnStartup() {
+        assertThat(index.confirmsOwner(loaded, owner)).isTrue();
+        assertThat(index.refutesOwner(loaded, owner)).isFalse();
+        assertThat(index.confirmsOwner(loaded, stranger)).isFalse();
+        assertThat(index.refutesOwner(loaded, stranger)).isTrue();
+        assertThat(index.accountNumbersOf(owner)).containsExactly(loaded.toInt());
+        assertThat(index.accountNumbersOf(stranger)).isEmpty();
+    }
+
+    @Test
+    void shouldNeitherConfirmNorRefuteUnknownAccount() {
+        assertThat(index.confirmsOwner(unknown, owner)).isFalse();
+        assertThat(index.refutesOwner(unknown, stranger)).isFalse();
+    }
+
+    @Test
+    void shouldFollowCreateAndDelete() {
+        // when
+        index.addAfterCommit(unknown, owner);
+
+        // then
+        assertThat(index.confirmsOwner(unknown, owner)).isTrue();
+        assertThat(index.refutesOwner(unknown, stranger)).isTrue();
+        assertThat(index.accountNumbersOf(owner)).containsExactlyInAnyOrder(loaded.toInt(), unknown.toInt());
+
+        // when
+        index.removeAfterCommit(loaded);
+
+        // then
+        assertThat(index.confirmsOwner(loaded, owner)).isFalse();
+        assertThat(index.refutesOwner(loaded, stranger)).isFalse();
+        assertThat(index.accountNumbersOf(owner)).containsExactly(unknown.toInt());
+    }
+
+    @Test
+    void shouldPickUpAccountNumberReissuedByAnotherInstance() throws InterruptedException {
+        // given
+        doAnswer(invocation -> {
+            BiConsumer<AccountNumber, UserId> consumer = invocation.getArgument(1);
+            consumer.accept(loaded, stranger);
+            return null;
+        }).when(accountRepository).forEachOwnershipCreatedSince(any(), any());
+        index.close();
+
+        // when
+        index = newIndex(Duration.ofMillis(10));
+
+        // then
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!index.refutesOwner(loaded, owner) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(index.refutesOwner(loaded, owner)).isTrue();
+        assertThat(index.confirmsOwner(loaded, stranger)).isTrue();
+        assertThat(index.accountNumbersOf(owner)).isEmpty();
+        assertThat(index.accountNumbersOf(stranger)).containsExactly(loaded.toInt());
+    }
+
+    private AccountOwnershipIndex newIndex(Duration refreshInterval) {
+        return new AccountOwnershipIndex(
+                accountRepository,
+                new AccountExistenceProperties(refreshInterval, Duration.ofHours(1), Duration.ofMinutes(1)),
+                new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,190 @@
+package com.eaglebank.application.service;
+
+import com.eaglebank.application.transaction.AccountPostingExecutor;
+import com.eaglebank.application.transaction.PostingMode;
+import com.eaglebank.application.transaction.TransactionService;
+import com.eaglebank.application.transaction.TransactionServiceImpl;
+import com.eaglebank.config.PostingProperties;
+import com.eaglebank.domain.exception.InsufficientFundsException;
+import com.eaglebank.domain.model.account.AccountNumber;
+import com.eaglebank.domain.model.account.Money;
+import com.eaglebank.domain.model.transaction.Transaction;
+import com.eaglebank.domain.model.transaction.TransactionId;
+import com.eaglebank.domain.model.transaction.TransactionReference;
+import com.eaglebank.domain.model.transaction.TransactionType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.SmartTransactionObject;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class AccountPostingExecutorTest {
+
+    private RecordingTransactionManager transactionManager;
+    private AccountPostingExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        transactionManager = new RecordingTransactionManager();
+        executor = new AccountPostingExecutor(
+                new ScriptedTransactionService(transactionManager),
+                transactionManager,
+                new PostingProperties(PostingMode.SERIALIZED, 1, 3, Duration.ofMillis(200), 1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    void shouldFailOnlyThePostingThatDoomedTheBatch() {
+        // given
+        CompletableFuture<Transaction> deposit = CompletableFuture.supplyAsync(() -> executor.post(command("ok")));
+        CompletableFuture<Transaction> doomed = CompletableFuture.supplyAsync(() -> executor.post(command("boom")));
+        CompletableFuture<Transaction> rejected = CompletableFuture.supplyAsync(() -> executor.post(command("short")));
+
+        // when & then
+        assertThat(deposit.join().getReference()).isEqualTo(TransactionReference.of("ok"));
+        assertThatThrownBy(doomed::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(DataIntegrityViolationException.class);
+        assertThatThrownBy(rejected::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(InsufficientFundsException.class);
+        assertThat(transactionManager.rollbacks).hasValue(1);
+        assertThat(transactionManager.commits).hasPositiveValue();
+    }
+
+    @Test
+    void shouldSettleEveryPostingRacingTheShutdown() {
+        // given
+        List<CompletableFuture<Transaction>> postings = IntStream.range(0, 200)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> executor.post(command("ok-" + i))))
+                .toList();
+
+        // when
+        executor.close();
+
+        // then
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () ->
+                CompletableFuture.allOf(postings.toArray(CompletableFuture[]::new)).exceptionally(failure -> null).join());
+        postings.stream().filter(CompletableFuture::isCompletedExceptionally).forEach(posting ->
+                assertThatThrownBy(posting::join).hasCauseInstanceOf(IllegalStateException.class));
+        assertThatThrownBy(() -> executor.post(command("late")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Posting executor is shut down");
+    }
+
+    private static TransactionService.CreateTransactionCommand command(String reference) {
+        return new TransactionService.CreateTransactionCommand(
+                "01000001", "usr-posting", "DEPOSIT", 10.00, reference);
+    }
+
+    /**
+     * Joins the writer's transaction the way the transactional proxy does: a domain
+     * rejection leaves it intact, any other failure marks it rollback-only
+     */
+    private static final class ScriptedTransactionService extends TransactionServiceImpl {
+        private final TransactionTemplate participating;
+
+        ScriptedTransactionService(PlatformTransactionManager transactionManager) {
+            super(null, null, null, null, null, null, null);
+            this.participating = new TransactionTemplate(transactionManager);
+        }
+
+        @Override
+        public Transaction create(CreateTransactionCommand command) {
+            if (command.reference().equals("short")) {
+                throw new InsufficientFundsException("Insufficient funds in account " + command.accountNumber());
+            }
+            return participating.execute(status -> {
+                if (command.reference().equals("boom")) {
+                    throw new DataIntegrityViolationException("Duplicate transaction id");
+                }
+                Money amount = Money.gbp(command.amount());
+                return Transaction.create(
+                        TransactionId.generate(),
+                        AccountNumber.of(command.accountNumber()),
+                        TransactionType.DEPOSIT,
+                        amount,
+                        amount,
+                        TransactionReference.of(command.reference()));
+            });
+        }
+    }
+
+    /**
+     * Counts outcomes and tracks rollback-only the way a resource-backed manager does
+     */
+    private static final class RecordingTransactionManager extends AbstractPlatformTransactionManager {
+        private final AtomicInteger commits = new AtomicInteger();
+        private final AtomicInteger rollbacks = new AtomicInteger();
+        // Only touched by the single writer thread
+        private TransactionObject active;
+
+        @Override
+        protected Object doGetTransaction() {
+            return active != null ? active : new TransactionObject();
+        }
+
+        @Override
+        protected boolean isExistingTransaction(Object transaction) {
+            return transaction == active;
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            active = (TransactionObject) transaction;
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            commits.incrementAndGet();
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+            rollbacks.incrementAndGet();
+        }
+
+        @Override
+        protected void doSetRollbackOnly(DefaultTransactionStatus status) {
+            ((TransactionObject) status.getTransaction()).rollbackOnly = true;
+        }
+
+        @Override
+        protected void doCleanupAfterCompletion(Object transaction) {
+            active = null;
+        }
+
+        private static final class TransactionObject implements SmartTransactionObject {
+            private boolean rollbackOnly;
+
+            @Override
+            public boolean isRollbackOnly() {
+                return rollbackOnly;
+            }
+
+            @Override
+            public void flush() {
+            }
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.eaglebank.application.service;
 
+import com.eaglebank.application.account.AccountNumberAllocator;
+import com.eaglebank.application.account.AccountOwnershipIndex;
 import com.eaglebank.application.account.AccountService;
 import com.eaglebank.application.account.AccountServiceImpl;
 import com.eaglebank.domain.exception.AccountNotFoundException;
@@ -8,9 +10,11 @@ import com.eaglebank.domain.exception.UserNotFoundException;
 import com.eaglebank.domain.model.account.Account;
 import com.eaglebank.domain.model.account.AccountNumber;
 import com.eaglebank.domain.model.account.AccountType;
+import com.eaglebank.domain.model.account.Money;
 import com.eaglebank.domain.model.account.SortCode;
 import com.eaglebank.domain.model.user.UserId;
 import com.eaglebank.domain.repository.AccountRepository;
+import com.eaglebank.domain.repository.BalanceStripeRepository;
 import com.eaglebank.domain.repository.UserRepository;
 import com.eaglebank.domain.service.AccountDomainService;
 import org.junit.jupiter.api.BeforeEach;
@@ -40,6 +44,15 @@ class AccountServiceImplTest {
     @Mock
     private AccountDomainService accountDomainService;
 
+    @Mock
+    private BalanceStripeRepository balanceStripeRepository;
+
+    @Mock
+    private AccountOwnershipIndex ownershipIndex;
+
+    @Mock
+    private AccountNumberAllocator accountNumberAllocator;
+
     @InjectMocks
     private AccountServiceImpl accountService;
 
@@ -56,7 +69,7 @@ class AccountServiceImplTest {
     void shouldCreateAccount() {
         // given
         when(userRepository.existsById(userId)).thenReturn(true);
-        when(accountRepository.existsByAccountNumber(any(AccountNumber.class))).thenReturn(false);
+        when(accountNumberAllocator.allocate()).thenReturn(AccountNumber.of("01123456"));
         when(accountRepository.save(any(Account.class))).thenAnswer(i -> i.getArgument(0));
 
         AccountService.CreateAccountCommand command = new AccountService.CreateAccountCommand(
@@ -73,7 +86,9 @@ class AccountServiceImplTest {
         assertThat(result.getName()).isEqualTo(accountName);
         assertThat(result.getType()).isEqualTo(AccountType.PERSONAL);
         assertThat(result.getOwnerId()).isEqualTo(userId);
+        assertThat(result.getAccountNumber()).isEqualTo(AccountNumber.of("01123456"));
         verify(accountRepository).save(any(Account.class));
+        verify(ownershipIndex).addAfterCommit(result.getAccountNumber(), userId);
     }
 
     @Test
@@ -115,6 +130,7 @@ class AccountServiceImplTest {
                 AccountType.PERSONAL
         );
 
+        when(ownershipIndex.accountNumbersOf(userId)).thenReturn(new int[0]);
         when(accountRepository.findByOwnerId(userId)).thenReturn(List.of(account1, account2));
 
         // when
@@ -125,6 +141,58 @@ class AccountServiceImplTest {
         assertThat(result).containsExactly(account1, account2);
     }
 
+    @Test
+    void shouldListAccountsKnownToIndexWithoutQueryingByOwner() {
+        // given
+        when(userRepository.existsById(userId)).thenReturn(true);
+        Account account = Account.create(
+                AccountNumber.of("01123456"),
+                SortCode.defaultSortCode(),
+                userId,
+                "Account 1",
+                AccountType.PERSONAL
+        );
+        when(ownershipIndex.accountNumbersOf(userId)).thenReturn(new int[]{account.getAccountNumber().toInt()});
+        when(accountRepository.countByOwnerId(userId)).thenReturn(1L);
+        when(accountRepository.findByAccountNumber(account.getAccountNumber())).thenReturn(Optional.of(account));
+
+        // when
+        List<Account> result = accountService.list(userId.getValue());
+
+        // then
+        assertThat(result).containsExactly(account);
+        verify(accountRepository, never()).findByOwnerId(any());
+    }
+
+    @Test
+    void shouldQueryByOwnerWhenIndexMissesAnAccount() {
+        // given
+        when(userRepository.existsById(userId)).thenReturn(true);
+        Account known = Account.create(
+                AccountNumber.of("01123456"),
+                SortCode.defaultSortCode(),
+                userId,
+                "Account 1",
+                AccountType.PERSONAL
+        );
+        Account createdElsewhere = Account.create(
+                AccountNumber.of("01789012"),
+                SortCode.defaultSortCode(),
+                userId,
+                "Account 2",
+                AccountType.PERSONAL
+        );
+        when(ownershipIndex.accountNumbersOf(userId)).thenReturn(new int[]{known.getAccountNumber().toInt()});
+        when(accountRepository.countByOwnerId(userId)).thenReturn(2L);
+        when(accountRepository.findByOwnerId(userId)).thenReturn(List.of(known, createdElsewhere));
+
+        // when
+        List<Account> result = accountService.list(userId.getValue());
+
+        // then
+        assertThat(result).containsExactly(known, createdElsewhere);
+    }
+
     @Test
     void shouldUpdateAccountName() {
         // given
@@ -150,6 +218,7 @@ class AccountServiceImplTest {
 
         // then
         assertThat(result.getName()).isEqualTo("New Name");
+        verify(accountRepository).save(account);
     }
 
     @Test
@@ -181,6 +250,54 @@ class AccountServiceImplTest {
         verify(accountRepository, never()).save(any(Account.class));
     }
 
+    @Test
+    void shouldStripeAccountBalance() {
+        // given
+        AccountNumber accountNumber = AccountNumber.of("01123456");
+        Account account = Account.create(
+                accountNumber,
+                SortCode.defaultSortCode(),
+                userId,
+                accountName,
+                AccountType.BUSINESS
+        );
+        account.deposit(Money.gbp(75.00));
+
+        when(accountRepository.findByAccountNumber(accountNumber)).thenReturn(Optional.of(account));
+
+        // when
+        Account result = accountService.stripeBalance(accountNumber.getValue(), 4);
+
+        // then
+        assertThat(result.getBalanceStripes()).isEqualTo(4);
+        verify(accountRepository).save(account);
+        verify(balanceStripeRepository).create(accountNumber, 4, Money.gbp(75.00));
+    }
+
+    @Test
+    void shouldLeaveStripedAccountUnchanged() {
+        // given
+        AccountNumber accountNumber = AccountNumber.of("01123456");
+        Account account = Account.create(
+                accountNumber,
+                SortCode.defaultSortCode(),
+                userId,
+                accountName,
+                AccountType.BUSINESS
+        );
+        account.stripeBalance(8);
+
+        when(accountRepository.findByAccountNumber(accountNumber)).thenReturn(Optional.of(account));
+
+        // when
+        Account result = accountService.stripeBalance(accountNumber.getValue(), 4);
+
+        // then
+        assertThat(result.getBalanceStripes()).isEqualTo(8);
+        verify(accountRepository, never()).save(any(Account.class));
+        verifyNoInteractions(balanceStripeRepository);
+    }
+
     @Test
     void shouldDeleteAccount() {
         // given
@@ -201,6 +318,20 @@ class AccountServiceImplTest {
 
         // then
         verify(accountRepository).deleteByAccountNumber(accountNumber);
+        verify(ownershipIndex).removeAfterCommit(accountNumber);
+    }
+
+    @Test
+    void shouldRejectNonOwnerKnownToIndexWithoutLoadingAccount() {
+        // given
+        AccountNumber accountNumber = AccountNumber.of("01123456");
+        when(ownershipIndex.refutesOwner(accountNumber, userId)).thenReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> accountService.get(accountNumber.getValue(), userId.getValue()))
+                .isInstanceOf(UnauthorizedAccessException.class);
+
+        verifyNoInteractions(accountRepository);
     }
 
     @Test
@@ -213,4 +344,30 @@ class AccountServiceImplTest {
         assertThatThrownBy(() -> accountService.delete(accountNumber.getValue(), userId.getValue()))
                 .isInstanceOf(AccountNotFoundException.class);
     }
+
+    @Test
+    void shouldRejectAccountNumberNotIssuedYet() {
+        // given
+        AccountNumber accountNumber = AccountNumber.of("01999999");
+        when(accountRepository.mightExist(accountNumber)).thenReturn(false);
+        when(accountNumberAllocator.isUnissued(accountNumber)).thenReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> accountService.requireKnown(accountNumber.getValue()))
+                .isInstanceOf(AccountNotFoundException.class);
+    }
+
+    @Test
+    void shouldLeaveIssuedAccountNumberNotSeenYetToTheLookup() {
+        // given
+        AccountNumber accountNumber = AccountNumber.of("01999999");
+        when(accountRepository.mightExist(accountNumber)).thenReturn(false);
+        when(accountNumberAllocator.isUnissued(accountNumber)).thenReturn(false);
+
+        // when
+        accountService.requireKnown(accountNumber.getValue());
+
+        // then
+        verify(accountRepository, never()).findByAccountNumber(any());
+    }
 }
@@ -0,0 +1,88 @@
+package com.eaglebank.application.service;
+
+import com.eaglebank.application.transaction.BalanceEngine;
+import com.eaglebank.application.transaction.BalanceProjector;
+import com.eaglebank.application.transaction.InMemoryBalances;
+import com.eaglebank.config.JournalProperties;
+import com.eaglebank.domain.model.account.Account;
+import com.eaglebank.domain.model.account.AccountNumber;
+import com.eaglebank.domain.model.account.AccountType;
+import com.eaglebank.domain.model.account.Money;
+import com.eaglebank.domain.model.account.SortCode;
+import com.eaglebank.domain.model.transaction.Transaction;
+import com.eaglebank.domain.model.transaction.TransactionReference;
+import com.eaglebank.domain.model.transaction.TransactionType;
+import com.eaglebank.domain.model.user.UserId;
+import com.eaglebank.domain.repository.BalanceSnapshotStore;
+import com.eaglebank.domain.repository.PostingJournal;
+import com.eaglebank.domain.service.TransactionDomainService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BalanceEngineTest {
+
+    @Mock
+    private PostingJournal journal;
+
+    @Mock
+    private BalanceSnapshotStore snapshotStore;
+
+    @Mock
+    private BalanceProjector projector;
+
+    private InMemoryBalances balances;
+    private BalanceEngine engine;
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        when(snapshotStore.load()).thenReturn(Optional.empty());
+        balances = new InMemoryBalances();
+        engine = new BalanceEngine(balances, journal, snapshotStore, projector, new TransactionDomainService(),
+                new JournalProperties(Path.of("unused"), DataSize.ofMegabytes(1), 1_000));
+        account = Account.create(
+                AccountNumber.of("01336459"),
+                SortCode.of("12-34-56"),
+                UserId.generate(),
+                "Journaled Account",
+                AccountType.PERSONAL);
+        when(journal.append(any())).thenAnswer(invocation ->
+                new PostingJournal.Entry(1, invocation.getArgument(0, Transaction.class)));
+    }
+
+    @Test
+    void shouldShowBalanceOnceThePostingIsDurable() {
+        // when
+        engine.post(account, TransactionType.DEPOSIT, Money.gbp(25.00), TransactionReference.of("Durable"));
+
+        // then
+        assertThat(balances.get(account.getAccountNumber())).contains(Money.gbp(25.00));
+    }
+
+    @Test
+    void shouldNotShowBalanceOfPostingTheJournalFailedToFlush() {
+        // given
+        doThrow(new IllegalStateException("Posting journal failed to flush")).when(journal).awaitDurable(anyLong());
+
+        // when & then
+        assertThatThrownBy(() -> engine.post(account, TransactionType.DEPOSIT, Money.gbp(25.00),
+                TransactionReference.of("Lost")))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(balances.get(account.getAccountNumber())).isEmpty();
+    }
+}
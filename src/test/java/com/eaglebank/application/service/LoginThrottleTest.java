@@ -0,0 +1,90 @@
+package com.eaglebank.application.service;
+
+import com.eaglebank.application.exception.TooManyRequestsException;
+import com.eaglebank.application.user.LoginThrottle;
+import com.eaglebank.config.LoginThrottleProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginThrottleTest {
+
+    private MeterRegistry meterRegistry;
+    private LoginThrottle loginThrottle;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        loginThrottle = new LoginThrottle(
+                new LoginThrottleProperties(Duration.ofMinutes(1), 3, 5, 1_000),
+                meterRegistry
+        );
+    }
+
+    @Test
+    void shouldRejectEmailOverLimit() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            loginThrottle.acquire("victim@example.com", "10.0.0." + i);
+        }
+
+        // when & then
+        assertThatThrownBy(() -> loginThrottle.acquire("Victim@Example.com ", "10.0.0.99"))
+                .isInstanceOf(TooManyRequestsException.class)
+                .satisfies(e -> assertThat(((TooManyRequestsException) e).getRetryAfter())
+                        .isPositive()
+                        .isLessThanOrEqualTo(Duration.ofMinutes(1)));
+        assertThat(meterRegistry.counter("eaglebank.login.throttled", "key", "email").count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectAddressOverLimitAcrossEmails() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            loginThrottle.acquire("user" + i + "@example.com", "10.0.0.1");
+        }
+
+        // when & then
+        assertThatThrownBy(() -> loginThrottle.acquire("fresh@example.com", "10.0.0.1"))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThat(meterRegistry.counter("eaglebank.login.throttled", "key", "address").count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldAdmitOtherEmailFromAddressStillUnderLimit() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            loginThrottle.acquire("victim@example.com", "10.0.0.1");
+        }
+        assertThatThrownBy(() -> loginThrottle.acquire("victim@example.com", "10.0.0.1"))
+                .isInstanceOf(TooManyRequestsException.class);
+
+        // when & then: the address has used four of its five attempts
+        assertThatCode(() -> loginThrottle.acquire("other@example.com", "10.0.0.1"))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void shouldAdmitAgainOnceWindowHasSlid() throws InterruptedException {
+        // given
+        LoginThrottle shortWindow = new LoginThrottle(
+                new LoginThrottleProperties(Duration.ofMillis(50), 1, 10, 1_000),
+                meterRegistry
+        );
+        shortWindow.acquire("user@example.com", "10.0.0.1");
+
+        // when
+        Thread.sleep(120);
+
+        // then
+        assertThatCode(() -> shortWindow.acquire("user@example.com", "10.0.0.1"))
+                .doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,85 @@
+package com.eaglebank.application.service;
+
+import com.eaglebank.application.retry.OptimisticLockRetry;
+import com.eaglebank.config.RetryProperties;
+import com.eaglebank.domain.exception.InsufficientFundsException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OptimisticLockRetryTest {
+
+    private MeterRegistry meterRegistry;
+    private OptimisticLockRetry retry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        retry = new OptimisticLockRetry(
+                new RetryProperties(3, Duration.ofNanos(1000), Duration.ofMillis(1)),
+                meterRegistry
+        );
+    }
+
+    @Test
+    void shouldRetryUntilAttemptSucceeds() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        String result = retry.execute("test", () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new ObjectOptimisticLockingFailureException("Account", "01123456");
+            }
+            return "posted";
+        });
+
+        // then
+        assertThat(result).isEqualTo("posted");
+        assertThat(attempts).hasValue(3);
+        assertThat(meterRegistry.counter("eaglebank.optimistic.lock.retries", "operation", "test").count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.counter("eaglebank.optimistic.lock.exhausted", "operation", "test").count())
+                .isZero();
+    }
+
+    @Test
+    void shouldRethrowWhenAttemptsAreExhausted() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when & then
+        assertThatThrownBy(() -> retry.execute("test", () -> {
+            attempts.incrementAndGet();
+            throw new ObjectOptimisticLockingFailureException("Account", "01123456");
+        })).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+        assertThat(attempts).hasValue(3);
+        assertThat(meterRegistry.counter("eaglebank.optimistic.lock.retries", "operation", "test").count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.counter("eaglebank.optimistic.lock.exhausted", "operation", "test").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotRetryDomainFailures() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when & then
+        assertThatThrownBy(() -> retry.execute("test", () -> {
+            attempts.incrementAndGet();
+            throw new InsufficientFundsException("Insufficient funds");
+        })).isInstanceOf(InsufficientFundsException.class);
+
+        assertThat(attempts).hasValue(1);
+    }
+}
@@ -0,0 +1,139 @@
+package com.eaglebank.application.service;
+
+import com.eaglebank.application.account.AccountService;
+import com.eaglebank.application.exception.ServiceOverloadedException;
+import com.eaglebank.application.overview.OverviewService;
+import com.eaglebank.application.overview.OverviewServiceImpl;
+import com.eaglebank.application.transaction.TransactionService;
+import com.eaglebank.application.user.UserService;
+import com.eaglebank.config.OverviewProperties;
+import com.eaglebank.domain.exception.UserNotFoundException;
+import com.eaglebank.domain.model.account.*;
+import com.eaglebank.domain.model.transaction.Transaction;
+import com.eaglebank.domain.model.transaction.TransactionId;
+import com.eaglebank.domain.model.transaction.TransactionReference;
+import com.eaglebank.domain.model.transaction.TransactionType;
+import com.eaglebank.domain.model.user.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OverviewServiceImplTest {
+
+    private static final String USER_ID = "usr-overview";
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private AccountService accountService;
+
+    @Mock
+    private TransactionService transactionService;
+
+    @Test
+    void shouldAssembleTheLatestTransactionsOfEveryAccount() {
+        // given
+        Account first = account("01100001");
+        Account second = account("01100002");
+        Transaction deposit = deposit("01100001");
+        when(userService.get(USER_ID, USER_ID)).thenReturn(user());
+        when(accountService.list(USER_ID)).thenReturn(List.of(first, second));
+        when(transactionService.list(argThat(query -> query != null && query.accountNumber().equals("01100001"))))
+                .thenReturn(new TransactionService.TransactionPage(List.of(deposit), null));
+        when(transactionService.list(argThat(query -> query != null && query.accountNumber().equals("01100002"))))
+                .thenReturn(new TransactionService.TransactionPage(List.of(), null));
+
+        // when
+        OverviewService.Overview overview = service(Duration.ofSeconds(5)).get(USER_ID, 3);
+
+        // then
+        assertThat(overview.user().getId().getValue()).isEqualTo(USER_ID);
+        assertThat(overview.accounts()).extracting(OverviewService.AccountOverview::account)
+                .containsExactly(first, second);
+        assertThat(overview.accounts().get(0).recentTransactions()).containsExactly(deposit);
+        assertThat(overview.accounts().get(1).recentTransactions()).isEmpty();
+    }
+
+    @Test
+    void shouldFailWhenTheReadsMissTheDeadline() {
+        // given
+        when(userService.get(USER_ID, USER_ID)).thenReturn(user());
+        when(accountService.list(USER_ID)).thenReturn(List.of(account("01100001")));
+        when(transactionService.list(any())).thenAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return new TransactionService.TransactionPage(List.of(), null);
+        });
+
+        // when & then
+        assertThatThrownBy(() -> service(Duration.ofMillis(100)).get(USER_ID, null))
+                .isInstanceOf(ServiceOverloadedException.class);
+    }
+
+    @Test
+    void shouldPropagateTheFailureOfAFork() {
+        // given
+        when(userService.get(USER_ID, USER_ID)).thenThrow(new UserNotFoundException(UserId.of(USER_ID)));
+        when(accountService.list(USER_ID)).thenReturn(List.of());
+
+        // when & then
+        assertThatThrownBy(() -> service(Duration.ofSeconds(5)).get(USER_ID, null))
+                .isInstanceOf(UserNotFoundException.class);
+    }
+
+    @Test
+    void shouldRejectANonPositiveTransactionCount() {
+        // when & then
+        assertThatThrownBy(() -> service(Duration.ofSeconds(5)).get(USER_ID, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(userService, accountService, transactionService);
+    }
+
+    private OverviewServiceImpl service(Duration deadline) {
+        return new OverviewServiceImpl(userService, accountService, transactionService,
+                new OverviewProperties(deadline, 5, Duration.ofSeconds(1)));
+    }
+
+    private static User user() {
+        return User.create(
+                UserId.of(USER_ID),
+                "Overview User",
+                Email.of("overview@example.com"),
+                PhoneNumber.of("+442012345678"),
+                Address.of("1 Overview St", null, null, "London", "Greater London", "SW1A 1AA"),
+                "$2a$10$hashedPassword"
+        );
+    }
+
+    private static Account account(String accountNumber) {
+        return Account.create(
+                AccountNumber.of(accountNumber),
+                SortCode.defaultSortCode(),
+                UserId.of(USER_ID),
+                "Overview Account",
+                AccountType.PERSONAL
+        );
+    }
+
+    private static Transaction deposit(String accountNumber) {
+        return Transaction.create(
+                TransactionId.generate(),
+                AccountNumber.of(accountNumber),
+                TransactionType.DEPOSIT,
+                Money.gbp(10.00),
+                Money.gbp(10.00),
+                TransactionReference.of("Overview deposit"));
+    }
+}
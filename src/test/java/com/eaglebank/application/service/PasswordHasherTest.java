@@ -0,0 +1,111 @@
+package com.eaglebank.application.service;
+
+import com.eaglebank.application.exception.ServiceOverloadedException;
+import com.eaglebank.application.user.PasswordHasher;
+import com.eaglebank.config.PasswordHashingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHasherTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PasswordHasher passwordHasher;
+
+    @AfterEach
+    void tearDown() {
+        passwordHasher.close();
+    }
+
+    @Test
+    void shouldHashAndMatchOnHashingPool() {
+        // given
+        passwordHasher = hasher(new BCryptPasswordEncoder(4), 2, 8);
+
+        // when
+        String hash = passwordHasher.hash("password123");
+
+        // then
+        assertThat(passwordHasher.matches("password123", hash)).isTrue();
+        assertThat(passwordHasher.matches("wrong", hash)).isFalse();
+        assertThat(meterRegistry.timer("eaglebank.password.hashing.duration", "operation", "matches").count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void shouldRequestRehashWhenCostFactorWasRaised() {
+        // given
+        String weakHash = new BCryptPasswordEncoder(4).encode("password123");
+        passwordHasher = hasher(new BCryptPasswordEncoder(5), 1, 1);
+
+        // when & then
+        assertThat(passwordHasher.needsRehash(weakHash)).isTrue();
+        assertThat(passwordHasher.needsRehash(passwordHasher.hash("password123"))).isFalse();
+    }
+
+    @Test
+    void shouldShedHashingWhenQueueIsFull() throws Exception {
+        // given: one thread busy and one hash queued behind it
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        passwordHasher = hasher(new BlockingPasswordEncoder(started, release), 1, 1);
+
+        try (ExecutorService callers = Executors.newFixedThreadPool(2)) {
+            callers.submit(() -> passwordHasher.hash("first"));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            callers.submit(() -> passwordHasher.hash("second"));
+            while (meterRegistry.get("eaglebank.password.hashing.queue.depth").gauge().value() < 1) {
+                Thread.onSpinWait();
+            }
+
+            // when & then
+            assertThatThrownBy(() -> passwordHasher.hash("third"))
+                    .isInstanceOf(ServiceOverloadedException.class)
+                    .satisfies(e -> assertThat(((ServiceOverloadedException) e).getRetryAfter())
+                            .isEqualTo(Duration.ofSeconds(2)));
+            assertThat(meterRegistry.counter("eaglebank.password.hashing.rejected", "operation", "hash").count())
+                    .isEqualTo(1);
+
+            release.countDown();
+        }
+    }
+
+    private PasswordHasher hasher(PasswordEncoder encoder, int threads, int queueCapacity) {
+        return new PasswordHasher(
+                encoder,
+                new PasswordHashingProperties(threads, queueCapacity, 4, Duration.ofSeconds(2)),
+                meterRegistry
+        );
+    }
+
+    private record BlockingPasswordEncoder(CountDownLatch started, CountDownLatch release) implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "hashed-" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encodedPassword.equals(encode(rawPassword));
+        }
+    }
+}
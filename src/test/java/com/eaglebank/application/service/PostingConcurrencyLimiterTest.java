@@ -0,0 +1,118 @@
+package com.eaglebank.application.service;
+
+import com.eaglebank.application.exception.ServiceOverloadedException;
+import com.eaglebank.application.transaction.PostingConcurrencyLimiter;
+import com.eaglebank.config.PostingLimitProperties;
+import com.eaglebank.domain.exception.InsufficientFundsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostingConcurrencyLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldShedPostingsBeyondTheLimit() throws Exception {
+        // given
+        PostingConcurrencyLimiter limiter = limiter(1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> limiter.execute(() -> {
+            started.countDown();
+            await(release);
+            return "posted";
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when & then
+        assertThatThrownBy(() -> limiter.execute(() -> "posted"))
+                .isInstanceOf(ServiceOverloadedException.class)
+                .satisfies(e -> assertThat(((ServiceOverloadedException) e).getRetryAfter())
+                        .isEqualTo(Duration.ofSeconds(1)));
+        assertThat(meterRegistry.counter("eaglebank.posting.rejected").count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("posted");
+        assertThat(limiter.execute(() -> "posted")).isEqualTo("posted");
+    }
+
+    @Test
+    void shouldLowerTheLimitWhenLatencyRises() {
+        // given
+        PostingConcurrencyLimiter limiter = limiter(20);
+        for (int i = 0; i < 50; i++) {
+            limiter.execute(() -> "fast");
+        }
+        double before = limiter.limit();
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            limiter.execute(() -> {
+                sleep(5);
+                return "slow";
+            });
+        }
+
+        // then
+        assertThat(limiter.limit()).isLessThan(before);
+        assertThat(meterRegistry.get("eaglebank.posting.limit").gauge().value()).isEqualTo(limiter.limit());
+    }
+
+    @Test
+    void shouldBackOffWhenPostingFailsForNonDomainReason() {
+        // given
+        PostingConcurrencyLimiter limiter = limiter(20);
+
+        // when
+        assertThatThrownBy(() -> limiter.execute(() -> {
+            throw new IllegalStateException("Connection is not available");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // then
+        assertThat(limiter.limit()).isEqualTo(18);
+    }
+
+    @Test
+    void shouldNotBackOffWhenPostingBreaksDomainRule() {
+        // given
+        PostingConcurrencyLimiter limiter = limiter(20);
+
+        // when
+        assertThatThrownBy(() -> limiter.execute(() -> {
+            throw new InsufficientFundsException("Insufficient funds");
+        })).isInstanceOf(InsufficientFundsException.class);
+
+        // then
+        assertThat(limiter.limit()).isEqualTo(20);
+    }
+
+    private PostingConcurrencyLimiter limiter(int initialLimit) {
+        return new PostingConcurrencyLimiter(
+                new PostingLimitProperties(initialLimit, 1, 200, 0.2, Duration.ofSeconds(1)),
+                meterRegistry);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,17 +1,24 @@
 package com.eaglebank.application.service;
 
+import com.eaglebank.application.account.AccountOwnershipIndex;
+import com.eaglebank.application.transaction.BalanceEngine;
+import com.eaglebank.application.transaction.PostingMode;
 import com.eaglebank.application.transaction.TransactionService;
 import com.eaglebank.application.transaction.TransactionServiceImpl;
+import com.eaglebank.config.PostingProperties;
 import com.eaglebank.domain.exception.AccountNotFoundException;
+import com.eaglebank.domain.exception.InsufficientFundsException;
 import com.eaglebank.domain.exception.TransactionNotFoundException;
 import com.eaglebank.domain.exception.UnauthorizedAccessException;
 import com.eaglebank.domain.model.account.*;
 import com.eaglebank.domain.model.transaction.Transaction;
+import com.eaglebank.domain.model.transaction.TransactionCursor;
 import com.eaglebank.domain.model.transaction.TransactionId;
 import com.eaglebank.domain.model.transaction.TransactionReference;
 import com.eaglebank.domain.model.transaction.TransactionType;
 import com.eaglebank.domain.model.user.UserId;
 import com.eaglebank.domain.repository.AccountRepository;
+import com.eaglebank.domain.repository.BalanceStripeRepository;
 import com.eaglebank.domain.repository.TransactionRepository;
 import com.eaglebank.domain.service.TransactionDomainService;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,15 +26,25 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.beans.factory.ObjectProvider;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.intThat;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,6 +59,21 @@ class TransactionServiceImplTest {
     @Mock
     private TransactionDomainService transactionDomainService;
 
+    @Mock
+    private BalanceStripeRepository balanceStripeRepository;
+
+    @Mock
+    private ObjectProvider<BalanceEngine> balanceEngineProvider;
+
+    @Mock
+    private BalanceEngine balanceEngine;
+
+    @Mock
+    private AccountOwnershipIndex ownershipIndex;
+
+    @Spy
+    private PostingProperties postingProperties = new PostingProperties(PostingMode.OPTIMISTIC, 1, 1, Duration.ZERO, 1);
+
     @InjectMocks
     private TransactionServiceImpl transactionService;
 
@@ -191,6 +223,201 @@ class TransactionServiceImplTest {
                 .hasMessageContaining("Invalid transaction type");
     }
 
+    @Test
+    void shouldPostDepositAtomicallyInAtomicMode() {
+        // given
+        doReturn(PostingMode.ATOMIC).when(postingProperties).mode();
+        when(accountRepository.findByAccountNumber(accountNumber)).thenReturn(Optional.of(testAccount));
+        when(transactionRepository.postAtomically(any(), eq(accountNumber), eq(TransactionType.DEPOSIT),
+                eq(Money.gbp(100.00)), eq(TransactionReference.of("REF-12345"))))
+                .thenReturn(Optional.of(testTransaction));
+
+        TransactionService.CreateTransactionCommand command = new TransactionService.CreateTransactionCommand(
+                accountNumber.getValue(),
+                ownerId.getValue(),
+                "DEPOSIT",
+                100.00,
+                "REF-12345");
+
+        // when
+        Transaction result = transactionService.create(command);
+
+        // then
+        assertThat(result).isEqualTo(testTransaction);
+        verify(transactionDomainService).validatePosting(testAccount, Money.gbp(100.00));
+        verify(accountRepository, never()).save(any());
+        verify(transactionRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldRejectAtomicWithdrawalWhenGuardFails() {
+        // given
+        doReturn(PostingMode.ATOMIC).when(postingProperties).mode();
+        when(accountRepository.findByAccountNumber(accountNumber)).thenReturn(Optional.of(testAccount));
+        when(transactionRepository.postAtomically(any(), any(), any(), any(), any())).thenReturn(Optional.empty());
+
+        TransactionService.CreateTransactionCommand command = new TransactionService.CreateTransactionCommand(
+                accountNumber.getValue(),
+                ownerId.getValue(),
+                "WITHDRAWAL",
+                50.00,
+                "REF-67890");
+
+        // when & then
+        assertThatThrownBy(() -> transactionService.create(command))
+                .isInstanceOf(InsufficientFundsException.class);
+    }
+
+    @Test
+    void shouldPostToStripeWhenAccountWasStripedAfterItWasRead() {
+        // given
+        doReturn(PostingMode.ATOMIC).when(postingProperties).mode();
+        when(accountRepository.findByAccountNumber(accountNumber)).thenReturn(Optional.of(testAccount));
+        when(transactionRepository.postAtomically(any(), any(), any(), any(), any())).thenReturn(Optional.empty());
+        when(accountRepository.findBalanceStripes(accountNumber)).thenReturn(4);
+        when(balanceStripeRepository.lockTotal(eq(accountNumber), any())).thenReturn(Money.gbp(90.00));
+        when(transactionDomainService.createWithdrawalTransaction(any(), any(), any())).thenReturn(testTransaction);
+        when(balanceStripeRepository.debit(eq(accountNumber), anyInt(), eq(Money.gbp(50.00)))).thenReturn(true);
+        when(transactionRepository.save(testTransaction)).thenReturn(testTransaction);
+
+        TransactionService.CreateTransactionCommand command = new TransactionService.CreateTransactionCommand(
+                accountNumber.getValue(),
+                ownerId.getValue(),
+                "WITHDRAWAL",
+                50.00,
+                "REF-67890");
+
+        // when
+        Transaction result = transactionService.create(command);
+
+        // then: the withdrawal is checked against the stripes' total, not reported as insufficient
+        assertThat(result).isEqualTo(testTransaction);
+        assertThat(testAccount.getBalance()).isEqualTo(Money.gbp(40.00));
+        verify(balanceStripeRepository).debit(eq(accountNumber), intThat(stripe -> stripe >= 0 && stripe < 4),
+                eq(Money.gbp(50.00)));
+        verify(accountRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldCreditOneStripeOfStripedAccount() {
+        // given
+        testAccount.stripeBalance(4);
+        when(accountRepository.findByAccountNumber(accountNumber)).thenReturn(Optional.of(testAccount));
+        when(transactionDomainService.createDepositTransaction(any(), any(), any())).thenReturn(testTransaction);
+        when(transactionRepository.save(testTransaction)).thenReturn(testTransaction);
+
+        TransactionService.CreateTransactionCommand command = new TransactionService.CreateTransactionCommand(
+                accountNumber.getValue(),
+                ownerId.getValue(),
+                "DEPOSIT",
+                100.00,
+                "REF-12345");
+
+        // when
+        Transaction result = transactionService.create(command);
+
+        // then
+        assertThat(result).isEqualTo(testTransaction);
+        verify(balanceStripeRepository).credit(eq(accountNumber), intThat(stripe -> stripe >= 0 && stripe < 4),
+                eq(Money.gbp(100.00)));
+        verify(accountRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldConsolidateStripesWhenNoStripeCoversWithdrawal() {
+        // given
+        testAccount.deposit(Money.gbp(80.00));
+        testAccount.stripeBalance(4);
+        when(accountRepository.findByAccountNumber(accountNumber)).thenReturn(Optional.of(testAccount));
+        when(transactionDomainService.createWithdrawalTransaction(any(), any(), any())).thenReturn(testTransaction);
+        when(balanceStripeRepository.debit(any(), anyInt(), any())).thenReturn(false);
+        when(balanceStripeRepository.lockTotal(eq(accountNumber), any())).thenReturn(Money.gbp(90.00));
+        when(transactionRepository.save(testTransaction)).thenReturn(testTransaction);
+
+        TransactionService.CreateTransactionCommand command = new TransactionService.CreateTransactionCommand(
+                accountNumber.getValue(),
+                ownerId.getValue(),
+                "WITHDRAWAL",
+                50.00,
+                "REF-67890");
+
+        // when
+        transactionService.create(command);
+
+        // then: the withdrawal is re-applied to the locked total and the rest kept on one stripe
+        verify(balanceStripeRepository).consolidate(accountNumber, Money.gbp(40.00));
+        verify(accountRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldPostThroughBalanceEngineInJournaledMode() {
+        // given
+        doReturn(PostingMode.JOURNALED).when(postingProperties).mode();
+        when(accountRepository.findByAccountNumber(accountNumber)).thenReturn(Optional.of(testAccount));
+        when(balanceEngineProvider.getObject()).thenReturn(balanceEngine);
+        when(balanceEngine.post(testAccount, TransactionType.DEPOSIT, Money.gbp(100.00),
+                TransactionReference.of("REF-12345"))).thenReturn(testTransaction);
+
+        TransactionService.CreateTransactionCommand command = new TransactionService.CreateTransactionCommand(
+                accountNumber.getValue(),
+                ownerId.getValue(),
+                "DEPOSIT",
+                100.00,
+                "REF-12345");
+
+        // when
+        Transaction result = transactionService.create(command);
+
+        // then
+        assertThat(result).isEqualTo(testTransaction);
+        verify(accountRepository, never()).save(any());
+        verify(transactionRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldPostJournaledOutsideDatabaseTransaction() {
+        // given
+        when(accountRepository.findByAccountNumber(accountNumber)).thenReturn(Optional.of(testAccount));
+        when(balanceEngineProvider.getObject()).thenReturn(balanceEngine);
+        when(balanceEngine.post(testAccount, TransactionType.DEPOSIT, Money.gbp(100.00),
+                TransactionReference.of("REF-12345"))).thenReturn(testTransaction);
+
+        TransactionService.CreateTransactionCommand command = new TransactionService.CreateTransactionCommand(
+                accountNumber.getValue(),
+                ownerId.getValue(),
+                "DEPOSIT",
+                100.00,
+                "REF-12345");
+
+        // when
+        Optional<Transaction> result = transactionService.createJournaled(command);
+
+        // then
+        assertThat(result).contains(testTransaction);
+        verify(accountRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldLeaveStripedAccountToTransactionalPostingInJournaledMode() {
+        // given
+        testAccount.stripeBalance(4);
+        when(accountRepository.findByAccountNumber(accountNumber)).thenReturn(Optional.of(testAccount));
+
+        TransactionService.CreateTransactionCommand command = new TransactionService.CreateTransactionCommand(
+                accountNumber.getValue(),
+                ownerId.getValue(),
+                "DEPOSIT",
+                100.00,
+                "REF-12345");
+
+        // when
+        Optional<Transaction> result = transactionService.createJournaled(command);
+
+        // then
+        assertThat(result).isEmpty();
+        verifyNoInteractions(balanceEngineProvider, balanceStripeRepository);
+    }
+
     @Test
     void shouldGetTransactionById() {
         // given
@@ -286,16 +513,130 @@ class TransactionServiceImplTest {
         // given
         List<Transaction> transactions = List.of(testTransaction);
         when(accountRepository.findByAccountNumber(accountNumber)).thenReturn(Optional.of(testAccount));
-        when(transactionRepository.findByAccountNumber(accountNumber)).thenReturn(transactions);
+        when(transactionRepository.findByAccountNumber(eq(accountNumber), isNull(), anyInt())).thenReturn(transactions);
 
         // when
-        List<Transaction> result = transactionService.list(accountNumber.getValue(), ownerId.getValue());
+        TransactionService.TransactionPage result = transactionService.list(listQuery(ownerId, null, null));
 
         // then
-        assertThat(result).hasSize(1);
-        assertThat(result).contains(testTransaction);
+        assertThat(result.transactions()).hasSize(1);
+        assertThat(result.transactions()).contains(testTransaction);
+        assertThat(result.next()).isNull();
+        verify(accountRepository).findByAccountNumber(accountNumber);
+        verify(transactionRepository).findByAccountNumber(accountNumber, null, 51);
+    }
+
+    @Test
+    void shouldRejectFormerOwnerOfReissuedAccountNumberNotYetRefutedByIndex() {
+        // given
+        UserId formerOwner = UserId.generate();
+        when(accountRepository.findByAccountNumber(accountNumber)).thenReturn(Optional.of(testAccount));
+
+        // when & then
+        assertThatThrownBy(() -> transactionService.list(listQuery(formerOwner, null, null)))
+                .isInstanceOf(UnauthorizedAccessException.class);
+
         verify(accountRepository).findByAccountNumber(accountNumber);
-        verify(transactionRepository).findByAccountNumber(accountNumber);
+        verifyNoInteractions(transactionRepository);
+    }
+
+    @Test
+    void shouldListWithoutLoadingAccountWhenIndexConfirmsOwner() {
+        // given
+        when(ownershipIndex.confirmsOwner(accountNumber, ownerId)).thenReturn(true);
+        when(transactionRepository.findByAccountNumber(accountNumber, null, 51)).thenReturn(List.of(testTransaction));
+
+        // when
+        TransactionService.TransactionPage result = transactionService.list(listQuery(ownerId, null, null));
+
+        // then
+        assertThat(result.transactions()).containsExactly(testTransaction);
+        verifyNoInteractions(accountRepository);
+    }
+
+    @Test
+    void shouldRejectNonOwnerKnownToIndexWithoutLoadingAccount() {
+        // given
+        UserId unauthorizedUser = UserId.generate();
+        when(ownershipIndex.refutesOwner(accountNumber, unauthorizedUser)).thenReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> transactionService.list(listQuery(unauthorizedUser, null, null)))
+                .isInstanceOf(UnauthorizedAccessException.class);
+
+        verifyNoInteractions(accountRepository, transactionRepository);
+    }
+
+    @Test
+    void shouldReturnNextCursorWhenMoreTransactionsExist() {
+        // given
+        Transaction older = Transaction.create(
+                TransactionId.generate(),
+                accountNumber,
+                TransactionType.DEPOSIT,
+                Money.gbp(50.00),
+                Money.gbp(50.00),
+                TransactionReference.of("REF-OLDER")
+        );
+        when(accountRepository.findByAccountNumber(accountNumber)).thenReturn(Optional.of(testAccount));
+        when(transactionRepository.findByAccountNumber(accountNumber, null, 2))
+                .thenReturn(List.of(testTransaction, older));
+
+        // when
+        TransactionService.TransactionPage result = transactionService.list(listQuery(ownerId, null, 1));
+
+        // then
+        assertThat(result.transactions()).containsExactly(testTransaction);
+        assertThat(result.next()).isNotNull();
+        TransactionCursor next = TransactionCursor.of(result.next());
+        assertThat(next.getTransactionId()).isEqualTo(transactionId);
+        assertThat(next.getCreatedAt()).isEqualTo(testTransaction.getCreatedAt());
+    }
+
+    @Test
+    void shouldContinueListingFromCursor() {
+        // given
+        TransactionCursor cursor = TransactionCursor.after(testTransaction);
+        when(accountRepository.findByAccountNumber(accountNumber)).thenReturn(Optional.of(testAccount));
+        when(transactionRepository.findByAccountNumber(accountNumber, cursor, 11)).thenReturn(List.of());
+
+        // when
+        TransactionService.TransactionPage result = transactionService.list(
+                listQuery(ownerId, cursor.getValue(), 10));
+
+        // then
+        assertThat(result.transactions()).isEmpty();
+        assertThat(result.next()).isNull();
+        verify(transactionRepository).findByAccountNumber(accountNumber, cursor, 11);
+    }
+
+    @Test
+    void shouldCapPageSize() {
+        // given
+        when(accountRepository.findByAccountNumber(accountNumber)).thenReturn(Optional.of(testAccount));
+        when(transactionRepository.findByAccountNumber(eq(accountNumber), isNull(), anyInt())).thenReturn(List.of());
+
+        // when
+        transactionService.list(listQuery(ownerId, null, 10_000));
+
+        // then
+        verify(transactionRepository).findByAccountNumber(accountNumber, null, 101);
+    }
+
+    @Test
+    void shouldRejectNonPositivePageSize() {
+        // when & then
+        assertThatThrownBy(() -> transactionService.list(listQuery(ownerId, null, 0)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Page size must be positive");
+    }
+
+    @Test
+    void shouldRejectInvalidCursor() {
+        // when & then
+        assertThatThrownBy(() -> transactionService.list(listQuery(ownerId, "not-a-cursor", null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid transaction cursor");
     }
 
     @Test
@@ -304,10 +645,7 @@ class TransactionServiceImplTest {
         when(accountRepository.findByAccountNumber(accountNumber)).thenReturn(Optional.empty());
 
         // when & then
-        assertThatThrownBy(() -> transactionService.list(
-                accountNumber.getValue(),
-                ownerId.getValue()
-        ))
+        assertThatThrownBy(() -> transactionService.list(listQuery(ownerId, null, null)))
                 .isInstanceOf(AccountNotFoundException.class);
     }
 
@@ -318,10 +656,16 @@ class TransactionServiceImplTest {
         when(accountRepository.findByAccountNumber(accountNumber)).thenReturn(Optional.of(testAccount));
 
         // when & then
-        assertThatThrownBy(() -> transactionService.list(
-                accountNumber.getValue(),
-                unauthorizedUser.getValue()
-        ))
+        assertThatThrownBy(() -> transactionService.list(listQuery(unauthorizedUser, null, null)))
                 .isInstanceOf(UnauthorizedAccessException.class);
     }
+
+    private TransactionService.ListTransactionsQuery listQuery(UserId requestingUser, String cursor, Integer limit) {
+        return new TransactionService.ListTransactionsQuery(
+                accountNumber.getValue(),
+                requestingUser.getValue(),
+                cursor,
+                limit
+        );
+    }
 }
@@ -0,0 +1,48 @@
+package com.eaglebank.config;
+
+import com.eaglebank.application.transaction.PostingMode;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DatabaseBulkheadConfigurationTest {
+
+    private static final int MIN_PERMITS = 4;
+
+    @Test
+    void shouldReserveConnectionsForBackgroundLoops() {
+        assertThat(DatabaseBulkheadConfiguration.defaultPermits(20, posting(PostingMode.OPTIMISTIC), MIN_PERMITS))
+                .isEqualTo(14);
+    }
+
+    @Test
+    void shouldAlsoReserveConnectionsForPostingWritersOrProjector() {
+        assertThat(DatabaseBulkheadConfiguration.defaultPermits(20, posting(PostingMode.SERIALIZED), MIN_PERMITS))
+                .isEqualTo(10);
+        assertThat(DatabaseBulkheadConfiguration.defaultPermits(20, posting(PostingMode.JOURNALED), MIN_PERMITS))
+                .isEqualTo(13);
+    }
+
+    @Test
+    void shouldRefusePoolTooSmallToLeaveConnectionsForRequests() {
+        assertThatThrownBy(() -> DatabaseBulkheadConfiguration.defaultPermits(9, posting(PostingMode.SERIALIZED), MIN_PERMITS))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("eaglebank.db-bulkhead.permits");
+    }
+
+    @Test
+    void shouldRefusePoolLeavingFewerThanTheMinimumPermits() {
+        assertThatThrownBy(() -> DatabaseBulkheadConfiguration.defaultPermits(11, posting(PostingMode.SERIALIZED), MIN_PERMITS))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("eaglebank.db-bulkhead.min-permits");
+        assertThat(DatabaseBulkheadConfiguration.defaultPermits(14, posting(PostingMode.SERIALIZED), MIN_PERMITS))
+                .isEqualTo(4);
+    }
+
+    private static PostingProperties posting(PostingMode mode) {
+        return new PostingProperties(mode, 64, 256, Duration.ofMillis(1), 4);
+    }
+}
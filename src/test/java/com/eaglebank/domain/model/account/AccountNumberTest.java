@@ -76,4 +76,14 @@ class AccountNumberTest {
         assertThat(accountNumber1).isEqualTo(accountNumber2);
         assertThat(accountNumber1.hashCode()).isEqualTo(accountNumber2.hashCode());
     }
+
+    @Test
+    void shouldRoundTripThroughInt() {
+        // given
+        AccountNumber accountNumber = AccountNumber.of("01004200");
+
+        // when & then
+        assertThat(accountNumber.toInt()).isEqualTo(4200);
+        assertThat(AccountNumber.ofInt(4200)).isEqualTo(accountNumber);
+    }
 }
@@ -227,4 +227,40 @@ class AccountTest {
         assertThat(account.getBalance()).isEqualTo(balance);
         assertThat(account.getStatus()).isEqualTo(AccountStatus.ACTIVE);
     }
+
+    @Test
+    void shouldStripeBalance() {
+        // given
+        Account account = Account.create(accountNumber, sortCode, ownerId, accountName, AccountType.BUSINESS);
+
+        // when
+        account.stripeBalance(8);
+
+        // then
+        assertThat(account.isStriped()).isTrue();
+        assertThat(account.getBalanceStripes()).isEqualTo(8);
+    }
+
+    @Test
+    void shouldRejectStripingWithFewerThanTwoStripes() {
+        // given
+        Account account = Account.create(accountNumber, sortCode, ownerId, accountName, AccountType.BUSINESS);
+
+        // when & then
+        assertThatThrownBy(() -> account.stripeBalance(1))
+            .isInstanceOf(AccountGenericException.class)
+            .hasMessageContaining("at least 2");
+    }
+
+    @Test
+    void shouldRejectStripingClosedAccount() {
+        // given
+        Account account = Account.create(accountNumber, sortCode, ownerId, accountName, AccountType.BUSINESS);
+        account.close();
+
+        // when & then
+        assertThatThrownBy(() -> account.stripeBalance(4))
+            .isInstanceOf(AccountGenericException.class)
+            .hasMessageContaining("closed account");
+    }
 }
@@ -0,0 +1,74 @@
+package com.eaglebank.domain.model.transaction;
+
+import com.eaglebank.domain.model.account.AccountNumber;
+import com.eaglebank.domain.model.account.Money;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TransactionCursorTest {
+
+    @Test
+    void shouldCreateCursorAfterTransaction() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 10, 15, 30, 123456000);
+        Transaction transaction = Transaction.reconstitute(
+                TransactionId.of("tan-abc"),
+                AccountNumber.of("01123456"),
+                TransactionType.DEPOSIT,
+                Money.gbp(10.00),
+                Money.gbp(10.00),
+                TransactionReference.of("REF"),
+                createdAt
+        );
+
+        // when
+        TransactionCursor cursor = TransactionCursor.after(transaction);
+
+        // then
+        assertThat(cursor.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(cursor.getTransactionId()).isEqualTo(TransactionId.of("tan-abc"));
+    }
+
+    @Test
+    void shouldRoundTripThroughOpaqueValue() {
+        // given
+        Transaction transaction = Transaction.create(
+                TransactionId.generate(),
+                AccountNumber.of("01123456"),
+                TransactionType.WITHDRAWAL,
+                Money.gbp(5.00),
+                Money.gbp(95.00),
+                TransactionReference.of("REF")
+        );
+        TransactionCursor cursor = TransactionCursor.after(transaction);
+
+        // when
+        TransactionCursor decoded = TransactionCursor.of(cursor.getValue());
+
+        // then
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(cursor.getValue()).doesNotContain(transaction.getId().getValue());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not-a-cursor", "%%%", "bm8tc2VwYXJhdG9y"})
+    void shouldRejectMalformedCursor(String value) {
+        // when & then
+        assertThatThrownBy(() -> TransactionCursor.of(value))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Invalid transaction cursor");
+    }
+
+    @Test
+    void shouldRejectNullCursor() {
+        // when & then
+        assertThatThrownBy(() -> TransactionCursor.of(null))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Transaction cursor cannot be null or empty");
+    }
+}
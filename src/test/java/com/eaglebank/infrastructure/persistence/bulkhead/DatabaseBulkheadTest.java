@@ -0,0 +1,115 @@
+package com.eaglebank.infrastructure.persistence.bulkhead;
+
+import com.eaglebank.application.exception.ServiceOverloadedException;
+import com.eaglebank.config.DatabaseBulkheadProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DatabaseBulkheadTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldShedCallsThatCannotGetAPermitInTime() throws Exception {
+        // given
+        Ledger ledger = ledger(1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> holding = CompletableFuture.supplyAsync(() -> ledger.post(started, release));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when & then
+        assertThatThrownBy(ledger::read)
+                .isInstanceOf(ServiceOverloadedException.class)
+                .satisfies(e -> assertThat(((ServiceOverloadedException) e).getRetryAfter())
+                        .isEqualTo(Duration.ofSeconds(1)));
+        assertThat(meterRegistry.counter("eaglebank.db.bulkhead.rejected").count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(holding.get(5, TimeUnit.SECONDS)).isEqualTo("posted");
+        assertThat(ledger.read()).isEqualTo("read");
+    }
+
+    @Test
+    void shouldNotLimitCallsThatRunWithoutATransaction() throws Exception {
+        // given
+        Ledger ledger = ledger(1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> holding = CompletableFuture.supplyAsync(() -> ledger.post(started, release));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        String result = ledger.lookup();
+
+        // then
+        assertThat(result).isEqualTo("looked up");
+        release.countDown();
+        holding.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void shouldLetNestedCallsReuseThePermitOfTheOuterCall() {
+        // given
+        Ledger ledger = ledger(1);
+
+        // when
+        String result = ledger.readTwice();
+
+        // then
+        assertThat(result).isEqualTo("readread");
+        assertThat(meterRegistry.get("eaglebank.db.bulkhead.available").gauge().value()).isEqualTo(1);
+    }
+
+    private Ledger ledger(int permits) {
+        DatabaseBulkhead bulkhead = new DatabaseBulkhead(permits,
+                new DatabaseBulkheadProperties(permits, 1, Duration.ofMillis(50), Duration.ofSeconds(1)),
+                meterRegistry);
+        Ledger target = new Ledger();
+        ProxyFactory factory = new ProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAdvice(bulkhead);
+        target.self = (Ledger) factory.getProxy();
+        return target.self;
+    }
+
+    @Transactional
+    static class Ledger {
+        Ledger self;
+
+        public String post(CountDownLatch started, CountDownLatch release) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "posted";
+        }
+
+        @Transactional(readOnly = true)
+        public String read() {
+            return "read";
+        }
+
+        public String readTwice() {
+            return self.read() + self.read();
+        }
+
+        @Transactional(propagation = Propagation.NOT_SUPPORTED)
+        public String lookup() {
+            return "looked up";
+        }
+    }
+}
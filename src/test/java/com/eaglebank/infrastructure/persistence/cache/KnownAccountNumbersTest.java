@@ -0,0 +1,103 @@
+package com.eaglebank.infrastructure.persistence.cache;
+
+import com.eaglebank.config.AccountExistenceProperties;
+import com.eaglebank.domain.model.account.AccountNumber;
+import com.eaglebank.infrastructure.persistence.repository.AccountJpaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class KnownAccountNumbersTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AccountJpaRepository jpaRepository;
+    private KnownAccountNumbers knownAccountNumbers;
+
+    @BeforeEach
+    void setUp() {
+        jpaRepository = mock(AccountJpaRepository.class);
+        when(jpaRepository.findAllAccountNumbers()).thenReturn(List.of("01000000", "01999999"));
+
+        knownAccountNumbers = newKnownAccountNumbers(Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        knownAccountNumbers.close();
+    }
+
+    @Test
+    void shouldKnowAccountsLoadedOnStartup() {
+        assertThat(knownAccountNumbers.mightExist(AccountNumber.of("01000000"))).isTrue();
+        assertThat(knownAccountNumbers.mightExist(AccountNumber.of("01999999"))).isTrue();
+        assertThat(knownAccountNumbers.mightExist(AccountNumber.of("01000001"))).isFalse();
+        assertThat(meterRegistry.counter("eaglebank.account.existence.checks", "result", "unknown").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotCountReadsThatAreNotLookups() {
+        // when & then
+        assertThat(knownAccountNumbers.contains(AccountNumber.of("01000000"))).isTrue();
+        assertThat(knownAccountNumbers.contains(AccountNumber.of("01000001"))).isFalse();
+        assertThat(meterRegistry.find("eaglebank.account.existence.checks").counters())
+                .allSatisfy(counter -> assertThat(counter.count()).isZero());
+    }
+
+    @Test
+    void shouldFollowInsertAndDelete() {
+        // given
+        AccountNumber accountNumber = AccountNumber.of("01123456");
+
+        // when
+        knownAccountNumbers.add(accountNumber);
+
+        // then
+        assertThat(knownAccountNumbers.mightExist(accountNumber)).isTrue();
+
+        // when
+        knownAccountNumbers.removeAfterCommit(accountNumber);
+
+        // then
+        assertThat(knownAccountNumbers.mightExist(accountNumber)).isFalse();
+        assertThat(knownAccountNumbers.mightExist(AccountNumber.of("01000000"))).isTrue();
+    }
+
+    @Test
+    void shouldCountFailedRefreshAndKeepCurrentSet() throws InterruptedException {
+        // given
+        when(jpaRepository.findAccountNumbersCreatedSince(any()))
+                .thenThrow(new DataAccessResourceFailureException("Connection refused"));
+        knownAccountNumbers.close();
+
+        // when
+        knownAccountNumbers = newKnownAccountNumbers(Duration.ofMillis(10));
+
+        // then
+        Counter failures = meterRegistry.counter("eaglebank.account.existence.refresh.failures");
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (failures.count() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(failures.count()).isPositive();
+        assertThat(knownAccountNumbers.mightExist(AccountNumber.of("01000000"))).isTrue();
+    }
+
+    private KnownAccountNumbers newKnownAccountNumbers(Duration refreshInterval) {
+        return new KnownAccountNumbers(
+                jpaRepository,
+                new AccountExistenceProperties(refreshInterval, Duration.ofHours(1), Duration.ofMinutes(1)),
+                meterRegistry);
+    }
+}
@@ -0,0 +1,74 @@
+package com.eaglebank.infrastructure.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-token-generation-in-tests-minimum-256-bits";
+
+    private JwtTokenProvider tokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = new JwtTokenProvider(SECRET, 3_600_000, 100);
+    }
+
+    @Test
+    void shouldVerifyTokenAndReturnSubject() {
+        // given
+        String token = tokenProvider.createToken("usr-123", "user@example.com");
+
+        // when & then
+        assertThat(tokenProvider.verify(token))
+                .hasValueSatisfying(verified -> assertThat(verified.userId()).isEqualTo("usr-123"));
+    }
+
+    @Test
+    void shouldServeRepeatedVerificationFromCache() {
+        // given
+        String token = tokenProvider.createToken("usr-123", "user@example.com");
+        JwtTokenProvider.VerifiedToken first = tokenProvider.verify(token).orElseThrow();
+
+        // when
+        JwtTokenProvider.VerifiedToken second = tokenProvider.verify(token).orElseThrow();
+
+        // then
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void shouldRejectTamperedTokenAfterOriginalWasCached() {
+        // given
+        String[] token = tokenProvider.createToken("usr-123", "user@example.com").split("\\.");
+        String[] other = tokenProvider.createToken("usr-456", "other@example.com").split("\\.");
+        tokenProvider.verify(String.join(".", token));
+        String tampered = token[0] + "." + other[1] + "." + token[2];
+
+        // when & then
+        assertThat(tokenProvider.verify(tampered)).isEmpty();
+    }
+
+    @Test
+    void shouldRejectTokenSignedWithAnotherKey() {
+        // given
+        JwtTokenProvider otherProvider = new JwtTokenProvider(SECRET.replace("test", "other"), 3_600_000, 100);
+        String token = otherProvider.createToken("usr-123", "user@example.com");
+
+        // when & then
+        assertThat(tokenProvider.verify(token)).isEmpty();
+        assertThat(tokenProvider.validateToken(token)).isFalse();
+    }
+
+    @Test
+    void shouldRejectExpiredToken() {
+        // given
+        JwtTokenProvider expiringProvider = new JwtTokenProvider(SECRET, -1_000, 100);
+        String token = expiringProvider.createToken("usr-123", "user@example.com");
+
+        // when & then
+        assertThat(expiringProvider.verify(token)).isEmpty();
+    }
+}
@@ -0,0 +1,73 @@
+package com.eaglebank.infrastructure.security;
+
+import com.eaglebank.config.TokenRevocationProperties;
+import com.eaglebank.domain.repository.RevokedTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TokenRevocationListTest {
+
+    /**
+     * Revocations committed by other instances, with the time each was stamped
+     */
+    private final Map<String, LocalDateTime> committed = new ConcurrentHashMap<>();
+
+    private TokenRevocationList revocationList;
+
+    @BeforeEach
+    void setUp() {
+        RevokedTokenRepository repository = mock(RevokedTokenRepository.class);
+        when(repository.findUnexpiredTokenIds(any())).thenReturn(List.of());
+        when(repository.existsByTokenId(anyString()))
+                .thenAnswer(invocation -> committed.containsKey(invocation.<String>getArgument(0)));
+        when(repository.findTokenIdsRevokedSince(any())).thenAnswer(invocation -> {
+            LocalDateTime since = invocation.getArgument(0);
+            return committed.entrySet().stream()
+                    .filter(revocation -> !revocation.getValue().isBefore(since))
+                    .map(Map.Entry::getKey)
+                    .toList();
+        });
+
+        revocationList = new TokenRevocationList(
+                repository,
+                new TokenRevocationProperties(1_000, 0.01, Duration.ofMillis(10), Duration.ofHours(1),
+                        Duration.ofMinutes(5)),
+                new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        revocationList.close();
+    }
+
+    @Test
+    void shouldPickUpRevocationThatCommittedLongAfterItWasStamped() throws InterruptedException {
+        // given
+        Thread.sleep(100);
+
+        // when
+        committed.put("jti-late", LocalDateTime.now().minusSeconds(30));
+
+        // then
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!revocationList.isRevoked("jti-late") && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(revocationList.isRevoked("jti-late")).isTrue();
+        assertThat(revocationList.isRevoked("jti-valid")).isFalse();
+    }
+}
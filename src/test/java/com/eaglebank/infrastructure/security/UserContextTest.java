@@ -0,0 +1,33 @@
+package com.eaglebank.infrastructure.security;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UserContextTest {
+
+    @Test
+    void shouldExposeTheBoundUserUntilTheBindingIsClosed() {
+        // given
+        try (UserContext.Binding ignored = UserContext.bind("usr-outer")) {
+            // when & then
+            assertThat(UserContext.userId()).isEqualTo("usr-outer");
+        }
+
+        assertThat(UserContext.isBound()).isFalse();
+        assertThatThrownBy(UserContext::userId).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldRestoreTheOuterUserWhenANestedBindingCloses() {
+        // given
+        try (UserContext.Binding outer = UserContext.bind("usr-outer")) {
+            try (UserContext.Binding inner = UserContext.bind("usr-inner")) {
+                // when & then
+                assertThat(UserContext.userId()).isEqualTo("usr-inner");
+            }
+            assertThat(UserContext.userId()).isEqualTo("usr-outer");
+        }
+    }
+}
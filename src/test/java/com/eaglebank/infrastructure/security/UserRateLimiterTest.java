@@ -0,0 +1,64 @@
+package com.eaglebank.infrastructure.security;
+
+import com.eaglebank.config.RateLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserRateLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // Refill is slow enough that no token comes back during a test
+    private final UserRateLimiter rateLimiter = new UserRateLimiter(
+            new RateLimitProperties(3, 0.001, 2, 0.001, Duration.ofMinutes(10), 1000),
+            meterRegistry);
+
+    @Test
+    void shouldAdmitBurstThenReject() {
+        // when
+        UserRateLimiter.Decision first = rateLimiter.tryAcquire("usr-1", true);
+        UserRateLimiter.Decision second = rateLimiter.tryAcquire("usr-1", true);
+        UserRateLimiter.Decision third = rateLimiter.tryAcquire("usr-1", true);
+
+        // then
+        assertThat(first.allowed()).isTrue();
+        assertThat(first.limit()).isEqualTo(2);
+        assertThat(first.remaining()).isEqualTo(1);
+        assertThat(second.allowed()).isTrue();
+        assertThat(second.remaining()).isZero();
+        assertThat(third.allowed()).isFalse();
+        assertThat(third.retryAfterNanos()).isPositive();
+        assertThat(meterRegistry.counter("eaglebank.rate-limit.rejected", "budget", "write").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldKeepReadAndWriteBudgetsApart() {
+        // given
+        rateLimiter.tryAcquire("usr-1", true);
+        rateLimiter.tryAcquire("usr-1", true);
+
+        // when
+        UserRateLimiter.Decision read = rateLimiter.tryAcquire("usr-1", false);
+
+        // then
+        assertThat(read.allowed()).isTrue();
+        assertThat(read.limit()).isEqualTo(3);
+        assertThat(read.remaining()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldKeepUsersApart() {
+        // given
+        rateLimiter.tryAcquire("usr-1", true);
+        rateLimiter.tryAcquire("usr-1", true);
+
+        // when & then
+        assertThat(rateLimiter.tryAcquire("usr-1", true).allowed()).isFalse();
+        assertThat(rateLimiter.tryAcquire("usr-2", true).allowed()).isTrue();
+    }
+}
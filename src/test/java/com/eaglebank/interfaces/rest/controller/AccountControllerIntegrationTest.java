@@ -15,6 +15,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import static org.hamcrest.Matchers.endsWith;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -133,6 +134,60 @@ class AccountControllerIntegrationTest {
             .andExpect(jsonPath("$.name").value("Test Account"));
     }
 
+    @Test
+    void shouldAnswerConditionalGetOfUnchangedAccountWithNotModified() throws Exception {
+        // given
+        accountRepository.save(Account.create(
+            AccountNumber.of("01123457"),
+            SortCode.defaultSortCode(),
+            userId,
+            "Polled Account",
+            AccountType.PERSONAL
+        ));
+
+        String eTag = mockMvc.perform(get("/v1/accounts/01123457")
+                .header("Authorization", "Bearer " + authToken))
+            .andExpect(status().isOk())
+            .andExpect(header().exists("ETag"))
+            .andReturn().getResponse().getHeader("ETag");
+
+        // when & then
+        mockMvc.perform(get("/v1/accounts/01123457")
+                .header("Authorization", "Bearer " + authToken)
+                .header("If-None-Match", eTag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string("ETag", eTag))
+            .andExpect(content().string(""));
+    }
+
+    @Test
+    void shouldTagTheNegotiatedRepresentation() throws Exception {
+        // given
+        accountRepository.save(Account.create(
+            AccountNumber.of("01123458"),
+            SortCode.defaultSortCode(),
+            userId,
+            "Binary Account",
+            AccountType.PERSONAL
+        ));
+
+        String eTag = mockMvc.perform(get("/v1/accounts/01123458")
+                .header("Authorization", "Bearer " + authToken)
+                .accept(MediaType.APPLICATION_CBOR))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+            .andExpect(header().string("ETag", endsWith("+cbor\"")))
+            .andReturn().getResponse().getHeader("ETag");
+
+        // when & then
+        mockMvc.perform(get("/v1/accounts/01123458")
+                .header("Authorization", "Bearer " + authToken)
+                .accept(MediaType.APPLICATION_CBOR)
+                .header("If-None-Match", eTag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string("ETag", eTag));
+    }
+
     @Test
     void shouldUpdateAccountName() throws Exception {
         // given
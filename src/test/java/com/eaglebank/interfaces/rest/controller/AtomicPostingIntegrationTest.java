@@ -0,0 +1,159 @@
+package com.eaglebank.interfaces.rest.controller;
+
+import com.eaglebank.config.IntegrationTest;
+import com.eaglebank.domain.model.account.*;
+import com.eaglebank.domain.model.user.*;
+import com.eaglebank.domain.repository.AccountRepository;
+import com.eaglebank.domain.repository.UserRepository;
+import com.eaglebank.infrastructure.persistence.repository.AccountJpaRepository;
+import com.eaglebank.infrastructure.persistence.repository.TransactionJpaRepository;
+import com.eaglebank.infrastructure.persistence.repository.UserJpaRepository;
+import com.eaglebank.infrastructure.security.JwtTokenProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Exercises the atomic posting mode against PostgreSQL.
+ * <p>
+ * Not {@code @Transactional}: concurrent requests must commit independently.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = "eaglebank.posting.mode=atomic")
+class AtomicPostingIntegrationTest {
+
+    private static final String ACCOUNT_NUMBER = "01900002";
+    private static final int CONCURRENT_DEPOSITS = 20;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccountJpaRepository accountJpaRepository;
+
+    @Autowired
+    private TransactionJpaRepository transactionJpaRepository;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    private String authToken;
+
+    @BeforeEach
+    void setUp() {
+        UserId userId = UserId.of("usr-atomic-posting");
+        authToken = jwtTokenProvider.createToken(userId.getValue(), "atomic-posting@example.com");
+
+        userRepository.save(User.create(
+                userId,
+                "Atomic Posting",
+                Email.of("atomic-posting@example.com"),
+                PhoneNumber.of("+442012345678"),
+                Address.of("1 Atomic St", null, null, "London", "Greater London", "SW1A 1AA"),
+                "$2a$10$hashedPassword"
+        ));
+
+        accountRepository.save(Account.create(
+                AccountNumber.of(ACCOUNT_NUMBER),
+                SortCode.defaultSortCode(),
+                userId,
+                "Atomic Posting Account",
+                AccountType.PERSONAL
+        ));
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionJpaRepository.deleteAllInBatch();
+        accountJpaRepository.deleteAllInBatch();
+        userJpaRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void shouldApplyConcurrentDepositsWithoutConflicts() throws Exception {
+        // given
+        List<Callable<Integer>> deposits = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_DEPOSITS; i++) {
+            String reference = "Concurrent deposit " + i;
+            deposits.add(() -> mockMvc.perform(post("/v1/accounts/" + ACCOUNT_NUMBER + "/transactions")
+                            .header("Authorization", "Bearer " + authToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(posting("deposit", "5.00", reference)))
+                    .andReturn().getResponse().getStatus());
+        }
+
+        // when
+        List<Integer> statuses = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (Future<Integer> result : executor.invokeAll(deposits)) {
+                statuses.add(result.get());
+            }
+        }
+
+        // then
+        assertThat(statuses).hasSize(CONCURRENT_DEPOSITS).containsOnly(201);
+        assertThat(transactionJpaRepository.count()).isEqualTo(CONCURRENT_DEPOSITS);
+        assertThat(accountRepository.findByAccountNumber(AccountNumber.of(ACCOUNT_NUMBER)))
+                .hasValueSatisfying(account -> assertThat(account.getBalance()).isEqualTo(Money.gbp(100.00)));
+    }
+
+    @Test
+    void shouldRejectWithdrawalThatWouldOverdrawAccount() throws Exception {
+        // given
+        mockMvc.perform(post("/v1/accounts/" + ACCOUNT_NUMBER + "/transactions")
+                        .header("Authorization", "Bearer " + authToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(posting("deposit", "10.00", "Opening deposit")))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.amount").value(10.00));
+
+        // when & then
+        mockMvc.perform(post("/v1/accounts/" + ACCOUNT_NUMBER + "/transactions")
+                        .header("Authorization", "Bearer " + authToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(posting("withdrawal", "10.01", "Overdraw")))
+                .andExpect(status().isUnprocessableEntity());
+
+        assertThat(transactionJpaRepository.count()).isEqualTo(1);
+        assertThat(accountRepository.findByAccountNumber(AccountNumber.of(ACCOUNT_NUMBER)))
+                .hasValueSatisfying(account -> assertThat(account.getBalance()).isEqualTo(Money.gbp(10.00)));
+    }
+
+    private static String posting(String type, String amount, String reference) {
+        return """
+                {
+                    "amount": %s,
+                    "currency": "GBP",
+                    "type": "%s",
+                    "reference": "%s"
+                }
+                """.formatted(amount, type, reference);
+    }
+}
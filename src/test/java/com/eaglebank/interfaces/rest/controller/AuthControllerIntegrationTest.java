@@ -0,0 +1,222 @@
+package com.eaglebank.interfaces.rest.controller;
+
+import com.eaglebank.application.user.RefreshTokenPurger;
+import com.eaglebank.config.IntegrationTest;
+import com.eaglebank.domain.model.user.*;
+import com.eaglebank.domain.repository.UserRepository;
+import com.eaglebank.infrastructure.persistence.entity.RefreshTokenEntity;
+import com.eaglebank.infrastructure.persistence.repository.RefreshTokenJpaRepository;
+import com.eaglebank.infrastructure.persistence.repository.RevokedTokenJpaRepository;
+import com.eaglebank.infrastructure.persistence.repository.UserJpaRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Login and refresh-token rotation.
+ * <p>
+ * Not {@code @Transactional}: login runs outside a transaction and would not see
+ * a user created in the test's one. Data is removed after each test instead.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+class AuthControllerIntegrationTest {
+
+    private static final String EMAIL = "refresh-token@example.com";
+    private static final String PASSWORD = "Passw0rd!";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private RefreshTokenJpaRepository refreshTokenJpaRepository;
+
+    @Autowired
+    private RevokedTokenJpaRepository revokedTokenJpaRepository;
+
+    @Autowired
+    private RefreshTokenPurger refreshTokenPurger;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private UserId userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = UserId.of("usr-refresh-token");
+        userRepository.save(User.create(
+                userId,
+                "Refresh Token",
+                Email.of(EMAIL),
+                PhoneNumber.of("+442012345678"),
+                Address.of("1 Refresh St", null, null, "London", "Greater London", "SW1A 1AA"),
+                passwordEncoder.encode(PASSWORD)
+        ));
+    }
+
+    @AfterEach
+    void tearDown() {
+        refreshTokenJpaRepository.deleteAllInBatch();
+        revokedTokenJpaRepository.deleteAllInBatch();
+        userJpaRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void shouldIssueRefreshTokenOnLogin() throws Exception {
+        // when & then
+        login()
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.userId").value(userId.getValue()))
+                .andExpect(jsonPath("$.token").exists())
+                .andExpect(jsonPath("$.refreshToken").exists());
+        assertThat(refreshTokenJpaRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldExchangeRefreshTokenForNewTokens() throws Exception {
+        // given
+        String refreshToken = field(login(), "refreshToken");
+
+        // when
+        ResultActions refreshed = refresh(refreshToken)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.userId").value(userId.getValue()))
+                .andExpect(jsonPath("$.email").value(EMAIL));
+
+        // then
+        String token = field(refreshed, "token");
+        assertThat(field(refreshed, "refreshToken")).isNotEqualTo(refreshToken);
+        mockMvc.perform(get("/v1/users/" + userId.getValue())
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void shouldRevokeTokenFamilyWhenUsedTokenIsPresentedAgain() throws Exception {
+        // given
+        String first = field(login(), "refreshToken");
+        String second = field(refresh(first).andExpect(status().isOk()), "refreshToken");
+
+        // when
+        refresh(first)
+                .andExpect(status().isUnauthorized());
+
+        // then: the successor issued from the reused token is revoked too
+        refresh(second)
+                .andExpect(status().isUnauthorized());
+        assertThat(refreshTokenJpaRepository.count()).isZero();
+    }
+
+    @Test
+    void shouldPurgeExpiredRefreshTokensOnly() throws Exception {
+        // given: a used token that has since expired, and its unexpired successor
+        String first = field(login(), "refreshToken");
+        String second = field(refresh(first).andExpect(status().isOk()), "refreshToken");
+        RefreshTokenEntity expired = refreshTokenJpaRepository.findById(first.substring(0, first.indexOf('.')))
+                .orElseThrow();
+        expired.setExpiresAt(LocalDateTime.now().minusMinutes(1));
+        refreshTokenJpaRepository.save(expired);
+
+        // when
+        refreshTokenPurger.purge();
+
+        // then
+        assertThat(refreshTokenJpaRepository.findAll())
+                .extracting(RefreshTokenEntity::getId)
+                .containsExactly(second.substring(0, second.indexOf('.')));
+    }
+
+    @Test
+    void shouldRejectRefreshTokenWithWrongSecret() throws Exception {
+        // given
+        String refreshToken = field(login(), "refreshToken");
+        String forged = refreshToken.substring(0, refreshToken.indexOf('.') + 1) + "forged-secret";
+
+        // when & then
+        refresh(forged)
+                .andExpect(status().isUnauthorized());
+        refresh(refreshToken)
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void shouldRejectAccessAndRefreshTokensAfterLogout() throws Exception {
+        // given
+        ResultActions loggedIn = login();
+        String token = field(loggedIn, "token");
+        String refreshToken = field(loggedIn, "refreshToken");
+        mockMvc.perform(get("/v1/users/" + userId.getValue())
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        // when
+        mockMvc.perform(post("/v1/auth/logout")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                    "refreshToken": "%s"
+                                }
+                                """.formatted(refreshToken)))
+                .andExpect(status().isNoContent());
+
+        // then
+        mockMvc.perform(get("/v1/users/" + userId.getValue())
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isUnauthorized());
+        refresh(refreshToken)
+                .andExpect(status().isUnauthorized());
+    }
+
+    private ResultActions login() throws Exception {
+        return mockMvc.perform(post("/v1/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {
+                            "email": "%s",
+                            "password": "%s"
+                        }
+                        """.formatted(EMAIL, PASSWORD)));
+    }
+
+    private ResultActions refresh(String refreshToken) throws Exception {
+        return mockMvc.perform(post("/v1/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {
+                            "refreshToken": "%s"
+                        }
+                        """.formatted(refreshToken)));
+    }
+
+    private String field(ResultActions result, String name) throws Exception {
+        JsonNode body = objectMapper.readTree(result.andReturn().getResponse().getContentAsString());
+        return body.get(name).asText();
+    }
+}
@@ -0,0 +1,155 @@
+package com.eaglebank.interfaces.rest.controller;
+
+import com.eaglebank.config.IntegrationTest;
+import com.eaglebank.domain.model.account.*;
+import com.eaglebank.domain.model.user.*;
+import com.eaglebank.domain.repository.AccountRepository;
+import com.eaglebank.domain.repository.UserRepository;
+import com.eaglebank.infrastructure.persistence.repository.AccountJpaRepository;
+import com.eaglebank.infrastructure.persistence.repository.TransactionJpaRepository;
+import com.eaglebank.infrastructure.persistence.repository.UserJpaRepository;
+import com.eaglebank.infrastructure.security.JwtTokenProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Exercises the journaled posting mode: balances are served from memory at once
+ * and reach the database through the background projection.
+ * <p>
+ * Not {@code @Transactional}: the projector commits on its own thread.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "eaglebank.posting.mode=journaled",
+        "eaglebank.journal.directory=build/test-journal/${random.uuid}",
+        "eaglebank.journal.segment-size=1MB"
+})
+class JournaledPostingIntegrationTest {
+
+    private static final String ACCOUNT_NUMBER = "01900004";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccountJpaRepository accountJpaRepository;
+
+    @Autowired
+    private TransactionJpaRepository transactionJpaRepository;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    private String authToken;
+
+    @BeforeEach
+    void setUp() {
+        UserId userId = UserId.of("usr-journaled-posting");
+        authToken = jwtTokenProvider.createToken(userId.getValue(), "journaled-posting@example.com");
+
+        userRepository.save(User.create(
+                userId,
+                "Journaled Posting",
+                Email.of("journaled-posting@example.com"),
+                PhoneNumber.of("+442012345678"),
+                Address.of("1 Journal St", null, null, "London", "Greater London", "SW1A 1AA"),
+                "$2a$10$hashedPassword"
+        ));
+
+        accountRepository.save(Account.create(
+                AccountNumber.of(ACCOUNT_NUMBER),
+                SortCode.defaultSortCode(),
+                userId,
+                "Journaled Posting Account",
+                AccountType.PERSONAL
+        ));
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionJpaRepository.deleteAllInBatch();
+        accountJpaRepository.deleteAllInBatch();
+        userJpaRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void shouldServeJournaledBalanceAndProjectIt() throws Exception {
+        // given
+        deposit("30.00", "First deposit");
+        deposit("20.00", "Second deposit");
+
+        // when
+        mockMvc.perform(post("/v1/accounts/" + ACCOUNT_NUMBER + "/transactions")
+                        .header("Authorization", "Bearer " + authToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(posting("withdrawal", "60.00", "Overdraw")))
+                .andExpect(status().isUnprocessableEntity());
+
+        // then
+        mockMvc.perform(get("/v1/accounts/" + ACCOUNT_NUMBER)
+                        .header("Authorization", "Bearer " + authToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.balance").value(50.00));
+
+        awaitProjection();
+        assertThat(transactionJpaRepository.count()).isEqualTo(2);
+        assertThat(accountJpaRepository.findById(ACCOUNT_NUMBER))
+                .hasValueSatisfying(account -> assertThat(account.getBalance()).isEqualByComparingTo("50.00"));
+    }
+
+    private void deposit(String amount, String reference) throws Exception {
+        mockMvc.perform(post("/v1/accounts/" + ACCOUNT_NUMBER + "/transactions")
+                        .header("Authorization", "Bearer " + authToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(posting("deposit", amount, reference)))
+                .andExpect(status().isCreated());
+    }
+
+    private void awaitProjection() throws InterruptedException {
+        for (int attempt = 0; attempt < 100; attempt++) {
+            boolean projected = transactionJpaRepository.count() == 2
+                    && accountJpaRepository.findById(ACCOUNT_NUMBER)
+                    .map(account -> account.getBalance().compareTo(new BigDecimal("50.00")) == 0)
+                    .orElse(false);
+            if (projected) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+    }
+
+    private static String posting(String type, String amount, String reference) {
+        return """
+                {
+                    "amount": %s,
+                    "currency": "GBP",
+                    "type": "%s",
+                    "reference": "%s"
+                }
+                """.formatted(amount, type, reference);
+    }
+}
@@ -11,7 +11,9 @@ import com.eaglebank.domain.repository.AccountRepository;
 import com.eaglebank.domain.repository.TransactionRepository;
 import com.eaglebank.domain.repository.UserRepository;
 import com.eaglebank.infrastructure.security.JwtTokenProvider;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,8 +22,14 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -179,6 +187,54 @@ class TransactionControllerIntegrationTest {
                 .andExpect(jsonPath("$.transactions.length()").value(2));
     }
 
+    @Test
+    void shouldPageTransactionsNewestFirst() throws Exception {
+        // given
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 9, 0);
+        for (int i = 1; i <= 3; i++) {
+            transactionRepository.save(Transaction.reconstitute(
+                    TransactionId.of("tan-page-" + i),
+                    testAccount.getAccountNumber(),
+                    TransactionType.DEPOSIT,
+                    Money.gbp(10.00),
+                    testAccount.getBalance().add(Money.gbp(10.00 * i)),
+                    TransactionReference.of("Deposit " + i),
+                    base.plusMinutes(i)
+            ));
+        }
+
+        // when & then
+        String firstPage = mockMvc.perform(get("/v1/accounts/01123456/transactions")
+                        .param("limit", "2")
+                        .header("Authorization", "Bearer " + authToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.transactions.length()").value(2))
+                .andExpect(jsonPath("$.transactions[0].id").value("tan-page-3"))
+                .andExpect(jsonPath("$.transactions[1].id").value("tan-page-2"))
+                .andExpect(jsonPath("$.next").exists())
+                .andReturn().getResponse().getContentAsString();
+
+        String next = objectMapper.readTree(firstPage).get("next").asText();
+
+        mockMvc.perform(get("/v1/accounts/01123456/transactions")
+                        .param("limit", "2")
+                        .param("cursor", next)
+                        .header("Authorization", "Bearer " + authToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.transactions.length()").value(1))
+                .andExpect(jsonPath("$.transactions[0].id").value("tan-page-1"))
+                .andExpect(jsonPath("$.next").doesNotExist());
+    }
+
+    @Test
+    void shouldRejectInvalidCursor() throws Exception {
+        // when & then
+        mockMvc.perform(get("/v1/accounts/01123456/transactions")
+                        .param("cursor", "garbage")
+                        .header("Authorization", "Bearer " + authToken))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void shouldGetTransactionById() throws Exception {
         // given
@@ -200,6 +256,92 @@ class TransactionControllerIntegrationTest {
                 .andExpect(jsonPath("$.reference").value("Test"));
     }
 
+    @Test
+    void shouldAnswerConditionalGetOfTransactionWithNotModified() throws Exception {
+        // given
+        Transaction tx = Transaction.create(
+                TransactionId.of("tan-test-etag"),
+                testAccount.getAccountNumber(),
+                TransactionType.DEPOSIT,
+                Money.gbp(100.00),
+                testAccount.getBalance().add(Money.gbp(100.00)),
+                TransactionReference.of("Test")
+        );
+        transactionRepository.save(tx);
+
+        String eTag = mockMvc.perform(get("/v1/accounts/01123456/transactions/tan-test-etag")
+                        .header("Authorization", "Bearer " + authToken))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"tan-test-etag\""))
+                .andExpect(header().string("Cache-Control", containsString("immutable")))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // when & then
+        mockMvc.perform(get("/v1/accounts/01123456/transactions/tan-test-etag")
+                        .header("Authorization", "Bearer " + authToken)
+                        .header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void shouldChangeTransactionListETagWhenATransactionIsPosted() throws Exception {
+        // given
+        String eTag = mockMvc.perform(get("/v1/accounts/01123456/transactions")
+                        .header("Authorization", "Bearer " + authToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/v1/accounts/01123456/transactions")
+                        .header("Authorization", "Bearer " + authToken)
+                        .header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+
+        transactionRepository.save(Transaction.create(
+                TransactionId.of("tan-test-newest"),
+                testAccount.getAccountNumber(),
+                TransactionType.DEPOSIT,
+                Money.gbp(10.00),
+                testAccount.getBalance().add(Money.gbp(10.00)),
+                TransactionReference.of("Newest")
+        ));
+
+        // when & then
+        mockMvc.perform(get("/v1/accounts/01123456/transactions")
+                        .header("Authorization", "Bearer " + authToken)
+                        .header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"tan-test-newest\""))
+                .andExpect(jsonPath("$.transactions[0].id").value("tan-test-newest"));
+    }
+
+    @Test
+    void shouldListTransactionsAsCborWhenRequested() throws Exception {
+        // given
+        transactionRepository.save(Transaction.create(
+                TransactionId.of("tan-test-cbor"),
+                testAccount.getAccountNumber(),
+                TransactionType.DEPOSIT,
+                Money.gbp(25.00),
+                testAccount.getBalance().add(Money.gbp(25.00)),
+                TransactionReference.of("Binary")
+        ));
+
+        // when
+        byte[] body = mockMvc.perform(get("/v1/accounts/01123456/transactions")
+                        .header("Authorization", "Bearer " + authToken)
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string("ETag", "\"tan-test-cbor+cbor\""))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // then
+        JsonNode page = new CBORMapper().readTree(body);
+        assertThat(page.get("transactions").get(0).get("id").asText()).isEqualTo("tan-test-cbor");
+        assertThat(page.get("transactions").get(0).get("reference").asText()).isEqualTo("Binary");
+    }
+
     @Test
     void shouldReturn404WhenTransactionNotFound() throws Exception {
         // when & then
@@ -0,0 +1,224 @@
+package com.eaglebank.interfaces.rest.controller;
+
+import com.eaglebank.config.IntegrationTest;
+import com.eaglebank.domain.model.account.*;
+import com.eaglebank.domain.model.transaction.Transaction;
+import com.eaglebank.domain.model.transaction.TransactionId;
+import com.eaglebank.domain.model.transaction.TransactionReference;
+import com.eaglebank.domain.model.transaction.TransactionType;
+import com.eaglebank.domain.model.user.*;
+import com.eaglebank.domain.repository.AccountRepository;
+import com.eaglebank.domain.repository.TransactionRepository;
+import com.eaglebank.domain.repository.UserRepository;
+import com.eaglebank.infrastructure.persistence.repository.AccountJpaRepository;
+import com.eaglebank.infrastructure.persistence.repository.TransactionJpaRepository;
+import com.eaglebank.infrastructure.persistence.repository.UserJpaRepository;
+import com.eaglebank.infrastructure.security.JwtTokenProvider;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Counts the JDBC statements issued per request.
+ * <p>
+ * Deliberately not {@code @Transactional}: each request must run in its own
+ * transactions, as in production, so per-row lookups cannot hide behind a shared
+ * persistence context. Data is removed after each test instead.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+class TransactionQueryCountIntegrationTest {
+
+    private static final String ACCOUNT_NUMBER = "01900001";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccountJpaRepository accountJpaRepository;
+
+    @Autowired
+    private TransactionJpaRepository transactionJpaRepository;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private String authToken;
+    private Account testAccount;
+
+    @BeforeEach
+    void setUp() {
+        UserId userId = UserId.of("usr-query-count");
+        authToken = jwtTokenProvider.createToken(userId.getValue(), "query-count@example.com");
+
+        userRepository.save(User.create(
+                userId,
+                "Query Count",
+                Email.of("query-count@example.com"),
+                PhoneNumber.of("+442012345678"),
+                Address.of("1 Count St", null, null, "London", "Greater London", "SW1A 1AA"),
+                "$2a$10$hashedPassword"
+        ));
+
+        testAccount = Account.create(
+                AccountNumber.of(ACCOUNT_NUMBER),
+                SortCode.defaultSortCode(),
+                userId,
+                "Query Count Account",
+                AccountType.PERSONAL
+        );
+        accountRepository.save(testAccount);
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionJpaRepository.deleteAllInBatch();
+        accountJpaRepository.deleteAllInBatch();
+        userJpaRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void shouldListTransactionsWithConstantQueryCount() throws Exception {
+        // given: account lookups are cached after the first request, so warm it up
+        saveDeposits(2);
+        mockMvc.perform(get("/v1/accounts/" + ACCOUNT_NUMBER + "/transactions")
+                        .header("Authorization", "Bearer " + authToken))
+                .andExpect(status().isOk());
+        long fewRows = statementsFor(get("/v1/accounts/" + ACCOUNT_NUMBER + "/transactions")
+                        .header("Authorization", "Bearer " + authToken),
+                status().isOk(), jsonPath("$.transactions.length()").value(2));
+
+        saveDeposits(20);
+
+        // when
+        long manyRows = statementsFor(get("/v1/accounts/" + ACCOUNT_NUMBER + "/transactions")
+                        .header("Authorization", "Bearer " + authToken),
+                status().isOk(), jsonPath("$.transactions.length()").value(22));
+
+        // then
+        assertThat(manyRows).isEqualTo(fewRows);
+    }
+
+    @Test
+    void shouldServeRepeatedAccountLookupsFromCache() throws Exception {
+        // given
+        long firstRead = statementsFor(get("/v1/accounts/" + ACCOUNT_NUMBER)
+                        .header("Authorization", "Bearer " + authToken),
+                status().isOk());
+
+        // when
+        long secondRead = statementsFor(get("/v1/accounts/" + ACCOUNT_NUMBER)
+                        .header("Authorization", "Bearer " + authToken),
+                status().isOk(), jsonPath("$.name").value("Query Count Account"));
+
+        // then
+        assertThat(firstRead).isEqualTo(1);
+        assertThat(secondRead).isZero();
+    }
+
+    @Test
+    void shouldRefreshCachedAccountAfterDeposit() throws Exception {
+        // given
+        mockMvc.perform(get("/v1/accounts/" + ACCOUNT_NUMBER)
+                        .header("Authorization", "Bearer " + authToken))
+                .andExpect(jsonPath("$.balance").value(0.0));
+
+        mockMvc.perform(post("/v1/accounts/" + ACCOUNT_NUMBER + "/transactions")
+                        .header("Authorization", "Bearer " + authToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                    "amount": 25.00,
+                                    "currency": "GBP",
+                                    "type": "deposit",
+                                    "reference": "Cached deposit"
+                                }
+                                """))
+                .andExpect(status().isCreated());
+
+        // when
+        long statements = statementsFor(get("/v1/accounts/" + ACCOUNT_NUMBER)
+                        .header("Authorization", "Bearer " + authToken),
+                status().isOk(), jsonPath("$.balance").value(25.00));
+
+        // then: served from the entry refreshed by the deposit's commit
+        assertThat(statements).isZero();
+    }
+
+    @Test
+    void shouldPostDepositWithSingleAccountUpdate() throws Exception {
+        // given
+        String requestBody = """
+                {
+                    "amount": 25.00,
+                    "currency": "GBP",
+                    "type": "deposit",
+                    "reference": "Counted deposit"
+                }
+                """;
+
+        // when
+        long statements = statementsFor(post("/v1/accounts/" + ACCOUNT_NUMBER + "/transactions")
+                        .header("Authorization", "Bearer " + authToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody),
+                status().isCreated());
+
+        // then: SELECT account, one versioned UPDATE of the account, INSERT transaction
+        assertThat(statements).isEqualTo(3);
+        assertThat(accountRepository.findByAccountNumber(AccountNumber.of(ACCOUNT_NUMBER)))
+                .hasValueSatisfying(account -> assertThat(account.getBalance()).isEqualTo(Money.gbp(25.00)));
+    }
+
+    private long statementsFor(RequestBuilder request, ResultMatcher... expectations) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(request).andExpectAll(expectations);
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void saveDeposits(int count) {
+        for (int i = 0; i < count; i++) {
+            transactionRepository.save(Transaction.create(
+                    TransactionId.generate(),
+                    testAccount.getAccountNumber(),
+                    TransactionType.DEPOSIT,
+                    Money.gbp(1.00),
+                    Money.gbp(1.00),
+                    TransactionReference.of("Deposit " + i)
+            ));
+        }
+    }
+}
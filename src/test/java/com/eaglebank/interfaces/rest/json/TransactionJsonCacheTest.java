@@ -0,0 +1,96 @@
+package com.eaglebank.interfaces.rest.json;
+
+import com.eaglebank.config.TransactionJsonCacheProperties;
+import com.eaglebank.domain.model.account.AccountNumber;
+import com.eaglebank.domain.model.account.Money;
+import com.eaglebank.domain.model.transaction.Transaction;
+import com.eaglebank.domain.model.transaction.TransactionId;
+import com.eaglebank.domain.model.transaction.TransactionReference;
+import com.eaglebank.domain.model.transaction.TransactionType;
+import com.eaglebank.interfaces.rest.dto.response.ListTransactionsResponse;
+import com.eaglebank.interfaces.rest.mapper.TransactionRestMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TransactionJsonCacheTest {
+
+    private static final String OWNER_ID = "usr-json";
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final TransactionRestMapper mapper = new TransactionRestMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TransactionJsonCache cache = new TransactionJsonCache(
+            new TransactionJsonCacheProperties(DataSize.ofMegabytes(1)), mapper, objectMapper, meterRegistry);
+
+    @Test
+    void shouldWriteThePageExactlyAsTheResponseDtoWouldBe() throws Exception {
+        // given
+        List<Transaction> transactions = List.of(deposit("tan-json-2"), deposit("tan-json-1"));
+        ListTransactionsResponse dto = new ListTransactionsResponse(
+                transactions.stream().map(transaction -> mapper.toResponse(transaction, OWNER_ID)).toList(),
+                "cursor \"with\" quotes");
+
+        // when
+        PreSerializedJson page = cache.page(transactions, dto.next(), OWNER_ID);
+
+        // then
+        assertThat(bytes(page)).isEqualTo(objectMapper.writeValueAsBytes(dto));
+        assertThat(page.length()).isEqualTo(objectMapper.writeValueAsBytes(dto).length);
+    }
+
+    @Test
+    void shouldOmitNextOnTheLastPage() throws Exception {
+        // given
+        List<Transaction> transactions = List.of(deposit("tan-json-3"));
+        ListTransactionsResponse dto = new ListTransactionsResponse(
+                List.of(mapper.toResponse(transactions.get(0), OWNER_ID)), null);
+
+        // when
+        PreSerializedJson page = cache.page(transactions, null, OWNER_ID);
+
+        // then
+        assertThat(bytes(page)).isEqualTo(objectMapper.writeValueAsBytes(dto));
+    }
+
+    @Test
+    void shouldSerializeEachTransactionOnce() throws Exception {
+        // given
+        Transaction transaction = deposit("tan-json-4");
+
+        // when
+        byte[] first = bytes(cache.single(transaction, OWNER_ID));
+        byte[] second = bytes(cache.single(transaction, OWNER_ID));
+
+        // then
+        assertThat(second).isEqualTo(first)
+                .isEqualTo(objectMapper.writeValueAsBytes(mapper.toResponse(transaction, OWNER_ID)));
+        assertThat(meterRegistry.counter("eaglebank.transaction.json-cache.requests", "result", "miss").count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.counter("eaglebank.transaction.json-cache.requests", "result", "hit").count())
+                .isEqualTo(1);
+    }
+
+    private static byte[] bytes(PreSerializedJson json) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        json.writeTo(out);
+        return out.toByteArray();
+    }
+
+    private static Transaction deposit(String id) {
+        return Transaction.create(
+                TransactionId.of(id),
+                AccountNumber.of("01100001"),
+                TransactionType.DEPOSIT,
+                Money.gbp(10.00),
+                Money.gbp(10.00),
+                TransactionReference.of("JSON deposit"));
+    }
+}
@@ -0,0 +1,73 @@
+package com.eaglebank.interfaces.rest.negotiation;
+
+import com.eaglebank.interfaces.rest.json.PreSerializedJson;
+import com.eaglebank.interfaces.rest.json.PreSerializedJsonHttpMessageConverter;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.accept.ContentNegotiationManager;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RepresentationTagsTest {
+
+    private final RepresentationTags representationTags = new RepresentationTags(
+            new ContentNegotiationManager(),
+            List.of(new MappingJackson2HttpMessageConverter(),
+                    new MappingJackson2CborHttpMessageConverter(),
+                    new MappingJackson2SmileHttpMessageConverter()));
+
+    @Test
+    void shouldKeepTheJsonTagWhenAnyRepresentationIsAccepted() {
+        // when & then
+        assertThat(tagFor(null)).isEqualTo("\"tan-1\"");
+        assertThat(tagFor("*/*")).isEqualTo("\"tan-1\"");
+        assertThat(tagFor("application/json")).isEqualTo("\"tan-1\"");
+    }
+
+    @Test
+    void shouldSuffixTheTagOfBinaryRepresentations() {
+        // when & then
+        assertThat(tagFor("application/cbor")).isEqualTo("\"tan-1+cbor\"");
+        assertThat(tagFor("application/x-jackson-smile")).isEqualTo("\"tan-1+smile\"");
+    }
+
+    @Test
+    void shouldFollowTheClientsPreference() {
+        // when & then
+        assertThat(tagFor("application/json;q=0.5, application/cbor")).isEqualTo("\"tan-1+cbor\"");
+    }
+
+    @Test
+    void shouldFollowWhatTheConvertersCanWrite() {
+        // given
+        RepresentationTags jsonOnly = new RepresentationTags(
+                new ContentNegotiationManager(),
+                List.of(new PreSerializedJsonHttpMessageConverter()));
+
+        // when & then
+        assertThat(jsonOnly.forRequest("\"tan-1\"", PreSerializedJson.class,
+                request("application/cbor, application/json;q=0.1")))
+                .isEqualTo("\"tan-1\"");
+    }
+
+    private String tagFor(String accept) {
+        return representationTags.forRequest("\"tan-1\"", Response.class, request(accept));
+    }
+
+    private static ServletWebRequest request(String accept) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/accounts/01123456");
+        if (accept != null) {
+            request.addHeader("Accept", accept);
+        }
+        return new ServletWebRequest(request);
+    }
+
+    private record Response(String name) {
+    }
+}